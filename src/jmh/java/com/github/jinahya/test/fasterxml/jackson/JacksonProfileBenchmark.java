@@ -0,0 +1,94 @@
+package com.github.jinahya.test.fasterxml.jackson;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.github.jinahya.test.lang.BenchmarkFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link JacksonProfile}s, comparing the {@value JacksonProfile#FAST} profile with the
+ * {@value JacksonProfile#DEFAULT} profile.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JacksonProfileBenchmark {
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        fixtures = new BenchmarkFixtures();
+        name = BenchmarkFixtures.name(size);
+        jacksonProfile = JacksonProfile.get(profile);
+        javaType = JacksonTests.TEST_OBJECT_MAPPER.getTypeFactory()
+                .constructCollectionType(List.class, BenchmarkFixtures.Item.class);
+        value = JacksonTests.readValueFromResource(jacksonProfile, fixtures.getLoader(), name, javaType);
+        bytes = JacksonTests.applyObjectMapper(jacksonProfile, m -> {
+            try {
+                return m.writeValueAsBytes(value);
+            } catch (final IOException ioe) {
+                throw new RuntimeException(ioe);
+            }
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        fixtures.close();
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Benchmark
+    public Object readValueFromResource() throws IOException {
+        return JacksonTests.readValueFromResource(jacksonProfile, fixtures.getLoader(), name, javaType);
+    }
+
+    @Benchmark
+    public Object readValue() throws IOException {
+        return jacksonProfile.readerFor(javaType).readValue(bytes);
+    }
+
+    @Benchmark
+    public String getPrettyString() {
+        return JacksonTests.getPrettyString(jacksonProfile, value);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Param({JacksonProfile.DEFAULT, JacksonProfile.FAST})
+    public String profile;
+
+    @Param({"small", "large"})
+    public String size;
+
+    private BenchmarkFixtures fixtures;
+
+    private String name;
+
+    private JacksonProfile jacksonProfile;
+
+    private JavaType javaType;
+
+    private Object value;
+
+    private byte[] bytes;
+}
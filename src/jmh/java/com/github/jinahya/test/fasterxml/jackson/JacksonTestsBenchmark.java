@@ -0,0 +1,93 @@
+package com.github.jinahya.test.fasterxml.jackson;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.github.jinahya.test.lang.BenchmarkFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.jinahya.test.fasterxml.jackson.JacksonTests.TEST_OBJECT_MAPPER;
+
+/**
+ * Benchmarks for {@link JacksonTests}.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JacksonTestsBenchmark {
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        fixtures = new BenchmarkFixtures();
+        name = BenchmarkFixtures.name(size);
+        javaType = TEST_OBJECT_MAPPER.getTypeFactory()
+                .constructCollectionType(List.class, BenchmarkFixtures.Item.class);
+        value = JacksonTests.readValueFromResource(fixtures.getLoader(), name, javaType);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        fixtures.close();
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Benchmark
+    public Object readValueFromResource() throws IOException {
+        return JacksonTests.readValueFromResource(fixtures.getLoader(), name, javaType);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Object readValueFromResourceContended() throws IOException {
+        return readValueFromResource();
+    }
+
+    @Benchmark
+    public Object readTreeFromResource() throws IOException {
+        return JacksonTests.readTreeFromResource(fixtures.getLoader(), name);
+    }
+
+    @Benchmark
+    public String getPrettyString() {
+        return JacksonTests.getPrettyString(value);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public String getPrettyStringContended() {
+        return getPrettyString();
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Param({"small", "large"})
+    public String size;
+
+    private BenchmarkFixtures fixtures;
+
+    private String name;
+
+    private JavaType javaType;
+
+    private Object value;
+}
@@ -0,0 +1,71 @@
+package com.github.jinahya.test.fasterxml.jackson;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.jinahya.test.lang.BenchmarkFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link JsonDiff} against comparing pretty-printed strings.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonDiffBenchmark {
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        fixtures = new BenchmarkFixtures();
+        final String name = BenchmarkFixtures.name(size);
+        expected = JacksonTests.readTreeFromResource(fixtures.getLoader(), name);
+        actual = JacksonTests.readTreeFromResource(fixtures.getLoader(), name);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        fixtures.close();
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Benchmark
+    public Object diff() {
+        return DIFF.diff(expected, actual);
+    }
+
+    @Benchmark
+    public boolean prettyStringEquals() {
+        return JacksonTests.getPrettyString(expected).equals(JacksonTests.getPrettyString(actual));
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private static final JsonDiff DIFF = new JsonDiffBuilder().build();
+
+    @Param({"small", "large"})
+    public String size;
+
+    private BenchmarkFixtures fixtures;
+
+    private JsonNode expected;
+
+    private JsonNode actual;
+}
@@ -0,0 +1,122 @@
+package com.github.jinahya.test.lang;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Generated JSON fixtures for benchmarks.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+public final class BenchmarkFixtures implements AutoCloseable {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The name of a small fixture; an array of {@value #SMALL_SIZE} items.
+     */
+    public static final String SMALL = "fixtures/small.json";
+
+    /**
+     * The name of a large fixture; an array of {@value #LARGE_SIZE} items.
+     */
+    public static final String LARGE = "fixtures/large.json";
+
+    public static final int SMALL_SIZE = 16;
+
+    public static final int LARGE_SIZE = 65536;
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * An item of generated fixtures.
+     */
+    public static class Item {
+
+        public int id;
+
+        public String name;
+
+        public double[] values;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns the name of the fixture of specified size label.
+     *
+     * @param size the size label; either {@code small} or {@code large}.
+     * @return the resource name of the fixture.
+     */
+    public static String name(final String size) {
+        switch (size) {
+            case "small":
+                return SMALL;
+            case "large":
+                return LARGE;
+            default:
+                throw new IllegalArgumentException("unknown size: " + size);
+        }
+    }
+
+    private static void write(final Path path, final int size) throws IOException {
+        Files.createDirectories(path.getParent());
+        try (BufferedWriter writer = Files.newBufferedWriter(path, UTF_8)) {
+            writer.write('[');
+            for (int i = 0; i < size; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write("{\"id\":" + i + ",\"name\":\"item-" + i + "\",\"values\":[" + i + ".5," + -i + ".25]}");
+            }
+            writer.write(']');
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new instance which writes fixtures into a temporary directory.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    public BenchmarkFixtures() throws IOException {
+        super();
+        root = Files.createTempDirectory("fixtures");
+        write(root.resolve(SMALL), SMALL_SIZE);
+        write(root.resolve(LARGE), LARGE_SIZE);
+        loader = new URLClassLoader(new URL[] {root.toUri().toURL()}, getClass().getClassLoader());
+    }
+
+    @Override
+    public void close() throws IOException {
+        loader.close();
+        try (Stream<Path> paths = Files.walk(root)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns a class loader which loads generated fixtures.
+     *
+     * @return a class loader of generated fixtures.
+     */
+    public ClassLoader getLoader() {
+        return loader;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private final Path root;
+
+    private final URLClassLoader loader;
+}
@@ -0,0 +1,108 @@
+package com.github.jinahya.test.lang;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link ResourceTests} and {@link ResourceCache}.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResourceTestsBenchmark {
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private static long drain(final InputStream stream) {
+        final byte[] buffer = new byte[8192];
+        long count = 0L;
+        try {
+            for (int r; (r = stream.read(buffer)) != -1; ) {
+                count += r;
+            }
+        } catch (final IOException ioe) {
+            throw new RuntimeException(ioe);
+        }
+        return count;
+    }
+
+    private static long sum(final ByteBuffer buffer) {
+        long sum = 0L;
+        while (buffer.hasRemaining()) {
+            sum += buffer.get();
+        }
+        return sum;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        fixtures = new BenchmarkFixtures();
+        name = BenchmarkFixtures.name(size);
+        cache = new ResourceCache(Long.MAX_VALUE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        fixtures.close();
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Benchmark
+    public long applyResourceStream() throws IOException {
+        return ResourceTests.applyResourceStream(fixtures.getLoader(), name, ResourceTestsBenchmark::drain);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public long applyResourceStreamContended() throws IOException {
+        return applyResourceStream();
+    }
+
+    @Benchmark
+    public long applyResourceBuffer() throws IOException {
+        return ResourceTests.applyResourceBuffer(fixtures.getLoader(), name, ResourceTestsBenchmark::sum);
+    }
+
+    @Benchmark
+    public long applyCachedResourceStream() throws IOException {
+        return cache.applyResourceStream(fixtures.getLoader(), name, ResourceTestsBenchmark::drain);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public long applyCachedResourceStreamContended() throws IOException {
+        return applyCachedResourceStream();
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Param({"small", "large"})
+    public String size;
+
+    private BenchmarkFixtures fixtures;
+
+    private String name;
+
+    private ResourceCache cache;
+}
@@ -0,0 +1,98 @@
+package com.github.jinahya.test.lang;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.github.jinahya.test.fasterxml.jackson.JacksonTests;
+import com.github.jinahya.test.validation.BeanValidationTests;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+
+import static com.github.jinahya.test.fasterxml.jackson.JacksonTests.TEST_OBJECT_MAPPER;
+
+/**
+ * Prints scaling curves of operations on the shared {@code ObjectMapper} and {@code Validator} from 1 up to N platform
+ * and, if supported, virtual threads.
+ * <pre>
+ * mvn -P benchmark test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test \
+ *     -Dexec.args="-classpath %classpath com.github.jinahya.test.lang.SharedInstancesScaling [N [millis]]"
+ * </pre>
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see ScalingTests
+ */
+public final class SharedInstancesScaling {
+
+    // -----------------------------------------------------------------------------------------------------------------
+    public static class Child {
+
+        @NotNull
+        @Size(min = 1, max = 16)
+        public String name;
+    }
+
+    public static class Parent {
+
+        @Min(0)
+        @Max(150)
+        public int age;
+
+        @Valid
+        @NotNull
+        public Child child;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Measures and prints scaling curves.
+     *
+     * @param args the maximum number of threads, defaults to twice the number of processors, and the measurement
+     *             period of each number of threads in milliseconds, defaults to {@code 1000}.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static void main(final String... args) throws IOException {
+        final int maximumThreads = args.length > 0 ? Integer.parseInt(args[0])
+                                                   : Runtime.getRuntime().availableProcessors() * 2;
+        final Duration measurement = Duration.ofMillis(args.length > 1 ? Long.parseLong(args[1]) : 1000L);
+        final Duration warmup = measurement.dividedBy(2L);
+        try (BenchmarkFixtures fixtures = new BenchmarkFixtures()) {
+            final JavaType javaType = TEST_OBJECT_MAPPER.getTypeFactory()
+                    .constructCollectionType(List.class, BenchmarkFixtures.Item.class);
+            final Object value = JacksonTests.readValueFromResource(fixtures.getLoader(), BenchmarkFixtures.SMALL,
+                                                                    javaType);
+            final Parent parent = new Parent();
+            parent.age = 21;
+            parent.child = new Child();
+            parent.child.name = "child";
+            final Runnable read = () -> {
+                try {
+                    JacksonTests.readValueFromResource(fixtures.getLoader(), BenchmarkFixtures.SMALL, javaType);
+                } catch (final IOException ioe) {
+                    throw new UncheckedIOException(ioe);
+                }
+            };
+            measure("readValueFromResource", read, maximumThreads, warmup, measurement);
+            measure("getPrettyString", () -> JacksonTests.getPrettyString(value), maximumThreads, warmup,
+                    measurement);
+            measure("validate", () -> BeanValidationTests.validate(parent), maximumThreads, warmup, measurement);
+        }
+    }
+
+    private static void measure(final String operation, final Runnable task, final int maximumThreads,
+                                final Duration warmup, final Duration measurement) {
+        task.run(); // lazy initializations, e.g. bootstrapping the validator, may outlast the warm-up
+        ScalingTests.measure(operation, task, maximumThreads, warmup, measurement).forEach(System.out::println);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private SharedInstancesScaling() {
+        super();
+    }
+}
@@ -0,0 +1,53 @@
+package com.github.jinahya.test.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link JinahyaEnumTestUtils}.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JinahyaEnumTestUtilsBenchmark {
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Benchmark
+    public TimeUnit getRandomEnumConstant() {
+        return JinahyaEnumTestUtils.getRandomEnumConstant(TimeUnit.class);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public TimeUnit getRandomEnumConstantContended() {
+        return getRandomEnumConstant();
+    }
+
+    @Benchmark
+    public int getRandomEnumOrdinal() {
+        return JinahyaEnumTestUtils.getRandomEnumOrdinal(TimeUnit.class);
+    }
+
+    @Benchmark
+    public int[] fillRandomEnumOrdinals() {
+        return JinahyaEnumTestUtils.fillRandomEnumOrdinals(TimeUnit.class, ordinals);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private final int[] ordinals = new int[1024];
+}
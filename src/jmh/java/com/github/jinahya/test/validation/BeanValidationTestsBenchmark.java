@@ -0,0 +1,89 @@
+package com.github.jinahya.test.validation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link BeanValidationTests}.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BeanValidationTestsBenchmark {
+
+    // -----------------------------------------------------------------------------------------------------------------
+    public static class Child {
+
+        @NotNull
+        @Size(min = 1, max = 16)
+        public String name;
+    }
+
+    public static class Parent {
+
+        @Min(0)
+        @Max(150)
+        public int age;
+
+        @Valid
+        @NotNull
+        public Child child;
+    }
+
+    private static Parent parent(final int age, final String name) {
+        final Parent parent = new Parent();
+        parent.age = age;
+        parent.child = new Child();
+        parent.child.name = name;
+        return parent;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Benchmark
+    public Set<ConstraintViolation<Parent>> validateValid() {
+        return BeanValidationTests.validate(valid);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Set<ConstraintViolation<Parent>> validateValidContended() {
+        return validateValid();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Parent>> validateInvalid() {
+        return BeanValidationTests.validate(invalid);
+    }
+
+    @Benchmark
+    public boolean isValid() {
+        return BeanValidationTests.isValid(valid);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private final Parent valid = parent(30, "name");
+
+    private final Parent invalid = parent(-1, "");
+}
@@ -0,0 +1,491 @@
+package com.github.jinahya.test.fasterxml.jackson;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORGenerator;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.github.jinahya.test.lang.ResourceTests.applyResourceStream;
+import static com.github.jinahya.test.lang.ResourceTests.openResourceStream;
+
+/**
+ * Utilities for JSON fixtures stored in binary formats of Smile and CBOR. This class requires
+ * {@code jackson-dataformat-smile} and {@code jackson-dataformat-cbor} on the class path; {@link JacksonTests} itself
+ * does not.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+@Slf4j
+public final class BinaryJsonTests {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Binary formats of JSON fixtures.
+     */
+    public enum Format {
+
+        /**
+         * The Smile format.
+         *
+         * @see <a href="https://github.com/FasterXML/smile-format-specification">Smile Format Specification</a>
+         */
+        SMILE("smile", new byte[] {':', ')', '\n'}) {
+            @Override
+            JsonFactory newFactory() {
+                return new SmileFactory();
+            }
+        },
+
+        /**
+         * The CBOR format. Converted fixtures start with the self-describe tag so that they can be detected.
+         *
+         * @see <a href="https://tools.ietf.org/html/rfc7049#section-2.4.5">Self-Describe CBOR</a>
+         */
+        CBOR("cbor", new byte[] {(byte) 0xD9, (byte) 0xD9, (byte) 0xF7}) {
+            @Override
+            JsonFactory newFactory() {
+                return new CBORFactory().configure(CBORGenerator.Feature.WRITE_TYPE_HEADER, true);
+            }
+        };
+
+        Format(final String extension, final byte[] magic) {
+            this.extension = extension;
+            this.magic = magic;
+        }
+
+        /**
+         * Returns the file extension, without the leading dot, of this format.
+         *
+         * @return the file extension of this format.
+         */
+        public String getExtension() {
+            return extension;
+        }
+
+        /**
+         * Returns a shared object mapper for this format, configured as the mapper of specified profile.
+         *
+         * @param profile the profile whose configuration is used.
+         * @return a shared object mapper for this format.
+         */
+        public ObjectMapper getObjectMapper(final JacksonProfile profile) {
+            return binding(profile).mapper;
+        }
+
+        /**
+         * Returns a shared object mapper for this format, configured as the mapper of the default profile.
+         *
+         * @return a shared object mapper for this format.
+         * @see #getObjectMapper(JacksonProfile)
+         */
+        public ObjectMapper getObjectMapper() {
+            return getObjectMapper(JacksonProfile.getDefault());
+        }
+
+        /**
+         * Returns a cached object reader, configured as the mapper of specified profile, for specified type.
+         *
+         * @param profile  the profile whose configuration is used.
+         * @param javaType the type of values to read.
+         * @return an object reader for {@code javaType}.
+         */
+        public ObjectReader readerFor(final JacksonProfile profile, final JavaType javaType) {
+            if (javaType == null) {
+                throw new NullPointerException("javaType is null");
+            }
+            final Binding binding = binding(profile);
+            return binding.readers.computeIfAbsent(javaType, binding.mapper::readerFor);
+        }
+
+        /**
+         * Returns a cached object reader, configured as the mapper of the default profile, for specified type.
+         *
+         * @param javaType the type of values to read.
+         * @return an object reader for {@code javaType}.
+         * @see #readerFor(JacksonProfile, JavaType)
+         */
+        public ObjectReader readerFor(final JavaType javaType) {
+            return readerFor(JacksonProfile.getDefault(), javaType);
+        }
+
+        /**
+         * Creates a new factory of this format.
+         */
+        abstract JsonFactory newFactory();
+
+        private Binding binding(final JacksonProfile profile) {
+            if (profile == null) {
+                throw new NullPointerException("profile is null");
+            }
+            return profile.derive(this, m -> new Binding(m, newFactory()));
+        }
+
+        private boolean matches(final byte[] head, final int length) {
+            if (length < magic.length) {
+                return false;
+            }
+            for (int i = 0; i < magic.length; i++) {
+                if (head[i] != magic[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private final String extension;
+
+        private final byte[] magic;
+    }
+
+    /**
+     * A mapper of a binary format, configured as a mapper of JSON, with its own cache of object readers. The
+     * configurations, including registered modules, and the deserializer factory of the source mapper are shared; the
+     * caches of serializers and deserializers are not.
+     */
+    private static final class Binding {
+
+        private Binding(final ObjectMapper source, final JsonFactory factory) {
+            super();
+            final DefaultDeserializationContext context
+                    = (DefaultDeserializationContext) source.getDeserializationContext();
+            mapper = new ObjectMapper(factory, null, context.with(context.getFactory()));
+            mapper.setSerializerFactory(source.getSerializerFactory());
+            mapper.setConfig(source.getSerializationConfig());
+            mapper.setConfig(source.getDeserializationConfig());
+            mapper.setInjectableValues(source.getInjectableValues());
+        }
+
+        private final ObjectMapper mapper;
+
+        private final ConcurrentMap<JavaType, ObjectReader> readers = new ConcurrentHashMap<>();
+    }
+
+    private static final int MAGIC_LENGTH = 3;
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Detects the binary format of specified resource name by its extension.
+     *
+     * @param name the resource name.
+     * @return the detected format; {@code null} if {@code name} has no extension of a binary format.
+     */
+    public static Format detectFormat(final String name) {
+        if (name == null) {
+            throw new NullPointerException("name is null");
+        }
+        for (final Format format : Format.values()) {
+            if (name.endsWith('.' + format.extension)) {
+                return format;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Detects the binary format of the content of specified stream by its leading bytes. The stream is reset to where
+     * it was.
+     *
+     * @param stream the stream to examine; must support {@link InputStream#mark(int)}.
+     * @return the detected format; {@code null} if the content is in none of binary formats.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static Format sniffFormat(final InputStream stream) throws IOException {
+        if (stream == null) {
+            throw new NullPointerException("stream is null");
+        }
+        if (!stream.markSupported()) {
+            throw new IllegalArgumentException("stream doesn't support mark");
+        }
+        final byte[] head = new byte[MAGIC_LENGTH];
+        int length = 0;
+        stream.mark(head.length);
+        try {
+            for (int r; length < head.length && (r = stream.read(head, length, head.length - length)) != -1; ) {
+                length += r;
+            }
+        } finally {
+            stream.reset();
+        }
+        for (final Format format : Format.values()) {
+            if (format.matches(head, length)) {
+                return format;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the name of the binary sibling of specified resource name. The {@code .json} extension of the name is
+     * replaced with the extension of specified format, e.g. {@code some/fixture.json} to {@code some/fixture.smile};
+     * the extension of the format is appended to any other name, e.g. {@code some/lines.jsonl} to
+     * {@code some/lines.jsonl.smile}, so that no two names share a sibling.
+     *
+     * @param name   the resource name.
+     * @param format the binary format.
+     * @return the name of the binary sibling.
+     */
+    public static String binarySiblingName(final String name, final Format format) {
+        if (name == null) {
+            throw new NullPointerException("name is null");
+        }
+        if (format == null) {
+            throw new NullPointerException("format is null");
+        }
+        final String base = name.endsWith(".json") ? name.substring(0, name.length() - 5) : name;
+        return base + '.' + format.extension;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Converts JSON values read from specified input stream into specified binary format and writes them to specified
+     * output stream. All root-level values, such as of JSON Lines, are converted. Neither stream is closed.
+     *
+     * @param source the input stream of JSON values.
+     * @param target the output stream to which converted values are written.
+     * @param format the binary format.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static void convert(final InputStream source, final OutputStream target, final Format format)
+            throws IOException {
+        if (source == null) {
+            throw new NullPointerException("source is null");
+        }
+        if (target == null) {
+            throw new NullPointerException("target is null");
+        }
+        if (format == null) {
+            throw new NullPointerException("format is null");
+        }
+        try (JsonParser parser = JacksonTests.TEST_OBJECT_MAPPER.getFactory().createParser(source);
+             JsonGenerator generator = format.getObjectMapper().getFactory().createGenerator(target)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            while (parser.nextToken() != null) {
+                generator.copyCurrentStructure(parser);
+            }
+        }
+    }
+
+    /**
+     * Converts specified JSON resource into specified binary format and writes it to specified file.
+     *
+     * @param loader a class loader for reading resource; {@code null} for the default.
+     * @param name   the name of the JSON resource.
+     * @param format the binary format.
+     * @param target the file to write.
+     * @return given {@code target}.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static Path convertResource(final ClassLoader loader, final String name, final Format format,
+                                       final Path target)
+            throws IOException {
+        if (target == null) {
+            throw new NullPointerException("target is null");
+        }
+        try (InputStream source = openResourceStream(loader, name);
+             OutputStream stream = Files.newOutputStream(target)) {
+            convert(source, stream, format);
+        }
+        return target;
+    }
+
+    /**
+     * Converts each {@code .json} and {@code .jsonl} file under specified directory into its binary sibling, unless
+     * the sibling exists and is not older than the file. Intended to be run ahead of tests, e.g. against
+     * {@code src/test/resources}.
+     *
+     * @param directory the directory to walk.
+     * @param format    the binary format.
+     * @return a list of written siblings.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static List<Path> convertFixtures(final Path directory, final Format format) throws IOException {
+        if (directory == null) {
+            throw new NullPointerException("directory is null");
+        }
+        if (format == null) {
+            throw new NullPointerException("format is null");
+        }
+        final List<Path> sources;
+        try (Stream<Path> paths = Files.walk(directory)) {
+            sources = paths.filter(Files::isRegularFile)
+                    .filter(p -> p.getFileName().toString().endsWith(".json")
+                                 || p.getFileName().toString().endsWith(".jsonl"))
+                    .collect(Collectors.toList());
+        }
+        final List<Path> written = new ArrayList<>();
+        for (final Path source : sources) {
+            final Path target = source.resolveSibling(
+                    binarySiblingName(source.getFileName().toString(), format));
+            if (Files.exists(target)
+                && Files.getLastModifiedTime(target).compareTo(Files.getLastModifiedTime(source)) >= 0) {
+                continue;
+            }
+            try (InputStream s = Files.newInputStream(source);
+                 OutputStream t = Files.newOutputStream(target)) {
+                convert(s, t, format);
+            }
+            log.debug("converted {} to {}", source, target);
+            written.add(target);
+        }
+        return written;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Reads a value of specified type from specified resource, with specified profile, preferring its binary sibling.
+     * Siblings are looked up in the order of {@link Format#values()}; if none exists, the resource itself is read in
+     * the format detected by its extension or its leading bytes, or as JSON. Values of every format are read with the
+     * configuration of the mapper of the profile.
+     *
+     * @param profile  the profile to read with.
+     * @param loader   a class loader for reading resource; {@code null} for the default.
+     * @param name     the resource name.
+     * @param javaType the value type.
+     * @param <T>      value type parameter
+     * @return the value read.
+     * @throws IOException if an I/O error occurs.
+     * @see #binarySiblingName(String, Format)
+     */
+    public static <T> T readValueFromResource(final JacksonProfile profile, ClassLoader loader, final String name,
+                                              final JavaType javaType)
+            throws IOException {
+        if (profile == null) {
+            throw new NullPointerException("profile is null");
+        }
+        if (loader == null) {
+            loader = BinaryJsonTests.class.getClassLoader();
+        }
+        if (name == null) {
+            throw new NullPointerException("name is null");
+        }
+        if (javaType == null) {
+            throw new NullPointerException("javaType is null");
+        }
+        for (final Format format : Format.values()) {
+            final String sibling = binarySiblingName(name, format);
+            if (!sibling.equals(name) && loader.getResource(sibling) != null) {
+                return readValue(profile, loader, sibling, javaType, format);
+            }
+        }
+        return readValue(profile, loader, name, javaType, detectFormat(name));
+    }
+
+    /**
+     * Reads a value of specified type from specified resource, with the default profile, preferring its binary
+     * sibling.
+     *
+     * @param loader   a class loader for reading resource; {@code null} for the default.
+     * @param name     the resource name.
+     * @param javaType the value type.
+     * @param <T>      value type parameter
+     * @return the value read.
+     * @throws IOException if an I/O error occurs.
+     * @see #readValueFromResource(JacksonProfile, ClassLoader, String, JavaType)
+     */
+    public static <T> T readValueFromResource(final ClassLoader loader, final String name, final JavaType javaType)
+            throws IOException {
+        return readValueFromResource(JacksonProfile.getDefault(), loader, name, javaType);
+    }
+
+    /**
+     * Reads a value of specified class from specified resource, with specified profile, preferring its binary
+     * sibling.
+     *
+     * @param profile    the profile to read with.
+     * @param loader     a class loader for reading resource; {@code null} for the default.
+     * @param name       the resource name.
+     * @param valueClass the value class.
+     * @param <T>        value type parameter
+     * @return the value read.
+     * @throws IOException if an I/O error occurs.
+     * @see #readValueFromResource(JacksonProfile, ClassLoader, String, JavaType)
+     */
+    public static <T> T readValueFromResource(final JacksonProfile profile, final ClassLoader loader,
+                                              final String name, final Class<? extends T> valueClass)
+            throws IOException {
+        if (profile == null) {
+            throw new NullPointerException("profile is null");
+        }
+        if (valueClass == null) {
+            throw new NullPointerException("valueClass is null");
+        }
+        return readValueFromResource(profile, loader, name, profile.getObjectMapper().constructType(valueClass));
+    }
+
+    /**
+     * Reads a value of specified class from specified resource, with the default profile, preferring its binary
+     * sibling.
+     *
+     * @param loader     a class loader for reading resource; {@code null} for the default.
+     * @param name       the resource name.
+     * @param valueClass the value class.
+     * @param <T>        value type parameter
+     * @return the value read.
+     * @throws IOException if an I/O error occurs.
+     * @see #readValueFromResource(JacksonProfile, ClassLoader, String, Class)
+     */
+    public static <T> T readValueFromResource(final ClassLoader loader, final String name,
+                                              final Class<? extends T> valueClass)
+            throws IOException {
+        return readValueFromResource(JacksonProfile.getDefault(), loader, name, valueClass);
+    }
+
+    private static <T> T readValue(final JacksonProfile profile, final ClassLoader loader, final String name,
+                                   final JavaType javaType, final Format format)
+            throws IOException {
+        try {
+            return applyResourceStream(loader, name, s -> {
+                try {
+                    return JacksonTests.readCounted(s, javaType.toCanonical(), c -> {
+                        if (format != null) {
+                            return format.readerFor(profile, javaType).readValue(c);
+                        }
+                        final InputStream stream = new BufferedInputStream(c);
+                        final Format sniffed = sniffFormat(stream);
+                        return (sniffed == null ? profile.readerFor(javaType) : sniffed.readerFor(profile, javaType))
+                                .readValue(stream);
+                    });
+                } catch (final IOException ioe) {
+                    throw new UncheckedIOException(ioe);
+                }
+            });
+        } catch (final UncheckedIOException uioe) {
+            throw uioe.getCause();
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new instance.
+     */
+    private BinaryJsonTests() {
+        super();
+    }
+}
@@ -0,0 +1,374 @@
+package com.github.jinahya.test.fasterxml.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.SerializerFactory;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * A named configuration of an object mapper along with its own cache of object readers and its own pretty printing
+ * writers. Profiles are registered once, by name, and shared by every helper of {@link JacksonTests} which takes a
+ * profile. Cached readers and writers are bound to the configuration of the mapper at the time they were built and are
+ * discarded once the mapper is reconfigured.
+ * <pre>{@code
+ * final JacksonProfile lenient = JacksonProfile.register(
+ *         "lenient", new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES));
+ * final Item item = JacksonTests.readValueFromResource(lenient, loader, "item.json", Item.class);
+ * }</pre>
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see JacksonTests#readValueFromResource(JacksonProfile, ClassLoader, String, JavaType)
+ */
+@Slf4j
+public final class JacksonProfile {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The name of the default profile which uses {@link JacksonTests#TEST_OBJECT_MAPPER}.
+     */
+    public static final String DEFAULT = "default";
+
+    /**
+     * The name of the profile which uses a copy of {@link JacksonTests#TEST_OBJECT_MAPPER}, as configured when this
+     * class is initialized, with a module generating bytecode for accessing properties registered, if any is on the
+     * class path.
+     *
+     * @see #ACCESSOR_MODULE_CLASS_NAMES
+     */
+    public static final String FAST = "fast";
+
+    /**
+     * Names of modules which generate bytecode for accessing properties, in order of preference. Only the first one
+     * found is registered.
+     */
+    static final String[] ACCESSOR_MODULE_CLASS_NAMES = {
+            "com.fasterxml.jackson.module.blackbird.BlackbirdModule",
+            "com.fasterxml.jackson.module.afterburner.AfterburnerModule"
+    };
+
+    private static final ConcurrentMap<String, JacksonProfile> PROFILES = new ConcurrentHashMap<>();
+
+    static {
+        PROFILES.put(DEFAULT, new JacksonProfile(DEFAULT, JacksonTests.TEST_OBJECT_MAPPER));
+        PROFILES.put(FAST, new JacksonProfile(FAST, registerAccessorModule(JacksonTests.TEST_OBJECT_MAPPER.copy())));
+    }
+
+    /**
+     * Registers the first available module of {@link #ACCESSOR_MODULE_CLASS_NAMES} to specified mapper.
+     *
+     * @param mapper the mapper.
+     * @return given {@code mapper}.
+     */
+    static ObjectMapper registerAccessorModule(final ObjectMapper mapper) {
+        for (final String className : ACCESSOR_MODULE_CLASS_NAMES) {
+            final Module module;
+            try {
+                module = (Module) Class.forName(className).getConstructor().newInstance();
+            } catch (final ReflectiveOperationException | LinkageError e) {
+                log.debug("failed to instantiate {}", className, e);
+                continue;
+            }
+            return mapper.registerModule(module);
+        }
+        log.warn("no module of {} available; the '{}' profile equals to the '{}' profile",
+                 ACCESSOR_MODULE_CLASS_NAMES, FAST, DEFAULT);
+        return mapper;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Registers a new profile of specified name with a copy of specified mapper. The mapper is copied so that
+     * configuring it afterwards doesn't affect the profile.
+     *
+     * @param name   the name of the profile.
+     * @param mapper the mapper whose copy is used by the profile.
+     * @return the registered profile.
+     * @throws IllegalArgumentException if a profile of {@code name} is already registered.
+     */
+    public static JacksonProfile register(final String name, final ObjectMapper mapper) {
+        if (name == null) {
+            throw new NullPointerException("name is null");
+        }
+        if (mapper == null) {
+            throw new NullPointerException("mapper is null");
+        }
+        final JacksonProfile profile = new JacksonProfile(name, mapper.copy());
+        if (PROFILES.putIfAbsent(name, profile) != null) {
+            throw new IllegalArgumentException("profile already registered: " + name);
+        }
+        return profile;
+    }
+
+    /**
+     * Returns the profile of specified name.
+     *
+     * @param name the name of the profile.
+     * @return the profile of {@code name}.
+     * @throws IllegalArgumentException if no profile of {@code name} is registered.
+     */
+    public static JacksonProfile get(final String name) {
+        if (name == null) {
+            throw new NullPointerException("name is null");
+        }
+        final JacksonProfile profile = PROFILES.get(name);
+        if (profile == null) {
+            throw new IllegalArgumentException("no profile registered: " + name);
+        }
+        return profile;
+    }
+
+    /**
+     * Returns the {@value #DEFAULT} profile.
+     *
+     * @return the default profile.
+     */
+    public static JacksonProfile getDefault() {
+        return get(DEFAULT);
+    }
+
+    /**
+     * Returns the {@value #FAST} profile.
+     *
+     * @return the fast profile.
+     */
+    public static JacksonProfile getFast() {
+        return get(FAST);
+    }
+
+    /**
+     * Returns names of all registered profiles.
+     *
+     * @return an unmodifiable set of names, in ascending order.
+     */
+    public static Set<String> getNames() {
+        return Collections.unmodifiableSet(new TreeSet<>(PROFILES.keySet()));
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Readers and writers built from a configuration of a mapper. Configurations of a mapper are immutable and are
+     * replaced whenever the mapper is reconfigured, so that they are compared by identity.
+     */
+    private static final class Snapshot {
+
+        private Snapshot(final ObjectMapper mapper) {
+            super();
+            deserializationConfig = mapper.getDeserializationConfig();
+            deserializationContext = mapper.getDeserializationContext();
+            serializationConfig = mapper.getSerializationConfig();
+            serializerProvider = mapper.getSerializerProvider();
+            serializerFactory = mapper.getSerializerFactory();
+            prettyPrinter = mapper.writerWithDefaultPrettyPrinter();
+            prettyPrinterNotClosingTarget = prettyPrinter.without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        }
+
+        private boolean isCurrent(final ObjectMapper mapper) {
+            return deserializationConfig == mapper.getDeserializationConfig()
+                   && deserializationContext == mapper.getDeserializationContext()
+                   && serializationConfig == mapper.getSerializationConfig()
+                   && serializerProvider == mapper.getSerializerProvider()
+                   && serializerFactory == mapper.getSerializerFactory();
+        }
+
+        private final DeserializationConfig deserializationConfig;
+
+        private final DeserializationContext deserializationContext;
+
+        private final SerializationConfig serializationConfig;
+
+        private final SerializerProvider serializerProvider;
+
+        private final SerializerFactory serializerFactory;
+
+        private final ConcurrentMap<JavaType, ObjectReader> readers = new ConcurrentHashMap<>();
+
+        private final ObjectWriter prettyPrinter;
+
+        private final ObjectWriter prettyPrinterNotClosingTarget;
+
+        private final ConcurrentMap<Object, Object> derived = new ConcurrentHashMap<>();
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private JacksonProfile(final String name, final ObjectMapper mapper) {
+        super();
+        this.name = name;
+        this.mapper = mapper;
+        snapshot = new Snapshot(mapper);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Override
+    public String toString() {
+        return super.toString() + "{"
+               + "name=" + name
+               + ",modules=" + mapper.getRegisteredModuleIds()
+               + "}";
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns a cached object reader of this profile for specified type.
+     *
+     * @param javaType the type of values to read.
+     * @return an object reader for {@code javaType}.
+     */
+    public ObjectReader readerFor(final JavaType javaType) {
+        if (javaType == null) {
+            throw new NullPointerException("javaType is null");
+        }
+        final ConcurrentMap<JavaType, ObjectReader> readers = snapshot().readers;
+        final ObjectReader reader = readers.get(javaType);
+        if (reader != null) {
+            readerCacheHitCount.incrementAndGet();
+            return reader;
+        }
+        return readers.computeIfAbsent(javaType, k -> {
+            readerCacheMissCount.incrementAndGet();
+            return mapper.readerFor(k);
+        });
+    }
+
+    /**
+     * Returns a cached object reader of this profile for specified class.
+     *
+     * @param valueClass the class of values to read.
+     * @return an object reader for {@code valueClass}.
+     * @see #readerFor(JavaType)
+     */
+    public ObjectReader readerFor(final Class<?> valueClass) {
+        if (valueClass == null) {
+            throw new NullPointerException("valueClass is null");
+        }
+        return readerFor(mapper.constructType(valueClass));
+    }
+
+    /**
+     * Returns a cached object reader of this profile for specified type reference.
+     *
+     * @param typeReference the type reference of values to read.
+     * @return an object reader for {@code typeReference}.
+     * @see #readerFor(JavaType)
+     */
+    public ObjectReader readerFor(final TypeReference<?> typeReference) {
+        if (typeReference == null) {
+            throw new NullPointerException("typeReference is null");
+        }
+        return readerFor(mapper.getTypeFactory().constructType(typeReference));
+    }
+
+    /**
+     * Returns the number of {@code readerFor} calls served from the cache of this profile.
+     *
+     * @return the number of reader cache hits.
+     */
+    public long getReaderCacheHitCount() {
+        return readerCacheHitCount.get();
+    }
+
+    /**
+     * Returns the number of object readers created for the cache of this profile.
+     *
+     * @return the number of reader cache misses.
+     */
+    public long getReaderCacheMissCount() {
+        return readerCacheMissCount.get();
+    }
+
+    /**
+     * Returns the snapshot of the current configuration of the mapper, replacing the stale one, if any.
+     *
+     * @return the current snapshot.
+     */
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (!current.isCurrent(mapper)) {
+            snapshot = current = new Snapshot(mapper); // racing threads may build it more than once
+        }
+        return current;
+    }
+
+    /**
+     * Returns an object derived from the current configuration of the mapper of this profile, e.g. a mapper of another
+     * format, cached by specified key until the mapper is reconfigured.
+     *
+     * @param key      the key of the derived object.
+     * @param function the function which derives an object from the mapper.
+     * @param <T>      derived type parameter
+     * @return the derived object.
+     */
+    @SuppressWarnings({"unchecked"})
+    <T> T derive(final Object key, final Function<? super ObjectMapper, ? extends T> function) {
+        return (T) snapshot().derived.computeIfAbsent(key, k -> function.apply(mapper));
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns the name of this profile.
+     *
+     * @return the name of this profile.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the mapper of this profile.
+     *
+     * @return the mapper of this profile.
+     */
+    ObjectMapper getObjectMapper() {
+        return mapper;
+    }
+
+    /**
+     * Returns the pretty printing writer of the current configuration of the mapper of this profile.
+     *
+     * @return the pretty printing writer.
+     */
+    ObjectWriter getPrettyPrinter() {
+        return snapshot().prettyPrinter;
+    }
+
+    /**
+     * Returns a variant of {@link #getPrettyPrinter()} which leaves targets open.
+     *
+     * @return the pretty printing writer which leaves targets open.
+     */
+    ObjectWriter getPrettyPrinterNotClosingTarget() {
+        return snapshot().prettyPrinterNotClosingTarget;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private final String name;
+
+    private final ObjectMapper mapper;
+
+    private volatile Snapshot snapshot;
+
+    private final AtomicLong readerCacheHitCount = new AtomicLong();
+
+    private final AtomicLong readerCacheMissCount = new AtomicLong();
+}
@@ -1,23 +1,55 @@
 package com.github.jinahya.test.fasterxml.jackson;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.jinahya.test.lang.CountingInputStream;
+import com.github.jinahya.test.lang.ExecutorTests;
+import com.github.jinahya.test.lang.ResourceTests;
+import com.github.jinahya.test.metrics.MetricsTests;
+import com.github.jinahya.test.metrics.TestMetrics;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.PrintStream;
 import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
-import static com.github.jinahya.test.lang.ResourceTests.applyResourceStream;
+import static com.github.jinahya.test.lang.ResourceTests.applyDecompressedResourceStream;
+import static com.github.jinahya.test.lang.ResourceTests.openDecompressedResourceStream;
+import static com.github.jinahya.test.metrics.TestMetrics.CATEGORY_JSON;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Objects.requireNonNull;
 
 @Slf4j
@@ -31,11 +63,27 @@ public final class JacksonTests {
     public static final ObjectMapper TEST_OBJECT_MAPPER = new ObjectMapper(); // fully thread-safe!
 
     // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Applies the object mapper of specified profile to specified function and returns the result.
+     *
+     * @param profile  the profile whose mapper is applied.
+     * @param function the function to be applied; must not configure the mapper.
+     * @param <R>      result type parameter
+     * @return the result of the function.
+     */
+    public static <R> R applyObjectMapper(final JacksonProfile profile,
+                                          final Function<? super ObjectMapper, ? extends R> function) {
+        requireNonNull(profile, "profile is null");
+        return requireNonNull(function, "function is null").apply(profile.getObjectMapper());
+    }
+
     public static <R> R applyObjectMapper(final Function<? super ObjectMapper, ? extends R> function) {
-        return requireNonNull(function, "function is null").apply(TEST_OBJECT_MAPPER);
+        return applyObjectMapper(JacksonProfile.getDefault(), function);
     }
 
-    public static <U, R> R applyObjectMapper(final BiFunction<? super ObjectMapper, ? super U, ? extends R> function,
+    public static <U, R> R applyObjectMapper(final JacksonProfile profile,
+                                             final BiFunction<? super ObjectMapper, ? super U, ? extends R> function,
                                              final Supplier<? extends U> supplier) {
         if (function == null) {
             throw new NullPointerException("function is null");
@@ -43,20 +91,30 @@ public final class JacksonTests {
         if (supplier == null) {
             throw new NullPointerException("supplier is null");
         }
-        return applyObjectMapper(v -> function.apply(v, supplier.get()));
+        return applyObjectMapper(profile, v -> function.apply(v, supplier.get()));
     }
 
-    public static void acceptObjectMapper(final Consumer<? super ObjectMapper> consumer) {
+    public static <U, R> R applyObjectMapper(final BiFunction<? super ObjectMapper, ? super U, ? extends R> function,
+                                             final Supplier<? extends U> supplier) {
+        return applyObjectMapper(JacksonProfile.getDefault(), function, supplier);
+    }
+
+    public static void acceptObjectMapper(final JacksonProfile profile, final Consumer<? super ObjectMapper> consumer) {
         if (consumer == null) {
             throw new NullPointerException("consumer is null");
         }
-        applyObjectMapper(v -> {
+        applyObjectMapper(profile, v -> {
             consumer.accept(v);
             return null;
         });
     }
 
-    public static <U> void acceptObjectMapper(final BiConsumer<? super ObjectMapper, ? super U> consumer,
+    public static void acceptObjectMapper(final Consumer<? super ObjectMapper> consumer) {
+        acceptObjectMapper(JacksonProfile.getDefault(), consumer);
+    }
+
+    public static <U> void acceptObjectMapper(final JacksonProfile profile,
+                                              final BiConsumer<? super ObjectMapper, ? super U> consumer,
                                               final Supplier<? extends U> supplier) {
         if (consumer == null) {
             throw new NullPointerException("consumer is null");
@@ -64,88 +122,729 @@ public final class JacksonTests {
         if (supplier == null) {
             throw new NullPointerException("supplier is null");
         }
-        acceptObjectMapper(v -> consumer.accept(v, supplier.get()));
+        acceptObjectMapper(profile, v -> consumer.accept(v, supplier.get()));
+    }
+
+    public static <U> void acceptObjectMapper(final BiConsumer<? super ObjectMapper, ? super U> consumer,
+                                              final Supplier<? extends U> supplier) {
+        acceptObjectMapper(JacksonProfile.getDefault(), consumer, supplier);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns a cached object reader of {@link #TEST_OBJECT_MAPPER} for specified type.
+     *
+     * @param javaType the type of values to read.
+     * @return an object reader for {@code javaType}.
+     * @see JacksonProfile#readerFor(JavaType)
+     */
+    public static ObjectReader readerFor(final JavaType javaType) {
+        return JacksonProfile.getDefault().readerFor(javaType);
+    }
+
+    /**
+     * Returns a cached object reader of {@link #TEST_OBJECT_MAPPER} for specified class.
+     *
+     * @param valueClass the class of values to read.
+     * @return an object reader for {@code valueClass}.
+     * @see #readerFor(JavaType)
+     */
+    public static ObjectReader readerFor(final Class<?> valueClass) {
+        return JacksonProfile.getDefault().readerFor(valueClass);
+    }
+
+    /**
+     * Returns a cached object reader of {@link #TEST_OBJECT_MAPPER} for specified type reference.
+     *
+     * @param typeReference the type reference of values to read.
+     * @return an object reader for {@code typeReference}.
+     * @see #readerFor(JavaType)
+     */
+    public static ObjectReader readerFor(final TypeReference<?> typeReference) {
+        return JacksonProfile.getDefault().readerFor(typeReference);
+    }
+
+    /**
+     * Returns the number of {@code readerFor} calls served from the cache of the default profile.
+     *
+     * @return the number of reader cache hits.
+     */
+    public static long getReaderCacheHitCount() {
+        return JacksonProfile.getDefault().getReaderCacheHitCount();
+    }
+
+    /**
+     * Returns the number of object readers created for the cache of the default profile.
+     *
+     * @return the number of reader cache misses.
+     */
+    public static long getReaderCacheMissCount() {
+        return JacksonProfile.getDefault().getReaderCacheMissCount();
     }
 
     // -----------------------------------------------------------------------------------------------------------------
+    public static JsonNode readTreeFromResource(final JacksonProfile profile, final ClassLoader classLoader,
+                                                final String resourceName)
+            throws IOException {
+        if (profile == null) {
+            throw new NullPointerException("profile is null");
+        }
+        return readDecompressedResource(classLoader, resourceName,
+                                        s -> readCounted(s, JsonNode.class.getName(),
+                                                         profile.getObjectMapper()::readTree));
+    }
+
     public static JsonNode readTreeFromResource(final ClassLoader classLoader, final String resourceName)
             throws IOException {
-        return applyResourceStream(classLoader,
-                                   resourceName,
-                                   s -> applyObjectMapper(m -> {
-                                       try {
-                                           return m.readTree(s);
-                                       } catch (final IOException ioe) {
-                                           throw new RuntimeException(ioe);
-                                       }
-                                   })
-        );
+        return readTreeFromResource(JacksonProfile.getDefault(), classLoader, resourceName);
     }
 
     // -----------------------------------------------------------------------------------------------------------------
-    public static <T> T readValueFromResource(final ClassLoader classLoader, final String resourceName,
-                                              final Class<? extends T> valueClass)
+    public static <T> T readValueFromResource(final JacksonProfile profile, final ClassLoader classLoader,
+                                              final String resourceName, final Class<? extends T> valueClass)
             throws IOException {
+        if (profile == null) {
+            throw new NullPointerException("profile is null");
+        }
         if (valueClass == null) {
             throw new NullPointerException("valueClass is null");
         }
-        return applyResourceStream(classLoader,
-                                   resourceName,
-                                   s -> applyObjectMapper(m -> {
-                                       try {
-                                           return m.readValue(s, valueClass);
-                                       } catch (final IOException ioe) {
-                                           throw new RuntimeException(ioe);
-                                       }
-                                   })
-        );
+        return readDecompressedResource(classLoader, resourceName,
+                                        s -> readCounted(s, valueClass.getTypeName(),
+                                                         profile.readerFor(valueClass)::readValue));
     }
 
     public static <T> T readValueFromResource(final ClassLoader classLoader, final String resourceName,
-                                              final JavaType javaType)
+                                              final Class<? extends T> valueClass)
+            throws IOException {
+        return readValueFromResource(JacksonProfile.getDefault(), classLoader, resourceName, valueClass);
+    }
+
+    public static <T> T readValueFromResource(final JacksonProfile profile, final ClassLoader classLoader,
+                                              final String resourceName, final JavaType javaType)
             throws IOException {
+        if (profile == null) {
+            throw new NullPointerException("profile is null");
+        }
         if (javaType == null) {
             throw new NullPointerException("javaType is null");
         }
-        return applyResourceStream(classLoader,
-                                   resourceName,
-                                   s -> applyObjectMapper(m -> {
-                                       try {
-                                           return m.readValue(s, javaType);
-                                       } catch (final IOException ioe) {
-                                           throw new RuntimeException(ioe);
-                                       }
-                                   })
-        );
+        return readDecompressedResource(classLoader, resourceName,
+                                        s -> readCounted(s, javaType.toCanonical(),
+                                                         profile.readerFor(javaType)::readValue));
+    }
+
+    public static <T> T readValueFromResource(final ClassLoader classLoader, final String resourceName,
+                                              final JavaType javaType)
+            throws IOException {
+        return readValueFromResource(JacksonProfile.getDefault(), classLoader, resourceName, javaType);
+    }
+
+    public static <T> T readValueFromResource(final JacksonProfile profile, final ClassLoader classLoader,
+                                              final String resourceName, final TypeReference<? extends T> typeReference)
+            throws IOException {
+        if (profile == null) {
+            throw new NullPointerException("profile is null");
+        }
+        if (typeReference == null) {
+            throw new NullPointerException("typeReference is null");
+        }
+        return readDecompressedResource(classLoader, resourceName,
+                                        s -> readCounted(s, typeReference.getType().getTypeName(),
+                                                         profile.readerFor(typeReference)::readValue));
     }
 
     public static <T> T readValueFromResource(final ClassLoader classLoader, final String resourceName,
                                               final TypeReference<? extends T> typeReference)
             throws IOException {
+        return readValueFromResource(JacksonProfile.getDefault(), classLoader, resourceName, typeReference);
+    }
+
+    /**
+     * A function, reading from a stream, which may throw an {@link IOException}.
+     *
+     * @param <R> result type parameter
+     */
+    @FunctionalInterface
+    interface IoFunction<R> {
+
+        R apply(InputStream stream) throws IOException;
+    }
+
+    /**
+     * Applies a decompressed stream of specified resource to specified reader and returns the result.
+     *
+     * @param classLoader  a class loader for reading resource; {@code null} for the default.
+     * @param resourceName the resource name.
+     * @param reader       the reader to apply.
+     * @param <R>          result type parameter
+     * @return the result of the reader.
+     * @throws IOException if an I/O error occurs.
+     * @see ResourceTests#applyDecompressedResourceStream(ClassLoader, String, Function)
+     */
+    private static <R> R readDecompressedResource(final ClassLoader classLoader, final String resourceName,
+                                                  final IoFunction<? extends R> reader)
+            throws IOException {
+        try {
+            return applyDecompressedResourceStream(classLoader, resourceName, s -> {
+                try {
+                    return reader.apply(s);
+                } catch (final IOException ioe) {
+                    throw new ReadingException(ioe);
+                }
+            });
+        } catch (final ReadingException re) {
+            throw re.getCause();
+        }
+    }
+
+    /**
+     * An unchecked exception which carries an {@link IOException} of reading out of a function.
+     */
+    private static final class ReadingException extends UncheckedIOException {
+
+        private static final long serialVersionUID = 1L;
+
+        private ReadingException(final IOException cause) {
+            super(cause);
+        }
+    }
+
+    /**
+     * Applies specified stream to specified reader and returns the result. If metrics are enabled, the number of bytes
+     * read by the reader and the elapsed time are recorded in {@link TestMetrics#CATEGORY_JSON} category.
+     *
+     * @param stream the stream to read.
+     * @param key    the key of the metrics.
+     * @param reader the reader to apply.
+     * @param <R>    result type parameter
+     * @return the result of the reader.
+     * @throws IOException if an I/O error occurs.
+     */
+    static <R> R readCounted(final InputStream stream, final String key, final IoFunction<? extends R> reader)
+            throws IOException {
+        if (!MetricsTests.isEnabled()) {
+            return reader.apply(stream);
+        }
+        final CountingInputStream counting = new CountingInputStream(stream);
+        final long started = System.nanoTime();
+        try {
+            return reader.apply(counting);
+        } finally {
+            MetricsTests.record(CATEGORY_JSON, key, counting.getCount(), started);
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * A reading task which may throw an {@link IOException}.
+     *
+     * @param <T> result type parameter
+     */
+    @FunctionalInterface
+    private interface IoSupplier<T> {
+
+        T get() throws IOException;
+    }
+
+    private static <T> CompletableFuture<T> supplyAsync(final IoSupplier<? extends T> supplier,
+                                                        final Executor executor) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return supplier.get();
+            } catch (final IOException ioe) {
+                throw new UncheckedIOException(ioe);
+            }
+        }, ExecutorTests.executorOrDefault(executor));
+    }
+
+    /**
+     * Reads a tree from specified resource asynchronously, with specified profile, using specified executor. The
+     * returned future completes exceptionally with an {@link UncheckedIOException} if an I/O error, including a failure
+     * of parsing, occurs.
+     *
+     * @param profile      the profile to read with.
+     * @param classLoader  a class loader for reading resource; {@code null} for the default.
+     * @param resourceName the resource name.
+     * @param executor     the executor to use; {@code null} for {@link ExecutorTests#getTestExecutor()}.
+     * @return a future of the tree.
+     */
+    public static CompletableFuture<JsonNode> readTreeFromResourceAsync(final JacksonProfile profile,
+                                                                        final ClassLoader classLoader,
+                                                                        final String resourceName,
+                                                                        final Executor executor) {
+        if (profile == null) {
+            throw new NullPointerException("profile is null");
+        }
+        return supplyAsync(() -> readTreeFromResource(profile, classLoader, resourceName), executor);
+    }
+
+    /**
+     * Reads a tree from specified resource asynchronously, with the default profile, using specified executor.
+     *
+     * @param classLoader  a class loader for reading resource; {@code null} for the default.
+     * @param resourceName the resource name.
+     * @param executor     the executor to use; {@code null} for {@link ExecutorTests#getTestExecutor()}.
+     * @return a future of the tree.
+     * @see #readTreeFromResourceAsync(JacksonProfile, ClassLoader, String, Executor)
+     */
+    public static CompletableFuture<JsonNode> readTreeFromResourceAsync(final ClassLoader classLoader,
+                                                                        final String resourceName,
+                                                                        final Executor executor) {
+        return readTreeFromResourceAsync(JacksonProfile.getDefault(), classLoader, resourceName, executor);
+    }
+
+    /**
+     * Reads a value of specified class from specified resource asynchronously, with specified profile, using
+     * specified executor.
+     *
+     * @param profile      the profile to read with.
+     * @param classLoader  a class loader for reading resource; {@code null} for the default.
+     * @param resourceName the resource name.
+     * @param valueClass   the value class.
+     * @param executor     the executor to use; {@code null} for {@link ExecutorTests#getTestExecutor()}.
+     * @param <T>          value type parameter
+     * @return a future of the value.
+     * @see #readTreeFromResourceAsync(JacksonProfile, ClassLoader, String, Executor)
+     */
+    public static <T> CompletableFuture<T> readValueFromResourceAsync(final JacksonProfile profile,
+                                                                      final ClassLoader classLoader,
+                                                                      final String resourceName,
+                                                                      final Class<? extends T> valueClass,
+                                                                      final Executor executor) {
+        if (profile == null) {
+            throw new NullPointerException("profile is null");
+        }
+        if (valueClass == null) {
+            throw new NullPointerException("valueClass is null");
+        }
+        return supplyAsync(() -> readValueFromResource(profile, classLoader, resourceName, valueClass), executor);
+    }
+
+    /**
+     * Reads a value of specified class from specified resource asynchronously, with the default profile, using
+     * specified executor.
+     *
+     * @param classLoader  a class loader for reading resource; {@code null} for the default.
+     * @param resourceName the resource name.
+     * @param valueClass   the value class.
+     * @param executor     the executor to use; {@code null} for {@link ExecutorTests#getTestExecutor()}.
+     * @param <T>          value type parameter
+     * @return a future of the value.
+     * @see #readValueFromResourceAsync(JacksonProfile, ClassLoader, String, Class, Executor)
+     */
+    public static <T> CompletableFuture<T> readValueFromResourceAsync(final ClassLoader classLoader,
+                                                                      final String resourceName,
+                                                                      final Class<? extends T> valueClass,
+                                                                      final Executor executor) {
+        return readValueFromResourceAsync(JacksonProfile.getDefault(), classLoader, resourceName, valueClass,
+                                          executor);
+    }
+
+    /**
+     * Reads a value of specified type from specified resource asynchronously, with specified profile, using specified
+     * executor.
+     *
+     * @param profile      the profile to read with.
+     * @param classLoader  a class loader for reading resource; {@code null} for the default.
+     * @param resourceName the resource name.
+     * @param javaType     the value type.
+     * @param executor     the executor to use; {@code null} for {@link ExecutorTests#getTestExecutor()}.
+     * @param <T>          value type parameter
+     * @return a future of the value.
+     * @see #readTreeFromResourceAsync(JacksonProfile, ClassLoader, String, Executor)
+     */
+    public static <T> CompletableFuture<T> readValueFromResourceAsync(final JacksonProfile profile,
+                                                                      final ClassLoader classLoader,
+                                                                      final String resourceName,
+                                                                      final JavaType javaType,
+                                                                      final Executor executor) {
+        if (profile == null) {
+            throw new NullPointerException("profile is null");
+        }
+        if (javaType == null) {
+            throw new NullPointerException("javaType is null");
+        }
+        return supplyAsync(() -> readValueFromResource(profile, classLoader, resourceName, javaType), executor);
+    }
+
+    /**
+     * Reads a value of specified type from specified resource asynchronously, with the default profile, using
+     * specified executor.
+     *
+     * @param classLoader  a class loader for reading resource; {@code null} for the default.
+     * @param resourceName the resource name.
+     * @param javaType     the value type.
+     * @param executor     the executor to use; {@code null} for {@link ExecutorTests#getTestExecutor()}.
+     * @param <T>          value type parameter
+     * @return a future of the value.
+     * @see #readValueFromResourceAsync(JacksonProfile, ClassLoader, String, JavaType, Executor)
+     */
+    public static <T> CompletableFuture<T> readValueFromResourceAsync(final ClassLoader classLoader,
+                                                                      final String resourceName,
+                                                                      final JavaType javaType,
+                                                                      final Executor executor) {
+        return readValueFromResourceAsync(JacksonProfile.getDefault(), classLoader, resourceName, javaType, executor);
+    }
+
+    /**
+     * Reads a value of specified type from specified resource asynchronously, with specified profile, using specified
+     * executor.
+     *
+     * @param profile       the profile to read with.
+     * @param classLoader   a class loader for reading resource; {@code null} for the default.
+     * @param resourceName  the resource name.
+     * @param typeReference the value type.
+     * @param executor      the executor to use; {@code null} for {@link ExecutorTests#getTestExecutor()}.
+     * @param <T>           value type parameter
+     * @return a future of the value.
+     * @see #readTreeFromResourceAsync(JacksonProfile, ClassLoader, String, Executor)
+     */
+    public static <T> CompletableFuture<T> readValueFromResourceAsync(final JacksonProfile profile,
+                                                                      final ClassLoader classLoader,
+                                                                      final String resourceName,
+                                                                      final TypeReference<? extends T> typeReference,
+                                                                      final Executor executor) {
+        if (profile == null) {
+            throw new NullPointerException("profile is null");
+        }
         if (typeReference == null) {
             throw new NullPointerException("typeReference is null");
         }
-        return applyResourceStream(classLoader,
-                                   resourceName,
-                                   s -> applyObjectMapper(m -> {
-                                       try {
-                                           return m.readValue(s, typeReference);
-                                       } catch (final IOException ioe) {
-                                           throw new RuntimeException(ioe);
-                                       }
-                                   })
-        );
+        return supplyAsync(() -> readValueFromResource(profile, classLoader, resourceName, typeReference), executor);
+    }
+
+    /**
+     * Reads a value of specified type from specified resource asynchronously, with the default profile, using
+     * specified executor.
+     *
+     * @param classLoader   a class loader for reading resource; {@code null} for the default.
+     * @param resourceName  the resource name.
+     * @param typeReference the value type.
+     * @param executor      the executor to use; {@code null} for {@link ExecutorTests#getTestExecutor()}.
+     * @param <T>           value type parameter
+     * @return a future of the value.
+     * @see #readValueFromResourceAsync(JacksonProfile, ClassLoader, String, TypeReference, Executor)
+     */
+    public static <T> CompletableFuture<T> readValueFromResourceAsync(final ClassLoader classLoader,
+                                                                      final String resourceName,
+                                                                      final TypeReference<? extends T> typeReference,
+                                                                      final Executor executor) {
+        return readValueFromResourceAsync(JacksonProfile.getDefault(), classLoader, resourceName, typeReference,
+                                          executor);
+    }
+
+    /**
+     * Reads values from specified resources concurrently, with specified profile, using specified executor. The
+     * returned future completes with a map of values in the iteration order of {@code javaTypes}, or exceptionally if
+     * reading any resource fails.
+     *
+     * @param profile     the profile to read with.
+     * @param classLoader a class loader for reading resources; {@code null} for the default.
+     * @param javaTypes   a map of value types mapped by resource names.
+     * @param executor    the executor to use; {@code null} for {@link ExecutorTests#getTestExecutor()}.
+     * @return a future of a map of values mapped by resource names.
+     */
+    public static CompletableFuture<Map<String, Object>> readValuesFromResourcesAsync(
+            final JacksonProfile profile, final ClassLoader classLoader,
+            final Map<String, ? extends JavaType> javaTypes, final Executor executor) {
+        if (profile == null) {
+            throw new NullPointerException("profile is null");
+        }
+        if (javaTypes == null) {
+            throw new NullPointerException("javaTypes is null");
+        }
+        final Map<String, CompletableFuture<Object>> futures = new LinkedHashMap<>();
+        javaTypes.forEach((n, t) -> futures.put(n, readValueFromResourceAsync(profile, classLoader, n, t, executor)));
+        return CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[0])).thenApply(v -> {
+            final Map<String, Object> values = new LinkedHashMap<>();
+            futures.forEach((n, f) -> values.put(n, f.join()));
+            return values;
+        });
+    }
+
+    /**
+     * Reads values from specified resources concurrently, with the default profile, using specified executor.
+     *
+     * @param classLoader a class loader for reading resources; {@code null} for the default.
+     * @param javaTypes   a map of value types mapped by resource names.
+     * @param executor    the executor to use; {@code null} for {@link ExecutorTests#getTestExecutor()}.
+     * @return a future of a map of values mapped by resource names.
+     * @see #readValuesFromResourcesAsync(JacksonProfile, ClassLoader, Map, Executor)
+     */
+    public static CompletableFuture<Map<String, Object>> readValuesFromResourcesAsync(
+            final ClassLoader classLoader, final Map<String, ? extends JavaType> javaTypes, final Executor executor) {
+        return readValuesFromResourcesAsync(JacksonProfile.getDefault(), classLoader, javaTypes, executor);
     }
 
     // -----------------------------------------------------------------------------------------------------------------
-    public static <R> R applyPrettyPrinter(final Function<? super ObjectWriter, ? extends R> function) {
+
+    /**
+     * Returns a lazy iterator over elements of the top-level JSON array of specified resource, read with specified
+     * profile. Closing the iterator closes the resource stream.
+     *
+     * @param profile      the profile to read with.
+     * @param classLoader  a class loader for reading resource.
+     * @param resourceName the resource name.
+     * @param javaType     the type of elements.
+     * @param <T>          element type parameter
+     * @return an iterator over elements of the array.
+     * @throws IOException if an I/O error occurs or the resource does not start with an array.
+     */
+    public static <T> MappingIterator<T> readElementsFromResource(final JacksonProfile profile,
+                                                                  final ClassLoader classLoader,
+                                                                  final String resourceName, final JavaType javaType)
+            throws IOException {
+        if (profile == null) {
+            throw new NullPointerException("profile is null");
+        }
+        if (javaType == null) {
+            throw new NullPointerException("javaType is null");
+        }
+        final InputStream resourceStream = openDecompressedResourceStream(classLoader, resourceName);
+        try {
+            final JsonParser parser = profile.getObjectMapper().getFactory().createParser(resourceStream);
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("no top-level array in '" + resourceName + "'");
+            }
+            parser.clearCurrentToken(); // the iterator advances into the array
+            return profile.readerFor(javaType).readValues(parser);
+        } catch (final IOException | RuntimeException e) {
+            resourceStream.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a lazy iterator over elements of the top-level JSON array of specified resource, read with the default
+     * profile.
+     *
+     * @param classLoader  a class loader for reading resource.
+     * @param resourceName the resource name.
+     * @param javaType     the type of elements.
+     * @param <T>          element type parameter
+     * @return an iterator over elements of the array.
+     * @throws IOException if an I/O error occurs or the resource does not start with an array.
+     * @see #readElementsFromResource(JacksonProfile, ClassLoader, String, JavaType)
+     */
+    public static <T> MappingIterator<T> readElementsFromResource(final ClassLoader classLoader,
+                                                                  final String resourceName, final JavaType javaType)
+            throws IOException {
+        return readElementsFromResource(JacksonProfile.getDefault(), classLoader, resourceName, javaType);
+    }
+
+    /**
+     * Returns a lazy iterator over the sequence of root-level values, such as newline-delimited JSON, of specified
+     * resource, read with specified profile. Closing the iterator closes the resource stream.
+     *
+     * @param profile      the profile to read with.
+     * @param classLoader  a class loader for reading resource.
+     * @param resourceName the resource name.
+     * @param javaType     the type of values.
+     * @param <T>          value type parameter
+     * @return an iterator over root-level values.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static <T> MappingIterator<T> readValuesFromResource(final JacksonProfile profile,
+                                                                final ClassLoader classLoader,
+                                                                final String resourceName, final JavaType javaType)
+            throws IOException {
+        if (profile == null) {
+            throw new NullPointerException("profile is null");
+        }
+        if (javaType == null) {
+            throw new NullPointerException("javaType is null");
+        }
+        final InputStream resourceStream = openDecompressedResourceStream(classLoader, resourceName);
+        try {
+            return profile.readerFor(javaType)
+                    .readValues(profile.getObjectMapper().getFactory().createParser(resourceStream));
+        } catch (final IOException | RuntimeException e) {
+            resourceStream.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a lazy iterator over the sequence of root-level values of specified resource, read with the default
+     * profile.
+     *
+     * @param classLoader  a class loader for reading resource.
+     * @param resourceName the resource name.
+     * @param javaType     the type of values.
+     * @param <T>          value type parameter
+     * @return an iterator over root-level values.
+     * @throws IOException if an I/O error occurs.
+     * @see #readValuesFromResource(JacksonProfile, ClassLoader, String, JavaType)
+     */
+    public static <T> MappingIterator<T> readValuesFromResource(final ClassLoader classLoader,
+                                                                final String resourceName, final JavaType javaType)
+            throws IOException {
+        return readValuesFromResource(JacksonProfile.getDefault(), classLoader, resourceName, javaType);
+    }
+
+    /**
+     * Returns a lazy stream of elements of the top-level JSON array of specified resource, read with specified profile.
+     * The stream should be closed, which closes the resource stream.
+     *
+     * @param profile      the profile to read with.
+     * @param classLoader  a class loader for reading resource.
+     * @param resourceName the resource name.
+     * @param javaType     the type of elements.
+     * @param <T>          element type parameter
+     * @return a stream of elements of the array.
+     * @throws IOException if an I/O error occurs or the resource does not start with an array.
+     * @see #readElementsFromResource(JacksonProfile, ClassLoader, String, JavaType)
+     */
+    public static <T> Stream<T> streamElementsFromResource(final JacksonProfile profile, final ClassLoader classLoader,
+                                                           final String resourceName, final JavaType javaType)
+            throws IOException {
+        return stream(readElementsFromResource(profile, classLoader, resourceName, javaType));
+    }
+
+    /**
+     * Returns a lazy stream of elements of the top-level JSON array of specified resource, read with the default
+     * profile. The stream should be closed, which closes the resource stream.
+     *
+     * @param classLoader  a class loader for reading resource.
+     * @param resourceName the resource name.
+     * @param javaType     the type of elements.
+     * @param <T>          element type parameter
+     * @return a stream of elements of the array.
+     * @throws IOException if an I/O error occurs or the resource does not start with an array.
+     * @see #streamElementsFromResource(JacksonProfile, ClassLoader, String, JavaType)
+     */
+    public static <T> Stream<T> streamElementsFromResource(final ClassLoader classLoader, final String resourceName,
+                                                           final JavaType javaType)
+            throws IOException {
+        return streamElementsFromResource(JacksonProfile.getDefault(), classLoader, resourceName, javaType);
+    }
+
+    public static <T> Stream<T> streamElementsFromResource(final JacksonProfile profile, final ClassLoader classLoader,
+                                                           final String resourceName,
+                                                           final Class<? extends T> elementClass)
+            throws IOException {
+        if (profile == null) {
+            throw new NullPointerException("profile is null");
+        }
+        if (elementClass == null) {
+            throw new NullPointerException("elementClass is null");
+        }
+        return streamElementsFromResource(profile, classLoader, resourceName,
+                                          profile.getObjectMapper().constructType(elementClass));
+    }
+
+    public static <T> Stream<T> streamElementsFromResource(final ClassLoader classLoader, final String resourceName,
+                                                           final Class<? extends T> elementClass)
+            throws IOException {
+        return streamElementsFromResource(JacksonProfile.getDefault(), classLoader, resourceName, elementClass);
+    }
+
+    /**
+     * Returns a lazy stream of root-level values, such as newline-delimited JSON, of specified resource, read with
+     * specified profile. The stream should be closed, which closes the resource stream.
+     *
+     * @param profile      the profile to read with.
+     * @param classLoader  a class loader for reading resource.
+     * @param resourceName the resource name.
+     * @param javaType     the type of values.
+     * @param <T>          value type parameter
+     * @return a stream of root-level values.
+     * @throws IOException if an I/O error occurs.
+     * @see #readValuesFromResource(JacksonProfile, ClassLoader, String, JavaType)
+     */
+    public static <T> Stream<T> streamValuesFromResource(final JacksonProfile profile, final ClassLoader classLoader,
+                                                         final String resourceName, final JavaType javaType)
+            throws IOException {
+        return stream(readValuesFromResource(profile, classLoader, resourceName, javaType));
+    }
+
+    /**
+     * Returns a lazy stream of root-level values, such as newline-delimited JSON, of specified resource, read with the
+     * default profile. The stream should be closed, which closes the resource stream.
+     *
+     * @param classLoader  a class loader for reading resource.
+     * @param resourceName the resource name.
+     * @param javaType     the type of values.
+     * @param <T>          value type parameter
+     * @return a stream of root-level values.
+     * @throws IOException if an I/O error occurs.
+     * @see #streamValuesFromResource(JacksonProfile, ClassLoader, String, JavaType)
+     */
+    public static <T> Stream<T> streamValuesFromResource(final ClassLoader classLoader, final String resourceName,
+                                                         final JavaType javaType)
+            throws IOException {
+        return streamValuesFromResource(JacksonProfile.getDefault(), classLoader, resourceName, javaType);
+    }
+
+    public static <T> Stream<T> streamValuesFromResource(final JacksonProfile profile, final ClassLoader classLoader,
+                                                         final String resourceName,
+                                                         final Class<? extends T> valueClass)
+            throws IOException {
+        if (profile == null) {
+            throw new NullPointerException("profile is null");
+        }
+        if (valueClass == null) {
+            throw new NullPointerException("valueClass is null");
+        }
+        return streamValuesFromResource(profile, classLoader, resourceName,
+                                        profile.getObjectMapper().constructType(valueClass));
+    }
+
+    public static <T> Stream<T> streamValuesFromResource(final ClassLoader classLoader, final String resourceName,
+                                                         final Class<? extends T> valueClass)
+            throws IOException {
+        return streamValuesFromResource(JacksonProfile.getDefault(), classLoader, resourceName, valueClass);
+    }
+
+    private static <T> Stream<T> stream(final MappingIterator<T> iterator) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(() -> {
+                    try {
+                        iterator.close();
+                    } catch (final IOException ioe) {
+                        throw new UncheckedIOException(ioe);
+                    }
+                });
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Applies the shared pretty printing writer of specified profile to specified function and returns the result.
+     *
+     * @param profile  the profile whose pretty printing writer is applied.
+     * @param function the function to be applied.
+     * @param <R>      result type parameter
+     * @return the result of the function.
+     */
+    public static <R> R applyPrettyPrinter(final JacksonProfile profile,
+                                           final Function<? super ObjectWriter, ? extends R> function) {
+        if (profile == null) {
+            throw new NullPointerException("profile is null");
+        }
         if (function == null) {
             throw new NullPointerException("function is null");
         }
-        return applyObjectMapper(m -> function.apply(m.writerWithDefaultPrettyPrinter()));
+        return function.apply(profile.getPrettyPrinter());
     }
 
-    public static <U, R> R applyPrettyPrinter(final BiFunction<? super ObjectWriter, ? super U, ? extends R> function,
+    /**
+     * Applies a shared pretty printing writer of {@link #TEST_OBJECT_MAPPER} to specified function and returns the
+     * result.
+     *
+     * @param function the function to be applied.
+     * @param <R>      result type parameter
+     * @return the result of the function.
+     */
+    public static <R> R applyPrettyPrinter(final Function<? super ObjectWriter, ? extends R> function) {
+        return applyPrettyPrinter(JacksonProfile.getDefault(), function);
+    }
+
+    public static <U, R> R applyPrettyPrinter(final JacksonProfile profile,
+                                              final BiFunction<? super ObjectWriter, ? super U, ? extends R> function,
                                               final Supplier<? extends U> supplier) {
         if (function == null) {
             throw new NullPointerException("function is null");
@@ -153,20 +852,30 @@ public final class JacksonTests {
         if (supplier == null) {
             throw new NullPointerException("supplier is null");
         }
-        return applyPrettyPrinter(p -> function.apply(p, supplier.get()));
+        return applyPrettyPrinter(profile, p -> function.apply(p, supplier.get()));
     }
 
-    public static void acceptPrintPrinter(final Consumer<? super ObjectWriter> consumer) {
+    public static <U, R> R applyPrettyPrinter(final BiFunction<? super ObjectWriter, ? super U, ? extends R> function,
+                                              final Supplier<? extends U> supplier) {
+        return applyPrettyPrinter(JacksonProfile.getDefault(), function, supplier);
+    }
+
+    public static void acceptPrintPrinter(final JacksonProfile profile, final Consumer<? super ObjectWriter> consumer) {
         if (consumer == null) {
             throw new NullPointerException("consumer is null");
         }
-        applyPrettyPrinter(p -> {
+        applyPrettyPrinter(profile, p -> {
             consumer.accept(p);
             return null;
         });
     }
 
-    public static <U> void acceptPrettyPrinter(final BiConsumer<? super ObjectWriter, ? super U> consumer,
+    public static void acceptPrintPrinter(final Consumer<? super ObjectWriter> consumer) {
+        acceptPrintPrinter(JacksonProfile.getDefault(), consumer);
+    }
+
+    public static <U> void acceptPrettyPrinter(final JacksonProfile profile,
+                                               final BiConsumer<? super ObjectWriter, ? super U> consumer,
                                                final Supplier<? extends U> supplier) {
         if (consumer == null) {
             throw new NullPointerException("consumer is null");
@@ -174,14 +883,19 @@ public final class JacksonTests {
         if (supplier == null) {
             throw new NullPointerException("supplier is null");
         }
-        acceptPrintPrinter(p -> consumer.accept(p, supplier.get()));
+        acceptPrintPrinter(profile, p -> consumer.accept(p, supplier.get()));
     }
 
-    public static String getPrettyString(final Object value) {
+    public static <U> void acceptPrettyPrinter(final BiConsumer<? super ObjectWriter, ? super U> consumer,
+                                               final Supplier<? extends U> supplier) {
+        acceptPrettyPrinter(JacksonProfile.getDefault(), consumer, supplier);
+    }
+
+    public static String getPrettyString(final JacksonProfile profile, final Object value) {
         if (value == null) {
             throw new NullPointerException("value is null");
         }
-        return applyPrettyPrinter(w -> {
+        return applyPrettyPrinter(profile, w -> {
             try {
                 return w.writeValueAsString(value);
             } catch (final JsonProcessingException jpe) {
@@ -190,14 +904,152 @@ public final class JacksonTests {
         });
     }
 
+    public static String getPrettyString(final Object value) {
+        return getPrettyString(JacksonProfile.getDefault(), value);
+    }
+
+    /**
+     * Writes a pretty string of specified value, with specified profile, to specified writer without building an
+     * intermediate string. The writer is flushed but not closed.
+     *
+     * @param profile the profile to write with.
+     * @param value   the value to write.
+     * @param writer  the writer to which the value is written.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static void printPrettyStringTo(final JacksonProfile profile, final Object value, final Writer writer)
+            throws IOException {
+        if (profile == null) {
+            throw new NullPointerException("profile is null");
+        }
+        if (value == null) {
+            throw new NullPointerException("value is null");
+        }
+        if (writer == null) {
+            throw new NullPointerException("writer is null");
+        }
+        profile.getPrettyPrinterNotClosingTarget().writeValue(writer, value);
+    }
+
+    /**
+     * Writes a pretty string of specified value, with the default profile, to specified writer without building an
+     * intermediate string. The writer is flushed but not closed.
+     *
+     * @param value  the value to write.
+     * @param writer the writer to which the value is written.
+     * @throws IOException if an I/O error occurs.
+     * @see #printPrettyStringTo(JacksonProfile, Object, Writer)
+     */
+    public static void printPrettyStringTo(final Object value, final Writer writer) throws IOException {
+        printPrettyStringTo(JacksonProfile.getDefault(), value, writer);
+    }
+
+    /**
+     * Writes a pretty string of specified value, with specified profile, to specified stream, encoded in {@code UTF-8},
+     * without building an intermediate string. The stream is flushed but not closed.
+     *
+     * @param profile the profile to write with.
+     * @param value   the value to write.
+     * @param stream  the stream to which the value is written.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static void printPrettyStringTo(final JacksonProfile profile, final Object value, final OutputStream stream)
+            throws IOException {
+        if (profile == null) {
+            throw new NullPointerException("profile is null");
+        }
+        if (value == null) {
+            throw new NullPointerException("value is null");
+        }
+        if (stream == null) {
+            throw new NullPointerException("stream is null");
+        }
+        profile.getPrettyPrinterNotClosingTarget().writeValue(stream, value);
+    }
+
+    /**
+     * Writes a pretty string of specified value, with the default profile, to specified stream, encoded in
+     * {@code UTF-8}, without building an intermediate string. The stream is flushed but not closed.
+     *
+     * @param value  the value to write.
+     * @param stream the stream to which the value is written.
+     * @throws IOException if an I/O error occurs.
+     * @see #printPrettyStringTo(JacksonProfile, Object, OutputStream)
+     */
+    public static void printPrettyStringTo(final Object value, final OutputStream stream) throws IOException {
+        printPrettyStringTo(JacksonProfile.getDefault(), value, stream);
+    }
+
+    public static void printPrettyStringTo(final JacksonProfile profile, final Object value,
+                                           final PrintWriter writer) {
+        try {
+            printPrettyStringTo(profile, value, (Writer) writer);
+        } catch (final IOException ioe) {
+            throw new RuntimeException(ioe);
+        }
+        writer.println();
+    }
+
     public static void printPrettyStringTo(final Object value, final PrintWriter writer) {
-        requireNonNull(writer, "writer is null").println(
-                getPrettyString(requireNonNull(value, "value is null")));
+        printPrettyStringTo(JacksonProfile.getDefault(), value, writer);
+    }
+
+    /**
+     * A writer which prints characters to a print stream so that they are encoded in the stream's own charset.
+     */
+    private static final class PrintStreamWriter extends Writer {
+
+        private PrintStreamWriter(final PrintStream stream) {
+            super(stream);
+            this.stream = stream;
+        }
+
+        @Override
+        public void write(final char[] cbuf, final int off, final int len) {
+            stream.print(new String(cbuf, off, len));
+        }
+
+        @Override
+        public void write(final String str, final int off, final int len) {
+            stream.print(str.substring(off, off + len));
+        }
+
+        @Override
+        public void flush() {
+            stream.flush();
+        }
+
+        @Override
+        public void close() {
+            flush();
+        }
+
+        private final PrintStream stream;
+    }
+
+    /**
+     * Prints a pretty string of specified value, with specified profile, followed by a line separator, to specified
+     * stream. Characters are encoded in the charset of the stream.
+     *
+     * @param profile the profile to write with.
+     * @param value   the value to print.
+     * @param stream  the stream to which the value is printed.
+     */
+    public static void printPrettyStringTo(final JacksonProfile profile, final Object value,
+                                           final PrintStream stream) {
+        if (stream == null) {
+            throw new NullPointerException("stream is null");
+        }
+        try {
+            printPrettyStringTo(profile, value, new PrintStreamWriter(stream));
+        } catch (final IOException ioe) {
+            throw new RuntimeException(ioe);
+        }
+        stream.println();
     }
 
     public static void printPrettyStringTo(final Object value, final PrintStream stream) {
-        requireNonNull(stream, "writer is null").println(
-                getPrettyString(requireNonNull(value, "value is null")));
+        printPrettyStringTo(JacksonProfile.getDefault(), value, stream);
     }
 
     public static void printPrettyStringToSystemOut(final Object value) {
@@ -206,6 +1058,246 @@ public final class JacksonTests {
 
     // -----------------------------------------------------------------------------------------------------------------
 
+    /**
+     * The default maximum number of failures kept in results of round trips.
+     */
+    public static final int DEFAULT_ROUND_TRIP_FAILURE_LIMIT = 16;
+
+    private static final int ROUND_TRIP_FAILURE_JSON_LENGTH = 256;
+
+    /**
+     * Serializes and deserializes values, in parallel, using specified pool, and returns an aggregated result. Each
+     * value is written as JSON and read back with specified profile, and the value read is compared with the original
+     * value and, optionally, tested for validity; e.g. with {@code BeanValidationTests::isValid}. An exception thrown
+     * by {@code values} or by either predicate is recorded as a failure of the value.
+     *
+     * @param profile  the profile to write and read with.
+     * @param javaType the type of values.
+     * @param values   a function which returns a value for each index; must be safe for concurrent use.
+     * @param count    the number of values.
+     * @param equality a predicate which tests whether a value and its round-tripped value are equal; {@code null} for
+     *                 {@link Objects#equals(Object, Object)}.
+     * @param validity a predicate which tests whether a round-tripped value is valid; may be {@code null}.
+     * @param pool     the pool in which round trips are run.
+     * @param limit    the maximum number of failures kept in the result.
+     * @param <T>      value type parameter
+     * @return an aggregated result.
+     * @see RoundTripResult#getFailures()
+     */
+    public static <T> RoundTripResult<T> verifyRoundTrips(final JacksonProfile profile, final JavaType javaType,
+                                                          final IntFunction<? extends T> values, final int count,
+                                                          final BiPredicate<? super T, ? super T> equality,
+                                                          final Predicate<? super T> validity,
+                                                          final ForkJoinPool pool, final int limit) {
+        if (profile == null) {
+            throw new NullPointerException("profile is null");
+        }
+        if (javaType == null) {
+            throw new NullPointerException("javaType is null");
+        }
+        if (values == null) {
+            throw new NullPointerException("values is null");
+        }
+        if (count < 0) {
+            throw new IllegalArgumentException("count(" + count + ") < 0");
+        }
+        if (pool == null) {
+            throw new NullPointerException("pool is null");
+        }
+        if (limit < 0) {
+            throw new IllegalArgumentException("limit(" + limit + ") < 0");
+        }
+        final BiPredicate<? super T, ? super T> equals = equality == null ? Objects::equals : equality;
+        final ObjectWriter writer = profile.getObjectMapper().writerFor(javaType);
+        final ObjectReader reader = profile.readerFor(javaType);
+        final long started = System.nanoTime();
+        return pool.submit(() -> IntStream.range(0, count).parallel().collect(
+                () -> new RoundTripResult.Accumulator<T>(limit),
+                (a, i) -> roundTrip(a, i, values, writer, reader, equals, validity),
+                RoundTripResult.Accumulator::combine)
+        ).join().finish(System.nanoTime() - started);
+    }
+
+    /**
+     * Serializes and deserializes values, in parallel, using specified pool, and returns an aggregated result. Each
+     * value is written as JSON and read back with the default profile.
+     *
+     * @param javaType the type of values.
+     * @param values   a function which returns a value for each index; must be safe for concurrent use.
+     * @param count    the number of values.
+     * @param equality a predicate which tests whether a value and its round-tripped value are equal; {@code null} for
+     *                 {@link Objects#equals(Object, Object)}.
+     * @param validity a predicate which tests whether a round-tripped value is valid; may be {@code null}.
+     * @param pool     the pool in which round trips are run.
+     * @param limit    the maximum number of failures kept in the result.
+     * @param <T>      value type parameter
+     * @return an aggregated result.
+     * @see #verifyRoundTrips(JacksonProfile, JavaType, IntFunction, int, BiPredicate, Predicate, ForkJoinPool, int)
+     */
+    public static <T> RoundTripResult<T> verifyRoundTrips(final JavaType javaType,
+                                                          final IntFunction<? extends T> values, final int count,
+                                                          final BiPredicate<? super T, ? super T> equality,
+                                                          final Predicate<? super T> validity,
+                                                          final ForkJoinPool pool, final int limit) {
+        return verifyRoundTrips(JacksonProfile.getDefault(), javaType, values, count, equality, validity, pool,
+                                limit);
+    }
+
+    /**
+     * Serializes and deserializes values, with specified profile, in parallel, using the common pool, and returns an
+     * aggregated result. Values are compared with {@link Objects#equals(Object, Object)}.
+     *
+     * @param profile    the profile to write and read with.
+     * @param valueClass the class of values.
+     * @param values     a function which returns a value for each index; must be safe for concurrent use.
+     * @param count      the number of values.
+     * @param <T>        value type parameter
+     * @return an aggregated result.
+     * @see #verifyRoundTrips(JacksonProfile, JavaType, IntFunction, int, BiPredicate, Predicate, ForkJoinPool, int)
+     */
+    public static <T> RoundTripResult<T> verifyRoundTrips(final JacksonProfile profile, final Class<T> valueClass,
+                                                          final IntFunction<? extends T> values, final int count) {
+        if (profile == null) {
+            throw new NullPointerException("profile is null");
+        }
+        if (valueClass == null) {
+            throw new NullPointerException("valueClass is null");
+        }
+        return verifyRoundTrips(profile, profile.getObjectMapper().constructType(valueClass), values, count, null,
+                                null, ForkJoinPool.commonPool(), DEFAULT_ROUND_TRIP_FAILURE_LIMIT);
+    }
+
+    /**
+     * Serializes and deserializes values, with the default profile, in parallel, using the common pool, and returns an
+     * aggregated result. Values are compared with {@link Objects#equals(Object, Object)}.
+     *
+     * @param valueClass the class of values.
+     * @param values     a function which returns a value for each index; must be safe for concurrent use.
+     * @param count      the number of values.
+     * @param <T>        value type parameter
+     * @return an aggregated result.
+     * @see #verifyRoundTrips(JacksonProfile, Class, IntFunction, int)
+     */
+    public static <T> RoundTripResult<T> verifyRoundTrips(final Class<T> valueClass,
+                                                          final IntFunction<? extends T> values, final int count) {
+        return verifyRoundTrips(JacksonProfile.getDefault(), valueClass, values, count);
+    }
+
+    /**
+     * Serializes and deserializes elements of the top-level array of specified resource, with specified profile, in
+     * parallel, using specified pool, and returns an aggregated result.
+     *
+     * @param profile      the profile to read the resource, and to write and read elements, with.
+     * @param classLoader  a class loader for reading resource.
+     * @param resourceName the resource name.
+     * @param elementType  the type of elements.
+     * @param equality     a predicate which tests whether an element and its round-tripped element are equal;
+     *                     {@code null} for {@link Objects#equals(Object, Object)}.
+     * @param validity     a predicate which tests whether a round-tripped element is valid; may be {@code null}.
+     * @param pool         the pool in which round trips are run.
+     * @param limit        the maximum number of failures kept in the result.
+     * @param <T>          element type parameter
+     * @return an aggregated result.
+     * @throws IOException if an I/O error occurs while reading the resource.
+     * @see #verifyRoundTrips(JacksonProfile, JavaType, IntFunction, int, BiPredicate, Predicate, ForkJoinPool, int)
+     */
+    public static <T> RoundTripResult<T> verifyRoundTripsOfResource(final JacksonProfile profile,
+                                                                    final ClassLoader classLoader,
+                                                                    final String resourceName,
+                                                                    final JavaType elementType,
+                                                                    final BiPredicate<? super T, ? super T> equality,
+                                                                    final Predicate<? super T> validity,
+                                                                    final ForkJoinPool pool, final int limit)
+            throws IOException {
+        final List<T> elements;
+        try (Stream<T> stream = streamElementsFromResource(profile, classLoader, resourceName, elementType)) {
+            elements = stream.collect(Collectors.toList());
+        }
+        return verifyRoundTrips(profile, elementType, elements::get, elements.size(), equality, validity, pool,
+                                limit);
+    }
+
+    /**
+     * Serializes and deserializes elements of the top-level array of specified resource, with the default profile, in
+     * parallel, using specified pool, and returns an aggregated result.
+     *
+     * @param classLoader  a class loader for reading resource.
+     * @param resourceName the resource name.
+     * @param elementType  the type of elements.
+     * @param equality     a predicate which tests whether an element and its round-tripped element are equal;
+     *                     {@code null} for {@link Objects#equals(Object, Object)}.
+     * @param validity     a predicate which tests whether a round-tripped element is valid; may be {@code null}.
+     * @param pool         the pool in which round trips are run.
+     * @param limit        the maximum number of failures kept in the result.
+     * @param <T>          element type parameter
+     * @return an aggregated result.
+     * @throws IOException if an I/O error occurs while reading the resource.
+     * @see #verifyRoundTripsOfResource(JacksonProfile, ClassLoader, String, JavaType, BiPredicate, Predicate,
+     * ForkJoinPool, int)
+     */
+    public static <T> RoundTripResult<T> verifyRoundTripsOfResource(final ClassLoader classLoader,
+                                                                    final String resourceName,
+                                                                    final JavaType elementType,
+                                                                    final BiPredicate<? super T, ? super T> equality,
+                                                                    final Predicate<? super T> validity,
+                                                                    final ForkJoinPool pool, final int limit)
+            throws IOException {
+        return verifyRoundTripsOfResource(JacksonProfile.getDefault(), classLoader, resourceName, elementType,
+                                          equality, validity, pool, limit);
+    }
+
+    /**
+     * Runs a round trip of the value of specified index. Failures of the generator and of the predicates are recorded
+     * as failures of the value, rather than aborting the whole verification.
+     */
+    private static <T> void roundTrip(final RoundTripResult.Accumulator<T> accumulator, final int index,
+                                      final IntFunction<? extends T> values, final ObjectWriter writer,
+                                      final ObjectReader reader, final BiPredicate<? super T, ? super T> equality,
+                                      final Predicate<? super T> validity) {
+        final T value;
+        try {
+            value = values.apply(index);
+        } catch (final RuntimeException | AssertionError e) {
+            accumulator.acceptAborted(index, "failed to get the value: " + e);
+            return;
+        }
+        final long started = System.nanoTime();
+        final byte[] bytes;
+        final T read;
+        try {
+            bytes = writer.writeValueAsBytes(value);
+            read = reader.readValue(bytes);
+        } catch (final IOException | RuntimeException e) {
+            accumulator.acceptAborted(index, e.toString());
+            return;
+        }
+        final long nanos = System.nanoTime() - started; // validation excluded
+        final boolean equal;
+        try {
+            equal = equality.test(value, read);
+        } catch (final RuntimeException | AssertionError e) {
+            accumulator.accept(index, bytes.length, nanos, true, "failed to test equality: " + e);
+            return;
+        }
+        if (!equal) {
+            final String json = new String(bytes, 0, Math.min(bytes.length, ROUND_TRIP_FAILURE_JSON_LENGTH), UTF_8);
+            accumulator.accept(index, bytes.length, nanos, true,
+                               "not equal after round trip: " + json
+                               + (bytes.length > ROUND_TRIP_FAILURE_JSON_LENGTH ? "..." : ""));
+            return;
+        }
+        final boolean valid;
+        try {
+            valid = validity == null || validity.test(read);
+        } catch (final RuntimeException | AssertionError e) {
+            accumulator.accept(index, bytes.length, nanos, false, "failed to test validity: " + e);
+            return;
+        }
+        accumulator.accept(index, bytes.length, nanos, valid, null);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
     /**
      * Creates a new instance.
      */
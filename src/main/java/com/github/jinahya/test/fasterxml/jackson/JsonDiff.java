@@ -0,0 +1,414 @@
+package com.github.jinahya.test.fasterxml.jackson;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A structural comparison of two JSON trees. Differences are reported with <a
+ * href="https://tools.ietf.org/html/rfc6901">JSON Pointer</a> paths, and the comparison stops as soon as the maximum
+ * number of differences is collected. Numbers are compared by their values, e.g. {@code 1} equals to {@code 1.0}.
+ * <p>
+ * An instance of this class is immutable and safe for concurrent use.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see JsonDiffBuilder
+ */
+public final class JsonDiff {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * A difference between an expected node and an actual node.
+     */
+    public static final class Difference {
+
+        private Difference(final String path, final JsonNode expected, final JsonNode actual) {
+            super();
+            this.path = path;
+            this.expected = expected;
+            this.actual = actual;
+        }
+
+        @Override
+        public String toString() {
+            if (expected == null) {
+                return path + ": unexpected " + actual;
+            }
+            if (actual == null) {
+                return path + ": missing " + expected;
+            }
+            return path + ": expected " + expected + " but was " + actual;
+        }
+
+        /**
+         * Returns the JSON Pointer of the differing node.
+         *
+         * @return the JSON Pointer of the differing node.
+         */
+        public String getPath() {
+            return path;
+        }
+
+        /**
+         * Returns the expected node.
+         *
+         * @return the expected node; {@code null} if the actual node is unexpected.
+         */
+        public JsonNode getExpected() {
+            return expected;
+        }
+
+        /**
+         * Returns the actual node.
+         *
+         * @return the actual node; {@code null} if the expected node is missing.
+         */
+        public JsonNode getActual() {
+            return actual;
+        }
+
+        private final String path;
+
+        private final JsonNode expected;
+
+        private final JsonNode actual;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Parses specified JSON Pointer pattern into unescaped segments.
+     *
+     * @param pattern the pattern to parse.
+     * @return an array of segments.
+     */
+    static String[] segments(final String pattern) {
+        if (pattern == null) {
+            throw new NullPointerException("pattern is null");
+        }
+        if (pattern.isEmpty()) {
+            return new String[0];
+        }
+        if (pattern.charAt(0) != '/') {
+            throw new IllegalArgumentException("pattern doesn't start with '/': " + pattern);
+        }
+        final String[] segments = pattern.substring(1).split("/", -1);
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = segments[i].replace("~1", "/").replace("~0", "~");
+        }
+        return segments;
+    }
+
+    private static String escape(final String segment) {
+        if (segment.indexOf('~') < 0 && segment.indexOf('/') < 0) {
+            return segment;
+        }
+        return segment.replace("~", "~0").replace("/", "~1");
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The state of a single comparison.
+     */
+    private static final class Context {
+
+        private Context(final int limit) {
+            super();
+            this.limit = limit;
+        }
+
+        private void push(final String name) {
+            if (depth == names.length) {
+                names = Arrays.copyOf(names, depth << 1);
+                indices = Arrays.copyOf(indices, depth << 1);
+            }
+            names[depth++] = name;
+        }
+
+        private void push(final int index) {
+            push((String) null);
+            indices[depth - 1] = index;
+        }
+
+        private void pop() {
+            names[--depth] = null;
+        }
+
+        private String segment(final int i) {
+            return names[i] == null ? Integer.toString(indices[i]) : names[i];
+        }
+
+        private boolean full() {
+            return differences.size() >= limit;
+        }
+
+        private void add(final JsonNode expected, final JsonNode actual) {
+            final StringBuilder builder = new StringBuilder();
+            for (int i = 0; i < depth; i++) {
+                builder.append('/').append(escape(segment(i)));
+            }
+            differences.add(new Difference(builder.toString(), expected, actual));
+        }
+
+        private boolean matches(final List<String[]> patterns) {
+            for (final String[] pattern : patterns) {
+                if (pattern.length != depth) {
+                    continue;
+                }
+                int i = 0;
+                while (i < depth && ("*".equals(pattern[i]) || pattern[i].equals(segment(i)))) {
+                    i++;
+                }
+                if (i == depth) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private final int limit;
+
+        private final List<Difference> differences = new ArrayList<>();
+
+        private String[] names = new String[16]; // null for an array index
+
+        private int[] indices = new int[16];
+
+        private int depth;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    JsonDiff(final int maximumDifferences, final List<String[]> ignoredPaths, final Set<String> ignoredFields,
+             final List<String[]> unorderedPaths, final boolean allArraysUnordered) {
+        super();
+        this.maximumDifferences = maximumDifferences;
+        this.ignoredPaths = ignoredPaths;
+        this.ignoredFields = ignoredFields;
+        this.unorderedPaths = unorderedPaths;
+        this.allArraysUnordered = allArraysUnordered;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Compares specified trees and returns differences, up to the maximum number of differences.
+     *
+     * @param expected the expected tree.
+     * @param actual   the actual tree.
+     * @return an unmodifiable list of differences; empty if no difference found.
+     */
+    public List<Difference> diff(final JsonNode expected, final JsonNode actual) {
+        return diff(expected, actual, maximumDifferences);
+    }
+
+    /**
+     * Indicates whether specified trees are equal. This method stops at the first difference.
+     *
+     * @param expected the expected tree.
+     * @param actual   the actual tree.
+     * @return {@code true} if no difference found; {@code false} otherwise.
+     */
+    public boolean isEqual(final JsonNode expected, final JsonNode actual) {
+        return diff(expected, actual, 1).isEmpty();
+    }
+
+    /**
+     * Asserts that specified trees are equal.
+     *
+     * @param expected the expected tree.
+     * @param actual   the actual tree.
+     * @throws AssertionError if any difference found; the message lists the differences found.
+     */
+    public void assertEqual(final JsonNode expected, final JsonNode actual) {
+        final List<Difference> differences = diff(expected, actual);
+        if (differences.isEmpty()) {
+            return;
+        }
+        final StringBuilder message = new StringBuilder()
+                .append(differences.size()).append(" difference(s)")
+                .append(differences.size() == maximumDifferences ? " (stopped at the maximum)" : "").append(':');
+        differences.forEach(d -> message.append(System.lineSeparator()).append('\t').append(d));
+        throw new AssertionError(message.toString());
+    }
+
+    private List<Difference> diff(final JsonNode expected, final JsonNode actual, final int limit) {
+        if (expected == null) {
+            throw new NullPointerException("expected is null");
+        }
+        if (actual == null) {
+            throw new NullPointerException("actual is null");
+        }
+        final Context context = new Context(limit);
+        compare(context, expected, actual);
+        return Collections.unmodifiableList(context.differences);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private void compare(final Context context, final JsonNode expected, final JsonNode actual) {
+        if (expected == actual || context.matches(ignoredPaths)) {
+            return;
+        }
+        if (expected.isNumber() && actual.isNumber()) {
+            if (!numberEquals(expected, actual)) {
+                context.add(expected, actual);
+            }
+            return;
+        }
+        if (expected.getNodeType() != actual.getNodeType()) {
+            context.add(expected, actual);
+            return;
+        }
+        if (expected.isObject()) {
+            compareObjects(context, expected, actual);
+            return;
+        }
+        if (expected.isArray()) {
+            if (allArraysUnordered || context.matches(unorderedPaths)) {
+                compareUnorderedArrays(context, expected, actual);
+            } else {
+                compareArrays(context, expected, actual);
+            }
+            return;
+        }
+        if (!expected.equals(actual)) {
+            context.add(expected, actual);
+        }
+    }
+
+    private static boolean numberEquals(final JsonNode expected, final JsonNode actual) {
+        if (expected.getClass() == actual.getClass() && !expected.isBigDecimal()) { // scales may differ
+            return expected.equals(actual);
+        }
+        if (expected.isIntegralNumber() && actual.isIntegralNumber() && expected.canConvertToLong()
+            && actual.canConvertToLong()) {
+            return expected.longValue() == actual.longValue();
+        }
+        if (isFloatingPoint(expected) && !Double.isFinite(expected.doubleValue())
+            || isFloatingPoint(actual) && !Double.isFinite(actual.doubleValue())) { // NaN or infinity
+            return Double.compare(expected.doubleValue(), actual.doubleValue()) == 0;
+        }
+        return expected.decimalValue().compareTo(actual.decimalValue()) == 0;
+    }
+
+    private static boolean isFloatingPoint(final JsonNode node) {
+        return node.isDouble() || node.isFloat();
+    }
+
+    private void compareObjects(final Context context, final JsonNode expected, final JsonNode actual) {
+        for (final Iterator<Map.Entry<String, JsonNode>> i = expected.fields(); i.hasNext() && !context.full(); ) {
+            final Map.Entry<String, JsonNode> field = i.next();
+            final String name = field.getKey();
+            if (ignoredFields.contains(name)) {
+                continue;
+            }
+            context.push(name);
+            final JsonNode value = actual.get(name);
+            if (value == null) {
+                if (!context.matches(ignoredPaths)) {
+                    context.add(field.getValue(), null);
+                }
+            } else {
+                compare(context, field.getValue(), value);
+            }
+            context.pop();
+        }
+        for (final Iterator<Map.Entry<String, JsonNode>> i = actual.fields(); i.hasNext() && !context.full(); ) {
+            final Map.Entry<String, JsonNode> field = i.next();
+            final String name = field.getKey();
+            if (ignoredFields.contains(name) || expected.has(name)) {
+                continue;
+            }
+            context.push(name);
+            if (!context.matches(ignoredPaths)) {
+                context.add(null, field.getValue());
+            }
+            context.pop();
+        }
+    }
+
+    private void compareArrays(final Context context, final JsonNode expected, final JsonNode actual) {
+        final int size = Math.max(expected.size(), actual.size());
+        for (int i = 0; i < size && !context.full(); i++) {
+            context.push(i);
+            if (i >= actual.size()) {
+                context.add(expected.get(i), null);
+            } else if (i >= expected.size()) {
+                context.add(null, actual.get(i));
+            } else {
+                compare(context, expected.get(i), actual.get(i));
+            }
+            context.pop();
+        }
+    }
+
+    /**
+     * Matches elements regardless of their order. Elements equal to each other are matched by their hash codes first;
+     * each of remaining expected elements is then matched with any remaining actual element without a difference.
+     */
+    private void compareUnorderedArrays(final Context context, final JsonNode expected, final JsonNode actual) {
+        final BitSet matchedExpected = new BitSet(expected.size());
+        final BitSet matchedActual = new BitSet(actual.size());
+        final Map<JsonNode, Deque<Integer>> indices = new HashMap<>();
+        for (int j = 0; j < actual.size(); j++) {
+            indices.computeIfAbsent(actual.get(j), k -> new ArrayDeque<>(1)).add(j);
+        }
+        for (int i = 0; i < expected.size(); i++) {
+            final Deque<Integer> candidates = indices.get(expected.get(i));
+            if (candidates != null && !candidates.isEmpty()) {
+                matchedExpected.set(i);
+                matchedActual.set(candidates.poll());
+            }
+        }
+        for (int i = matchedExpected.nextClearBit(0); i < expected.size(); i = matchedExpected.nextClearBit(i + 1)) {
+            for (int j = matchedActual.nextClearBit(0); j < actual.size(); j = matchedActual.nextClearBit(j + 1)) {
+                final Context trial = new Context(1);
+                for (int k = 0; k < context.depth; k++) {
+                    trial.push(context.names[k]);
+                    trial.indices[k] = context.indices[k];
+                }
+                trial.push(i);
+                compare(trial, expected.get(i), actual.get(j));
+                if (trial.differences.isEmpty()) {
+                    matchedExpected.set(i);
+                    matchedActual.set(j);
+                    break;
+                }
+            }
+        }
+        for (int i = matchedExpected.nextClearBit(0); i < expected.size() && !context.full();
+             i = matchedExpected.nextClearBit(i + 1)) {
+            context.push(i);
+            context.add(expected.get(i), null);
+            context.pop();
+        }
+        for (int j = matchedActual.nextClearBit(0); j < actual.size() && !context.full();
+             j = matchedActual.nextClearBit(j + 1)) {
+            context.push(j);
+            context.add(null, actual.get(j));
+            context.pop();
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private final int maximumDifferences;
+
+    private final List<String[]> ignoredPaths;
+
+    private final Set<String> ignoredFields;
+
+    private final List<String[]> unorderedPaths;
+
+    private final boolean allArraysUnordered;
+}
@@ -0,0 +1,124 @@
+package com.github.jinahya.test.fasterxml.jackson;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A builder for instances of {@link JsonDiff}.
+ * <p>
+ * Paths are given as JSON Pointers in which a segment of {@code *} matches any single segment; e.g. {@code /items/*}
+ * matches {@code /items/0} and {@code /items/name}.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+public final class JsonDiffBuilder {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The default maximum number of differences to collect.
+     */
+    public static final int DEFAULT_MAXIMUM_DIFFERENCES = 16;
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new instance.
+     */
+    public JsonDiffBuilder() {
+        super();
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Builds a new instance of {@link JsonDiff} with current configuration.
+     *
+     * @return a new instance of {@link JsonDiff}.
+     */
+    public JsonDiff build() {
+        return new JsonDiff(maximumDifferences,
+                            Collections.unmodifiableList(new ArrayList<>(ignoredPaths)),
+                            Collections.unmodifiableSet(new HashSet<>(ignoredFields)),
+                            Collections.unmodifiableList(new ArrayList<>(unorderedPaths)),
+                            allArraysUnordered);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Sets the maximum number of differences to collect. A comparison stops as soon as this many differences are
+     * found. The default value is {@value #DEFAULT_MAXIMUM_DIFFERENCES}.
+     *
+     * @param maximumDifferences new value; must be positive.
+     * @return this builder.
+     */
+    public JsonDiffBuilder maximumDifferences(final int maximumDifferences) {
+        if (maximumDifferences <= 0) {
+            throw new IllegalArgumentException("maximumDifferences(" + maximumDifferences + ") <= 0");
+        }
+        this.maximumDifferences = maximumDifferences;
+        return this;
+    }
+
+    /**
+     * Adds a path whose nodes, and their descendants, are not compared.
+     *
+     * @param path the JSON Pointer of nodes to ignore.
+     * @return this builder.
+     */
+    public JsonDiffBuilder ignorePath(final String path) {
+        ignoredPaths.add(JsonDiff.segments(path));
+        return this;
+    }
+
+    /**
+     * Adds a name of fields which are not compared at any depth.
+     *
+     * @param name the field name to ignore.
+     * @return this builder.
+     */
+    public JsonDiffBuilder ignoreField(final String name) {
+        if (name == null) {
+            throw new NullPointerException("name is null");
+        }
+        ignoredFields.add(name);
+        return this;
+    }
+
+    /**
+     * Adds a path of arrays whose elements are compared regardless of their order.
+     *
+     * @param path the JSON Pointer of arrays.
+     * @return this builder.
+     */
+    public JsonDiffBuilder unorderedArray(final String path) {
+        unorderedPaths.add(JsonDiff.segments(path));
+        return this;
+    }
+
+    /**
+     * Sets whether elements of all arrays are compared regardless of their order.
+     *
+     * @param allArraysUnordered {@code true} to ignore the order of elements of all arrays; {@code false} otherwise.
+     * @return this builder.
+     */
+    public JsonDiffBuilder allArraysUnordered(final boolean allArraysUnordered) {
+        this.allArraysUnordered = allArraysUnordered;
+        return this;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private int maximumDifferences = DEFAULT_MAXIMUM_DIFFERENCES;
+
+    private final List<String[]> ignoredPaths = new ArrayList<>();
+
+    private final Set<String> ignoredFields = new HashSet<>();
+
+    private final List<String[]> unorderedPaths = new ArrayList<>();
+
+    private boolean allArraysUnordered;
+}
@@ -0,0 +1,430 @@
+package com.github.jinahya.test.fasterxml.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.util.JsonParserDelegate;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.github.jinahya.test.lang.ResourceTests;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded, in-memory cache of parsed JSON resources. Each resource is parsed once, by its class loader, name and
+ * type, and each caller gets an isolated copy so that no caller can corrupt what others get. Trees are copied with
+ * {@link JsonNode#deepCopy()}; values are deserialized again from a cached {@link TokenBuffer}, which skips decoding
+ * the resource. Floating-point numbers are buffered as {@link java.math.BigDecimal}s so that no precision is lost, and
+ * are reported as {@code double}s, as a parser of the resource does. Resources are parsed with the profile of the
+ * cache. Least recently used entries are evicted when either the number of entries exceeds the maximum size or
+ * the total number of parsed bytes exceeds the maximum weight.
+ * <p>
+ * An instance of this class is safe for concurrent use by multiple threads.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see JacksonTests#readValueFromResource(JacksonProfile, ClassLoader, String, JavaType)
+ * @see JacksonTests#readTreeFromResource(JacksonProfile, ClassLoader, String)
+ */
+@Slf4j
+public final class ParsedResourceCache {
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private static final class Key {
+
+        private Key(final ClassLoader loader, final String name, final JavaType javaType) {
+            super();
+            this.loader = loader;
+            this.name = name;
+            this.javaType = javaType;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key that = (Key) obj;
+            return loader == that.loader && name.equals(that.name) && javaType.equals(that.javaType);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * System.identityHashCode(loader) + name.hashCode()) + javaType.hashCode();
+        }
+
+        private final ClassLoader loader;
+
+        private final String name;
+
+        private final JavaType javaType;
+    }
+
+    private static final class Entry {
+
+        private Entry(final Object parsed, final long weight) {
+            super();
+            this.parsed = parsed;
+            this.weight = weight;
+        }
+
+        private final Object parsed; // a JsonNode or a TokenBuffer
+
+        private final long weight;
+    }
+
+    /**
+     * A parser of a buffer whose floating-point numbers are {@link java.math.BigDecimal}s, which reports them as
+     * {@code double}s unless asked for decimals.
+     */
+    private static final class BufferParser extends JsonParserDelegate {
+
+        private BufferParser(final TokenBuffer buffer) {
+            super(buffer.asParser());
+        }
+
+        @Override
+        public NumberType getNumberType() throws IOException {
+            final NumberType numberType = super.getNumberType();
+            return numberType == NumberType.BIG_DECIMAL ? NumberType.DOUBLE : numberType;
+        }
+
+        @Override
+        public Number getNumberValue() throws IOException {
+            if (super.getNumberType() == NumberType.BIG_DECIMAL) {
+                return super.getDoubleValue();
+            }
+            return super.getNumberValue();
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new instance which parses resources with specified profile, with specified bounds.
+     *
+     * @param profile       the profile to parse resources with.
+     * @param maximumSize   the maximum number of entries to hold; must be positive.
+     * @param maximumWeight the maximum number of parsed bytes to hold; must be positive.
+     */
+    public ParsedResourceCache(final JacksonProfile profile, final long maximumSize, final long maximumWeight) {
+        super();
+        if (profile == null) {
+            throw new NullPointerException("profile is null");
+        }
+        if (maximumSize <= 0L) {
+            throw new IllegalArgumentException("maximumSize(" + maximumSize + ") <= 0L");
+        }
+        if (maximumWeight <= 0L) {
+            throw new IllegalArgumentException("maximumWeight(" + maximumWeight + ") <= 0L");
+        }
+        this.profile = profile;
+        this.maximumSize = maximumSize;
+        this.maximumWeight = maximumWeight;
+        treeType = profile.getObjectMapper().constructType(JsonNode.class);
+    }
+
+    /**
+     * Creates a new instance which parses resources with the default profile, with specified bounds.
+     *
+     * @param maximumSize   the maximum number of entries to hold; must be positive.
+     * @param maximumWeight the maximum number of parsed bytes to hold; must be positive.
+     * @see #ParsedResourceCache(JacksonProfile, long, long)
+     */
+    public ParsedResourceCache(final long maximumSize, final long maximumWeight) {
+        this(JacksonProfile.getDefault(), maximumSize, maximumWeight);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns a copy of the tree parsed from specified resource.
+     *
+     * @param loader a class loader for reading resource; {@code null} for the default.
+     * @param name   the resource name.
+     * @return a copy of the cached tree.
+     * @throws IOException if an I/O error occurs while reading the resource.
+     */
+    public JsonNode readTreeFromResource(final ClassLoader loader, final String name) throws IOException {
+        final Entry entry = getEntry(loader, name, treeType);
+        if (entry != null) {
+            return ((JsonNode) entry.parsed).deepCopy();
+        }
+        return load(loader, name, treeType);
+    }
+
+    /**
+     * Returns a copy of the value of specified type parsed from specified resource.
+     *
+     * @param loader   a class loader for reading resource; {@code null} for the default.
+     * @param name     the resource name.
+     * @param javaType the value type.
+     * @param <T>      value type parameter
+     * @return a copy of the cached value.
+     * @throws IOException if an I/O error occurs while reading the resource.
+     */
+    public <T> T readValueFromResource(final ClassLoader loader, final String name, final JavaType javaType)
+            throws IOException {
+        if (javaType == null) {
+            throw new NullPointerException("javaType is null");
+        }
+        if (treeType.equals(javaType)) {
+            @SuppressWarnings({"unchecked"})
+            final T tree = (T) readTreeFromResource(loader, name);
+            return tree;
+        }
+        final Entry entry = getEntry(loader, name, javaType);
+        if (entry != null) {
+            try (JsonParser parser = new BufferParser((TokenBuffer) entry.parsed)) {
+                return profile.readerFor(javaType).readValue(parser);
+            }
+        }
+        return load(loader, name, javaType);
+    }
+
+    /**
+     * Returns a copy of the value of specified class parsed from specified resource.
+     *
+     * @param loader     a class loader for reading resource; {@code null} for the default.
+     * @param name       the resource name.
+     * @param valueClass the value class.
+     * @param <T>        value type parameter
+     * @return a copy of the cached value.
+     * @throws IOException if an I/O error occurs while reading the resource.
+     * @see #readValueFromResource(ClassLoader, String, JavaType)
+     */
+    public <T> T readValueFromResource(final ClassLoader loader, final String name,
+                                       final Class<? extends T> valueClass)
+            throws IOException {
+        if (valueClass == null) {
+            throw new NullPointerException("valueClass is null");
+        }
+        return readValueFromResource(loader, name, profile.getObjectMapper().constructType(valueClass));
+    }
+
+    /**
+     * Returns a copy of the value of specified type parsed from specified resource.
+     *
+     * @param loader        a class loader for reading resource; {@code null} for the default.
+     * @param name          the resource name.
+     * @param typeReference the value type.
+     * @param <T>           value type parameter
+     * @return a copy of the cached value.
+     * @throws IOException if an I/O error occurs while reading the resource.
+     * @see #readValueFromResource(ClassLoader, String, JavaType)
+     */
+    public <T> T readValueFromResource(final ClassLoader loader, final String name,
+                                       final TypeReference<? extends T> typeReference)
+            throws IOException {
+        if (typeReference == null) {
+            throw new NullPointerException("typeReference is null");
+        }
+        return readValueFromResource(loader, name,
+                                     profile.getObjectMapper().getTypeFactory().constructType(typeReference));
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private static ClassLoader loader(final ClassLoader loader) {
+        return loader == null ? ResourceTests.class.getClassLoader() : loader;
+    }
+
+    private static long weight(final JsonParser parser) {
+        return Math.max(parser.getCurrentLocation().getByteOffset(), 0L);
+    }
+
+    private Entry getEntry(final ClassLoader loader, final String name, final JavaType javaType) {
+        final Key key = new Key(loader(loader), Objects.requireNonNull(name, "name is null"), javaType);
+        synchronized (entries) {
+            final Entry entry = entries.get(key);
+            if (entry != null) {
+                hitCount.incrementAndGet();
+            }
+            return entry;
+        }
+    }
+
+    /**
+     * Parses specified resource, caches the parsed form, and returns a value which is not shared with the cache.
+     */
+    @SuppressWarnings({"unchecked"})
+    private <T> T load(final ClassLoader loader, final String name, final JavaType javaType) throws IOException {
+        missCount.incrementAndGet();
+        final Object[] result = new Object[1];
+        final Entry entry;
+        try {
+            entry = ResourceTests.applyDecompressedResourceStream(loader(loader), name, s -> {
+                try (JsonParser parser = profile.getObjectMapper().getFactory().createParser(s)) {
+                    if (treeType.equals(javaType)) {
+                        JsonNode tree = profile.getObjectMapper().readTree(parser);
+                        if (tree == null) { // no content; as JacksonTests#readTreeFromResource does
+                            tree = MissingNode.getInstance();
+                        }
+                        result[0] = tree.deepCopy();
+                        return new Entry(tree, weight(parser));
+                    }
+                    final TokenBuffer buffer = new TokenBuffer(parser).forceUseOfBigDecimal(true);
+                    if (parser.nextToken() != null) { // no content fails, below, as the reader does without cache
+                        buffer.copyCurrentStructure(parser);
+                    }
+                    try (JsonParser bufferParser = new BufferParser(buffer)) {
+                        result[0] = profile.readerFor(javaType).readValue(bufferParser);
+                    }
+                    return new Entry(buffer, weight(parser));
+                } catch (final IOException ioe) {
+                    throw new UncheckedIOException(ioe);
+                }
+            });
+        } catch (final UncheckedIOException uioe) {
+            throw uioe.getCause();
+        }
+        if (entry.weight > maximumWeight) {
+            log.debug("not caching '{}' of {} parsed byte(s); heavier than {}", name, entry.weight, maximumWeight);
+            return (T) result[0];
+        }
+        synchronized (entries) {
+            if (entries.putIfAbsent(new Key(loader(loader), name, javaType), entry) != null) {
+                return (T) result[0];
+            }
+            weight += entry.weight;
+            for (final Iterator<Entry> i = entries.values().iterator();
+                 (entries.size() > maximumSize || weight > maximumWeight) && i.hasNext(); ) {
+                weight -= i.next().weight;
+                i.remove();
+                evictionCount.incrementAndGet();
+            }
+        }
+        return (T) result[0];
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Discards all cached entries. Statistics are not reset.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+            weight = 0L;
+        }
+    }
+
+    /**
+     * Returns the profile with which this cache parses resources.
+     *
+     * @return the profile of this cache.
+     */
+    public JacksonProfile getProfile() {
+        return profile;
+    }
+
+    /**
+     * Returns the number of entries currently held by this cache.
+     *
+     * @return the number of cached entries.
+     */
+    public long getSize() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Returns the maximum number of entries this cache holds.
+     *
+     * @return the maximum number of entries.
+     */
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Returns the total number of parsed bytes of entries currently held by this cache.
+     *
+     * @return the total weight of cached entries.
+     */
+    public long getWeight() {
+        synchronized (entries) {
+            return weight;
+        }
+    }
+
+    /**
+     * Returns the maximum number of parsed bytes this cache holds.
+     *
+     * @return the maximum weight.
+     */
+    public long getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    /**
+     * Returns the number of requests served with copies of cached entries.
+     *
+     * @return the number of cache hits.
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Returns the number of requests which parsed the resource.
+     *
+     * @return the number of cache misses.
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Returns the number of entries evicted for the bounds.
+     *
+     * @return the number of evictions.
+     */
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Override
+    public String toString() {
+        return super.toString() + "{"
+               + "profile=" + profile.getName()
+               + ",maximumSize=" + maximumSize
+               + ",maximumWeight=" + maximumWeight
+               + ",size=" + getSize()
+               + ",weight=" + getWeight()
+               + ",hitCount=" + getHitCount()
+               + ",missCount=" + getMissCount()
+               + ",evictionCount=" + getEvictionCount()
+               + "}";
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private final JacksonProfile profile;
+
+    private final JavaType treeType;
+
+    private final long maximumSize;
+
+    private final long maximumWeight;
+
+    private final Map<Key, Entry> entries = new LinkedHashMap<>(16, .75f, true); // access-order for LRU
+
+    private long weight;
+
+    private final AtomicLong hitCount = new AtomicLong();
+
+    private final AtomicLong missCount = new AtomicLong();
+
+    private final AtomicLong evictionCount = new AtomicLong();
+}
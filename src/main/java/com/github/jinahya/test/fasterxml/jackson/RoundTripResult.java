@@ -0,0 +1,240 @@
+package com.github.jinahya.test.fasterxml.jackson;
+
+import com.github.jinahya.test.metrics.LatencyHistogram;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An aggregated result of serializing and deserializing multiple values.
+ *
+ * @param <T> value type parameter
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see JacksonTests#verifyRoundTrips(com.fasterxml.jackson.databind.JavaType, java.util.function.IntFunction, int,
+ * java.util.function.BiPredicate, java.util.function.Predicate, java.util.concurrent.ForkJoinPool, int)
+ */
+public final class RoundTripResult<T> {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * A mutable container which accumulates results of a part of values.
+     *
+     * @param <T> value type parameter
+     */
+    static final class Accumulator<T> {
+
+        Accumulator(final int limit) {
+            super();
+            this.limit = limit;
+        }
+
+        /**
+         * Accepts a completed round trip.
+         */
+        void accept(final int index, final int bytes, final long nanos, final boolean valid, final String failure) {
+            totalBytes += bytes;
+            latencies.record(nanos);
+            if (!valid) {
+                invalidCount++;
+            }
+            count++;
+            if (failure != null) {
+                fail(index, failure);
+            }
+        }
+
+        /**
+         * Accepts a round trip aborted by an exception; neither its bytes nor its latency is accumulated.
+         */
+        void acceptAborted(final int index, final String failure) {
+            count++;
+            fail(index, failure);
+        }
+
+        Accumulator<T> combine(final Accumulator<T> other) {
+            count += other.count;
+            failureCount += other.failureCount;
+            invalidCount += other.invalidCount;
+            totalBytes += other.totalBytes;
+            latencies.add(other.latencies);
+            failures.putAll(other.failures);
+            trim();
+            return this;
+        }
+
+        RoundTripResult<T> finish(final long elapsedNanos) {
+            return new RoundTripResult<>(count, failureCount, invalidCount, totalBytes, elapsedNanos, latencies,
+                                         failures);
+        }
+
+        private void fail(final int index, final String failure) {
+            failureCount++;
+            if (failures.size() < limit || (limit > 0 && index < failures.lastKey())) {
+                failures.put(index, failure);
+                trim();
+            }
+        }
+
+        private void trim() {
+            while (failures.size() > limit) {
+                failures.remove(failures.lastKey());
+            }
+        }
+
+        private final int limit;
+
+        private final LatencyHistogram latencies = new LatencyHistogram(); // not shared, to avoid contention
+
+        private long count;
+
+        private long failureCount;
+
+        private long invalidCount;
+
+        private long totalBytes;
+
+        private final TreeMap<Integer, String> failures = new TreeMap<>();
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private RoundTripResult(final long count, final long failureCount, final long invalidCount, final long totalBytes,
+                            final long elapsedNanos, final LatencyHistogram latencies,
+                            final SortedMap<Integer, String> failures) {
+        super();
+        this.count = count;
+        this.failureCount = failureCount;
+        this.invalidCount = invalidCount;
+        this.totalBytes = totalBytes;
+        this.elapsedNanos = elapsedNanos;
+        this.latencies = latencies;
+        this.failures = Collections.unmodifiableSortedMap(failures);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Override
+    public String toString() {
+        return super.toString() + "{"
+               + "count=" + count
+               + ",failureCount=" + failureCount
+               + ",invalidCount=" + invalidCount
+               + ",opsPerSecond=" + String.format("%.1f", getOpsPerSecond())
+               + ",bytesPerObject=" + String.format("%.1f", getBytesPerObject())
+               + ",p50=" + latencies.getValueAtPercentile(50.0d) + "ns"
+               + ",p99=" + latencies.getValueAtPercentile(99.0d) + "ns"
+               + "}";
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Indicates whether all values survived round trips and were valid.
+     *
+     * @return {@code true} if no failure and no invalid value; {@code false} otherwise.
+     */
+    public boolean isSuccessful() {
+        return failureCount == 0L && invalidCount == 0L;
+    }
+
+    /**
+     * Returns the number of values tried.
+     *
+     * @return the number of values tried.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the number of values which failed to be serialized, deserialized, or to be equal to their round-tripped
+     * values.
+     *
+     * @return the number of failures.
+     */
+    public long getFailureCount() {
+        return failureCount;
+    }
+
+    /**
+     * Returns the number of round-tripped values which were not valid.
+     *
+     * @return the number of invalid values.
+     */
+    public long getInvalidCount() {
+        return invalidCount;
+    }
+
+    /**
+     * Returns the total number of serialized bytes.
+     *
+     * @return the total number of serialized bytes.
+     */
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+
+    /**
+     * Returns the average number of serialized bytes per value whose round trip completed without an exception.
+     *
+     * @return the average number of bytes per value; {@code 0.0d} if no round trip completed.
+     */
+    public double getBytesPerObject() {
+        final long completed = latencies.getCount();
+        return completed == 0L ? 0.0d : totalBytes / (double) completed;
+    }
+
+    /**
+     * Returns the wall-clock time of all round trips.
+     *
+     * @return the elapsed time.
+     */
+    public Duration getElapsed() {
+        return Duration.ofNanos(elapsedNanos);
+    }
+
+    /**
+     * Returns the number of round trips per second, across all threads.
+     *
+     * @return the number of round trips per second.
+     */
+    public double getOpsPerSecond() {
+        return elapsedNanos == 0L ? 0.0d : count / (elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1L));
+    }
+
+    /**
+     * Returns the histogram of the latency, in nanoseconds, of each round trip completed without an exception.
+     *
+     * @return the histogram of round trip latencies.
+     */
+    public LatencyHistogram getLatencies() {
+        return latencies;
+    }
+
+    /**
+     * Returns reasons of failures of first failed values, up to the requested limit, mapped by the indices of the
+     * values.
+     *
+     * @return an unmodifiable map of failure reasons by value index.
+     */
+    public SortedMap<Integer, String> getFailures() {
+        return failures;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private final long count;
+
+    private final long failureCount;
+
+    private final long invalidCount;
+
+    private final long totalBytes;
+
+    private final long elapsedNanos;
+
+    private final LatencyHistogram latencies;
+
+    private final SortedMap<Integer, String> failures;
+}
@@ -0,0 +1,80 @@
+package com.github.jinahya.test.lang;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * An input stream which counts bytes read from the underlying stream and the time spent in reading them.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+public final class CountingInputStream extends FilterInputStream {
+
+    /**
+     * Creates a new instance on top of specified stream.
+     *
+     * @param in the underlying stream.
+     */
+    public CountingInputStream(final InputStream in) {
+        super(in);
+    }
+
+    @Override
+    public int read() throws IOException {
+        final long started = System.nanoTime();
+        final int b = super.read();
+        nanos += System.nanoTime() - started;
+        if (b != -1) {
+            count++;
+        }
+        return b;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        final long started = System.nanoTime();
+        final int r = super.read(b, off, len);
+        nanos += System.nanoTime() - started;
+        if (r > 0) {
+            count += r;
+        }
+        return r;
+    }
+
+    @Override
+    public long skip(final long n) throws IOException {
+        final long started = System.nanoTime();
+        final long s = super.skip(n);
+        nanos += System.nanoTime() - started;
+        count += s;
+        return s;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    /**
+     * Returns the number of bytes read, or skipped, so far.
+     *
+     * @return the number of bytes read so far.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the time, in nanoseconds, spent so far in reading, or skipping, bytes from the underlying stream.
+     *
+     * @return the time spent in reading so far.
+     */
+    public long getNanos() {
+        return nanos;
+    }
+
+    private long count;
+
+    private long nanos;
+}
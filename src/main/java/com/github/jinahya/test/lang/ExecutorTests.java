@@ -0,0 +1,120 @@
+package com.github.jinahya.test.lang;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executors for asynchronous test utilities.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+@Slf4j
+public final class ExecutorTests {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns a factory of virtual threads, if the runtime supports them.
+     *
+     * @return a factory of virtual threads; {@code null} if not supported.
+     */
+    public static ThreadFactory virtualThreadFactory() {
+        return VirtualThreadFactoryHolder.INSTANCE;
+    }
+
+    private static final class VirtualThreadFactoryHolder {
+
+        private static final ThreadFactory INSTANCE;
+
+        static {
+            ThreadFactory instance = null;
+            try {
+                final Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+                instance = (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory")
+                        .invoke(builder);
+                instance.newThread(() -> {
+                }); // fails when virtual threads are a disabled preview feature
+            } catch (final ReflectiveOperationException | RuntimeException e) {
+                log.debug("virtual threads are not supported", e);
+                instance = null;
+            }
+            INSTANCE = instance;
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns a new thread factory which creates daemon threads with names prefixed with specified value.
+     *
+     * @param prefix the prefix of thread names.
+     * @return a new thread factory.
+     */
+    public static ThreadFactory daemonThreadFactory(final String prefix) {
+        if (prefix == null) {
+            throw new NullPointerException("prefix is null");
+        }
+        final AtomicInteger sequence = new AtomicInteger();
+        return r -> {
+            final Thread thread = new Thread(r, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns a shared executor for asynchronous test utilities. The executor starts a new virtual thread for each task
+     * when the runtime supports virtual threads; otherwise it is a bounded pool of daemon threads.
+     *
+     * @return a shared executor.
+     */
+    public static Executor getTestExecutor() {
+        return TestExecutorHolder.INSTANCE;
+    }
+
+    private static final class TestExecutorHolder {
+
+        private static final Executor INSTANCE;
+
+        static {
+            final ThreadFactory virtual = virtualThreadFactory();
+            if (virtual != null) {
+                INSTANCE = r -> virtual.newThread(r).start();
+            } else {
+                final int size = Math.max(2, Runtime.getRuntime().availableProcessors());
+                final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                        size, size, 1L, TimeUnit.MINUTES, new LinkedBlockingQueue<>(),
+                        daemonThreadFactory("test-executor-"));
+                executor.allowCoreThreadTimeOut(true);
+                INSTANCE = executor;
+            }
+        }
+    }
+
+    /**
+     * Returns specified executor or, if {@code null}, the shared executor.
+     *
+     * @param executor the executor.
+     * @return {@code executor} if not {@code null}; {@link #getTestExecutor()} otherwise.
+     */
+    public static Executor executorOrDefault(final Executor executor) {
+        return executor == null ? getTestExecutor() : executor;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new instance.
+     */
+    private ExecutorTests() {
+        super();
+    }
+}
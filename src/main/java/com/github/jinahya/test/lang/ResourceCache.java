@@ -0,0 +1,243 @@
+package com.github.jinahya.test.lang;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * A size-bounded, in-memory cache of resource bytes. Each resource is read once, by its class loader and name, and
+ * each caller gets a fresh view of the cached bytes. Least recently used resources are evicted when the total size of
+ * cached bytes exceeds the maximum size.
+ * <p>
+ * An instance of this class is safe for concurrent use by multiple threads.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see ResourceTests#applyResourceStream(ClassLoader, String, Function)
+ */
+@Slf4j
+public final class ResourceCache {
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private static final class Key {
+
+        private Key(final ClassLoader loader, final String name) {
+            super();
+            this.loader = loader;
+            this.name = name;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key that = (Key) obj;
+            return loader == that.loader && name.equals(that.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(loader) + name.hashCode();
+        }
+
+        private final ClassLoader loader;
+
+        private final String name;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new instance with specified maximum size.
+     *
+     * @param maximumSize the maximum number of bytes to hold; must be positive.
+     */
+    public ResourceCache(final long maximumSize) {
+        super();
+        if (maximumSize <= 0L) {
+            throw new IllegalArgumentException("maximumSize(" + maximumSize + ") <= 0L");
+        }
+        this.maximumSize = maximumSize;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Applies a new stream of the cached bytes of specified resource to specified function and returns the result.
+     *
+     * @param loader   a class loader for reading resource; {@code null} for the class loader of {@link ResourceTests}.
+     * @param name     the resource name.
+     * @param function the function to be applied with the resource stream.
+     * @param <R>      result type parameter
+     * @return the result of the function.
+     * @throws IOException if an I/O error occurs while reading the resource.
+     */
+    public <R> R applyResourceStream(final ClassLoader loader, final String name,
+                                     final Function<? super InputStream, ? extends R> function)
+            throws IOException {
+        if (function == null) {
+            throw new NullPointerException("function is null");
+        }
+        return function.apply(new ByteArrayInputStream(getBytes(loader, name)));
+    }
+
+    /**
+     * Applies a new read-only buffer of the cached bytes of specified resource to specified function and returns the
+     * result.
+     *
+     * @param loader   a class loader for reading resource; {@code null} for the class loader of {@link ResourceTests}.
+     * @param name     the resource name.
+     * @param function the function to be applied with the resource buffer.
+     * @param <R>      result type parameter
+     * @return the result of the function.
+     * @throws IOException if an I/O error occurs while reading the resource.
+     */
+    public <R> R applyResourceBuffer(final ClassLoader loader, final String name,
+                                     final Function<? super ByteBuffer, ? extends R> function)
+            throws IOException {
+        if (function == null) {
+            throw new NullPointerException("function is null");
+        }
+        return function.apply(ByteBuffer.wrap(getBytes(loader, name)).asReadOnlyBuffer());
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns the cached bytes of specified resource, reading and caching them on a miss. The returned array is shared
+     * and must not be modified.
+     *
+     * @param loader a class loader for reading resource; {@code null} for the class loader of {@link ResourceTests}.
+     * @param name   the resource name.
+     * @return the cached bytes of the resource.
+     * @throws IOException if an I/O error occurs.
+     */
+    private byte[] getBytes(ClassLoader loader, final String name) throws IOException {
+        if (loader == null) {
+            loader = ResourceTests.class.getClassLoader();
+        }
+        final Key key = new Key(loader, Objects.requireNonNull(name, "name is null"));
+        synchronized (entries) {
+            final byte[] bytes = entries.get(key);
+            if (bytes != null) {
+                hitCount.incrementAndGet();
+                return bytes;
+            }
+        }
+        missCount.incrementAndGet();
+        final byte[] bytes = ResourceTests.readResourceBytes(loader, name); // outside the lock
+        if (bytes.length > maximumSize) {
+            log.debug("not caching {} byte(s) of '{}'; larger than {}", bytes.length, name, maximumSize);
+            return bytes;
+        }
+        synchronized (entries) {
+            final byte[] previous = entries.putIfAbsent(key, bytes);
+            if (previous != null) {
+                return previous;
+            }
+            size += bytes.length;
+            for (final Iterator<byte[]> i = entries.values().iterator(); size > maximumSize && i.hasNext(); ) {
+                size -= i.next().length;
+                i.remove();
+                evictionCount.incrementAndGet();
+            }
+        }
+        return bytes;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Discards all cached resources. Statistics are not reset.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+            size = 0L;
+        }
+    }
+
+    /**
+     * Returns the total number of bytes currently held by this cache.
+     *
+     * @return the total number of cached bytes.
+     */
+    public long getSize() {
+        synchronized (entries) {
+            return size;
+        }
+    }
+
+    /**
+     * Returns the maximum number of bytes this cache holds.
+     *
+     * @return the maximum number of bytes.
+     */
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Returns the number of requests served from cached bytes.
+     *
+     * @return the number of cache hits.
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Returns the number of requests which read the resource.
+     *
+     * @return the number of cache misses.
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Returns the number of resources evicted for the size bound.
+     *
+     * @return the number of evictions.
+     */
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Override
+    public String toString() {
+        return super.toString() + "{"
+               + "maximumSize=" + maximumSize
+               + ",size=" + getSize()
+               + ",hitCount=" + getHitCount()
+               + ",missCount=" + getMissCount()
+               + ",evictionCount=" + getEvictionCount()
+               + "}";
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private final long maximumSize;
+
+    private final Map<Key, byte[]> entries = new LinkedHashMap<>(16, .75f, true); // access-order for LRU
+
+    private long size;
+
+    private final AtomicLong hitCount = new AtomicLong();
+
+    private final AtomicLong missCount = new AtomicLong();
+
+    private final AtomicLong evictionCount = new AtomicLong();
+}
@@ -0,0 +1,562 @@
+package com.github.jinahya.test.lang;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.JarURLConnection;
+import java.net.MalformedURLException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * An index of resources of a class loader. Roots of the class loader, directories and jar files, are scanned once, in
+ * parallel, and the name, size and location of each resource is kept in memory so that resources can be looked up and
+ * globbed without asking the class loader.
+ * <p>
+ * Roots are found from the {@link URLClassLoader} chain, the {@code java.class.path} system property (when the system
+ * class loader is in the chain), and the locations of {@code ""} and {@code META-INF/MANIFEST.MF} resources. Resources
+ * of the runtime image (e.g. {@code java/lang/Object.class}) are not indexed. When a name appears in multiple roots,
+ * the first root, in class path order, wins.
+ * <p>
+ * An instance of this class is immutable and safe for concurrent use by multiple threads.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see ResourceTests#applyResourceStream(ClassLoader, String, Function)
+ */
+@Slf4j
+public final class ResourceIndex {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * An indexed resource.
+     */
+    public static final class Entry {
+
+        private Entry(final ClassLoader loader, final Root root, final String name, final long size) {
+            super();
+            this.loader = loader;
+            this.root = root;
+            this.name = name;
+            this.size = size;
+        }
+
+        @Override
+        public String toString() {
+            return super.toString() + "{"
+                   + "name=" + name
+                   + ",size=" + size
+                   + ",root=" + root.path
+                   + "}";
+        }
+
+        /**
+         * Applies a stream of this resource to specified function and returns the result.
+         *
+         * @param function the function to be applied with the resource stream.
+         * @param <R>      result type parameter.
+         * @return the result of the function.
+         * @throws IOException if an I/O error occurs.
+         * @see ResourceTests#applyResourceStream(ClassLoader, String, Function)
+         */
+        public <R> R applyResourceStream(final Function<? super InputStream, ? extends R> function)
+                throws IOException {
+            return ResourceTests.applyResourceStream(loader, name, function);
+        }
+
+        /**
+         * Returns the name of this resource.
+         *
+         * @return the name of this resource.
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Returns the size of this resource, in bytes.
+         *
+         * @return the size of this resource; {@code -1L} if unknown.
+         */
+        public long getSize() {
+            return size;
+        }
+
+        /**
+         * Returns the path of the directory or the jar file which contains this resource.
+         *
+         * @return the path of the root of this resource.
+         */
+        public Path getRoot() {
+            return root.path;
+        }
+
+        /**
+         * Returns the location of this resource.
+         *
+         * @return the URL of this resource.
+         */
+        public URL getLocation() {
+            try {
+                if (root.jar) {
+                    return new URL("jar:" + root.path.toUri() + "!/" + name);
+                }
+                return root.path.resolve(name).toUri().toURL();
+            } catch (final MalformedURLException murle) {
+                throw new UncheckedIOException(murle);
+            }
+        }
+
+        private final ClassLoader loader;
+
+        private final Root root;
+
+        private final String name;
+
+        private final long size;
+    }
+
+    private static final class Root {
+
+        private Root(final Path path, final boolean jar) {
+            super();
+            this.path = path;
+            this.jar = jar;
+        }
+
+        private final Path path;
+
+        private final boolean jar;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns the shared index of specified class loader, scanning it on the first call. Shared indices are held for
+     * the lifetime of the JVM and are not refreshed; use {@link #scan(ClassLoader, Executor)} for a fresh index.
+     *
+     * @param loader the class loader; {@code null} for the class loader of {@link ResourceTests}.
+     * @return the shared index of the class loader.
+     * @throws IOException if an I/O error occurs while scanning.
+     */
+    public static ResourceIndex of(ClassLoader loader) throws IOException {
+        if (loader == null) {
+            loader = ResourceTests.class.getClassLoader();
+        }
+        try {
+            return INDICES.computeIfAbsent(loader, l -> {
+                try {
+                    return scan(l, null);
+                } catch (final IOException ioe) {
+                    throw new UncheckedIOException(ioe);
+                }
+            });
+        } catch (final UncheckedIOException uioe) {
+            throw uioe.getCause();
+        }
+    }
+
+    private static final ConcurrentMap<ClassLoader, ResourceIndex> INDICES = new ConcurrentHashMap<>();
+
+    /**
+     * Scans all roots of specified class loader, each in a separate task of specified executor, and returns a new
+     * index.
+     *
+     * @param loader   the class loader; {@code null} for the class loader of {@link ResourceTests}.
+     * @param executor the executor in which roots are scanned; {@code null} for
+     *                 {@link ExecutorTests#getTestExecutor()}.
+     * @return a new index of the class loader.
+     * @throws IOException if an I/O error occurs while scanning.
+     */
+    public static ResourceIndex scan(ClassLoader loader, final Executor executor) throws IOException {
+        if (loader == null) {
+            loader = ResourceTests.class.getClassLoader();
+        }
+        final long started = System.nanoTime();
+        final List<Root> roots = roots(loader);
+        final List<CompletableFuture<List<Object>>> futures = new ArrayList<>(roots.size());
+        for (final Root root : roots) {
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return root.jar ? scanJar(root.path) : scanDirectory(root.path);
+                } catch (final IOException ioe) {
+                    throw new UncheckedIOException(ioe);
+                }
+            }, ExecutorTests.executorOrDefault(executor)));
+        }
+        final NavigableMap<String, Entry> entries = new TreeMap<>();
+        try {
+            for (int i = 0; i < roots.size(); i++) { // in class path order
+                final List<Object> scanned = futures.get(i).join();
+                for (int j = 0; j < scanned.size(); j += 2) {
+                    final String name = (String) scanned.get(j);
+                    entries.putIfAbsent(name, new Entry(loader, roots.get(i), name, (Long) scanned.get(j + 1)));
+                }
+            }
+        } catch (final CompletionException ce) {
+            if (ce.getCause() instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) ce.getCause()).getCause();
+            }
+            throw ce;
+        }
+        final ResourceIndex index = new ResourceIndex(loader, roots, entries, System.nanoTime() - started);
+        log.debug("scanned: {}", index);
+        return index;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns the roots of specified class loader, in class path order.
+     */
+    private static List<Root> roots(final ClassLoader loader) throws IOException {
+        final Set<Path> paths = new LinkedHashSet<>();
+        final Deque<ClassLoader> chain = new ArrayDeque<>();
+        for (ClassLoader l = loader; l != null; l = l.getParent()) {
+            chain.push(l); // parents first
+        }
+        boolean system = false;
+        for (final ClassLoader l : chain) {
+            system |= l == ClassLoader.getSystemClassLoader();
+            if (l instanceof URLClassLoader) {
+                for (final URL url : ((URLClassLoader) l).getURLs()) {
+                    addPath(paths, url);
+                }
+            }
+        }
+        if (system) {
+            for (final String element : System.getProperty("java.class.path", "").split(File.pathSeparator)) {
+                if (!element.isEmpty()) {
+                    try {
+                        paths.add(Paths.get(element).toAbsolutePath().normalize());
+                    } catch (final InvalidPathException ipe) {
+                        log.debug("skipping class path element '{}'", element, ipe);
+                    }
+                }
+            }
+        }
+        for (final String name : new String[] {"", "META-INF/MANIFEST.MF"}) {
+            for (final Enumeration<URL> e = loader.getResources(name); e.hasMoreElements(); ) {
+                URL url = e.nextElement();
+                if ("jar".equals(url.getProtocol())) {
+                    url = ((JarURLConnection) url.openConnection()).getJarFileURL();
+                }
+                addPath(paths, url);
+            }
+        }
+        final List<Root> roots = new ArrayList<>(paths.size());
+        for (final Path path : paths) {
+            if (Files.isDirectory(path)) {
+                roots.add(new Root(path, false));
+            } else if (Files.isRegularFile(path)) {
+                roots.add(new Root(path, true));
+            }
+        }
+        return roots;
+    }
+
+    private static void addPath(final Set<Path> paths, final URL url) {
+        if (!"file".equals(url.getProtocol())) {
+            return;
+        }
+        try {
+            paths.add(Paths.get(url.toURI()).toAbsolutePath().normalize());
+        } catch (final URISyntaxException | RuntimeException e) {
+            log.debug("skipping root {}", url, e);
+        }
+    }
+
+    /**
+     * Returns names and sizes of all regular files under specified directory, alternately.
+     */
+    private static List<Object> scanDirectory(final Path directory) throws IOException {
+        final List<Object> scanned = new ArrayList<>();
+        Files.walkFileTree(directory, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+                if (attrs.isRegularFile()) {
+                    scanned.add(directory.relativize(file).toString().replace(File.separatorChar, '/'));
+                    scanned.add(attrs.size());
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(final Path file, final IOException exc) {
+                log.debug("skipping {}", file, exc);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        return scanned;
+    }
+
+    /**
+     * Returns names and sizes of all non-directory entries of specified jar file, alternately.
+     */
+    private static List<Object> scanJar(final Path jar) throws IOException {
+        final List<Object> scanned = new ArrayList<>();
+        try (ZipFile zip = new ZipFile(jar.toFile())) {
+            for (final Enumeration<? extends ZipEntry> e = zip.entries(); e.hasMoreElements(); ) {
+                final ZipEntry entry = e.nextElement();
+                if (!entry.isDirectory()) {
+                    scanned.add(entry.getName());
+                    scanned.add(entry.getSize());
+                }
+            }
+        }
+        return scanned;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Compiles specified glob pattern into a regular expression. A {@code *} matches any characters except {@code /},
+     * a {@code **} matches any characters, a {@code **}{@code /} matches zero or more directories, a {@code ?} matches
+     * any single character except {@code /}, and a <code>{a,b}</code> matches either alternative.
+     *
+     * @param glob the glob pattern.
+     * @return a compiled pattern.
+     */
+    static Pattern compile(final String glob) {
+        if (glob == null) {
+            throw new NullPointerException("glob is null");
+        }
+        final StringBuilder regex = new StringBuilder(glob.length() * 2);
+        int depth = 0;
+        for (int i = 0; i < glob.length(); i++) {
+            final char c = glob.charAt(i);
+            switch (c) {
+                case '*':
+                    if (i + 1 < glob.length() && glob.charAt(i + 1) == '*') {
+                        i++;
+                        if (i + 1 < glob.length() && glob.charAt(i + 1) == '/') {
+                            i++;
+                            regex.append("(?:.*/)?");
+                        } else {
+                            regex.append(".*");
+                        }
+                    } else {
+                        regex.append("[^/]*");
+                    }
+                    break;
+                case '?':
+                    regex.append("[^/]");
+                    break;
+                case '{':
+                    depth++;
+                    regex.append("(?:");
+                    break;
+                case '}':
+                    if (depth == 0) {
+                        throw new IllegalArgumentException("unbalanced '}' at " + i + " in '" + glob + "'");
+                    }
+                    depth--;
+                    regex.append(')');
+                    break;
+                case ',':
+                    regex.append(depth > 0 ? "|" : ",");
+                    break;
+                default:
+                    if ("\\.[]()^$+|".indexOf(c) >= 0) {
+                        regex.append('\\');
+                    }
+                    regex.append(c);
+                    break;
+            }
+        }
+        if (depth > 0) {
+            throw new IllegalArgumentException("unbalanced '{' in '" + glob + "'");
+        }
+        return Pattern.compile(regex.toString());
+    }
+
+    /**
+     * Returns the literal prefix of specified glob pattern which every matching name starts with.
+     */
+    private static String prefix(final String glob) {
+        for (int i = 0; i < glob.length(); i++) {
+            if ("*?{".indexOf(glob.charAt(i)) >= 0) {
+                return glob.substring(0, i);
+            }
+        }
+        return glob;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private ResourceIndex(final ClassLoader loader, final List<Root> roots, final NavigableMap<String, Entry> entries,
+                          final long elapsedNanos) {
+        super();
+        this.loader = loader;
+        this.roots = roots;
+        this.entries = entries;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Override
+    public String toString() {
+        return super.toString() + "{"
+               + "roots=" + roots.size()
+               + ",size=" + entries.size()
+               + ",elapsed=" + getElapsed()
+               + "}";
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns the entry of specified resource name.
+     *
+     * @param name the resource name.
+     * @return the entry of the resource; {@code null} if not indexed.
+     */
+    public Entry getEntry(final String name) {
+        if (name == null) {
+            throw new NullPointerException("name is null");
+        }
+        return entries.get(name);
+    }
+
+    /**
+     * Returns a stream of all entries, ordered by their names.
+     *
+     * @return a stream of all entries.
+     */
+    public Stream<Entry> entries() {
+        return entries.values().stream();
+    }
+
+    /**
+     * Returns a stream of entries whose names match specified glob pattern, ordered by their names. Only entries
+     * starting with the literal prefix of the pattern are tested.
+     *
+     * @param glob the glob pattern; e.g. {@code com/example/**}{@code /*.json}.
+     * @return a stream of matching entries.
+     * @see #compile(String)
+     */
+    public Stream<Entry> glob(final String glob) {
+        final Pattern pattern = compile(glob);
+        final String prefix = prefix(glob);
+        final Map<String, Entry> candidates
+                = prefix.isEmpty() ? entries : entries.subMap(prefix, true, prefix + Character.MAX_VALUE, true);
+        return candidates.values().stream().filter(e -> pattern.matcher(e.name).matches());
+    }
+
+    /**
+     * Returns a stream of names of resources which match specified glob pattern, ordered. The stream is suitable as a
+     * source of arguments of parameterized tests.
+     *
+     * @param glob the glob pattern.
+     * @return a stream of matching names.
+     * @see #glob(String)
+     */
+    public Stream<String> names(final String glob) {
+        return glob(glob).map(Entry::getName);
+    }
+
+    /**
+     * Returns a lazy stream of results of applying specified function to a stream of each resource whose name matches
+     * specified glob pattern. An I/O error is thrown as an {@link UncheckedIOException} from the terminal operation.
+     *
+     * @param glob     the glob pattern.
+     * @param function the function to be applied with each resource stream.
+     * @param <R>      result type parameter.
+     * @return a stream of results.
+     * @see Entry#applyResourceStream(Function)
+     */
+    public <R> Stream<R> applyResourceStreams(final String glob,
+                                              final Function<? super InputStream, ? extends R> function) {
+        if (function == null) {
+            throw new NullPointerException("function is null");
+        }
+        return glob(glob).map(e -> {
+            try {
+                return e.applyResourceStream(function);
+            } catch (final IOException ioe) {
+                throw new UncheckedIOException(ioe);
+            }
+        });
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns the class loader of this index.
+     *
+     * @return the class loader of this index.
+     */
+    public ClassLoader getClassLoader() {
+        return loader;
+    }
+
+    /**
+     * Returns the paths of scanned roots, in class path order.
+     *
+     * @return an unmodifiable list of root paths.
+     */
+    public List<Path> getRoots() {
+        final List<Path> paths = new ArrayList<>(roots.size());
+        roots.forEach(r -> paths.add(r.path));
+        return Collections.unmodifiableList(paths);
+    }
+
+    /**
+     * Returns the number of indexed resources.
+     *
+     * @return the number of indexed resources.
+     */
+    public int getSize() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the time taken to scan the roots.
+     *
+     * @return the scan duration.
+     */
+    public Duration getElapsed() {
+        return Duration.ofNanos(elapsedNanos);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private final ClassLoader loader;
+
+    private final List<Root> roots;
+
+    private final NavigableMap<String, Entry> entries;
+
+    private final long elapsedNanos;
+}
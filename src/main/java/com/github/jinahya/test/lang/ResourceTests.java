@@ -1,14 +1,38 @@
 package com.github.jinahya.test.lang;
 
+import com.github.jinahya.test.metrics.MetricsTests;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+
+import static com.github.jinahya.test.metrics.TestMetrics.CATEGORY_RESOURCE;
 
 @Slf4j
 public final class ResourceTests {
@@ -39,8 +63,40 @@ public final class ResourceTests {
         }
         try (InputStream resourceStream = loader.getResourceAsStream(name)) {
             assert resourceStream != null : "null resource stream from '" + name + "'";
-            return function.apply(resourceStream);
+            if (!MetricsTests.isEnabled()) {
+                return function.apply(resourceStream);
+            }
+            final CountingInputStream countingStream = new CountingInputStream(resourceStream);
+            try {
+                return function.apply(countingStream);
+            } finally {
+                MetricsTests.recordElapsed(CATEGORY_RESOURCE, name, countingStream.getCount(),
+                                           countingStream.getNanos());
+            }
+        }
+    }
+
+    /**
+     * Opens a stream of specified resource. The caller is responsible for closing the returned stream.
+     *
+     * @param loader a class loader for reading resource; {@code null} for the class loader of this class.
+     * @param name   the resource name to open.
+     * @return an input stream of the resource.
+     * @throws IOException if no resource found or an I/O error occurs.
+     * @see #applyResourceStream(ClassLoader, String, Function)
+     */
+    public static InputStream openResourceStream(ClassLoader loader, final String name) throws IOException {
+        if (loader == null) {
+            loader = ResourceTests.class.getClassLoader();
+        }
+        if (name == null) {
+            throw new NullPointerException("name is null");
+        }
+        final InputStream resourceStream = loader.getResourceAsStream(name);
+        if (resourceStream == null) {
+            throw new FileNotFoundException("no resource for '" + name + "'");
         }
+        return resourceStream;
     }
 
     public static <U, R> R applyResourceStream(final ClassLoader loader, final String name,
@@ -81,6 +137,476 @@ public final class ResourceTests {
         acceptResourceStream(loader, name, s -> consumer.accept(s, supplier.get()));
     }
 
+    /**
+     * Applies a stream of specified resource to specified function asynchronously using specified executor. The
+     * returned future completes exceptionally with an {@link UncheckedIOException} if an I/O error occurs.
+     *
+     * @param loader   a class loader for reading resource; {@code null} for the class loader of this class.
+     * @param name     the resource name to open.
+     * @param function the function to be applied with the resource stream.
+     * @param executor the executor to use; {@code null} for {@link ExecutorTests#getTestExecutor()}.
+     * @param <R>      result type parameter.
+     * @return a future of the result of the function.
+     */
+    public static <R> CompletableFuture<R> applyResourceStreamAsync(
+            final ClassLoader loader, final String name, final Function<? super InputStream, ? extends R> function,
+            final Executor executor) {
+        if (name == null) {
+            throw new NullPointerException("name is null");
+        }
+        if (function == null) {
+            throw new NullPointerException("function is null");
+        }
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return applyResourceStream(loader, name, function);
+            } catch (final IOException ioe) {
+                throw new UncheckedIOException(ioe);
+            }
+        }, ExecutorTests.executorOrDefault(executor));
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Applies a read-only buffer of the content of specified resource to specified function and returns the result.
+     * A resource of {@code file} protocol is mapped into memory with {@link FileChannel#map(FileChannel.MapMode, long,
+     * long)}. Any other resource (e.g. an entry of a {@code jar} file) is read into a pooled direct buffer. In both
+     * cases no copy of the content is made on the heap. The buffer is valid only while the function is applied and must
+     * not be retained.
+     *
+     * @param loader   a class loader for reading resource.
+     * @param name     the resource name to open.
+     * @param function the function to be applied with the resource buffer.
+     * @param <R>      result type parameter.
+     * @return the result of the function
+     * @throws IOException if an I/O error occurs.
+     */
+    public static <R> R applyResourceBuffer(ClassLoader loader, final String name,
+                                            final Function<? super ByteBuffer, ? extends R> function)
+            throws IOException {
+        if (loader == null) {
+            loader = ResourceTests.class.getClassLoader();
+        }
+        if (name == null) {
+            throw new NullPointerException("name is null");
+        }
+        if (function == null) {
+            throw new NullPointerException("function is null");
+        }
+        final URL resource = loader.getResource(name);
+        if (resource == null) {
+            throw new FileNotFoundException("no resource for '" + name + "'");
+        }
+        if ("file".equals(resource.getProtocol())) {
+            final Path path;
+            try {
+                path = Paths.get(resource.toURI());
+            } catch (final URISyntaxException urise) {
+                throw new IOException("failed to locate " + resource, urise);
+            }
+            final long started = System.nanoTime();
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                final long size = channel.size();
+                final ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0L, size);
+                MetricsTests.record(CATEGORY_RESOURCE, name, size, started);
+                return function.apply(mapped);
+            }
+        }
+        final long started = System.nanoTime();
+        final URLConnection connection = resource.openConnection();
+        final long length = connection.getContentLengthLong();
+        ByteBuffer buffer = POOLED_DIRECT_BUFFER.getAndSet(null);
+        if (buffer == null || buffer.capacity() < length) {
+            buffer = ByteBuffer.allocateDirect((int) Math.min(Math.max(length, 8192L), MAX_BUFFER_CAPACITY));
+        }
+        try (ReadableByteChannel channel = Channels.newChannel(connection.getInputStream())) {
+            buffer.clear();
+            while (channel.read(buffer) != -1) {
+                if (!buffer.hasRemaining()) {
+                    if (buffer.capacity() >= MAX_BUFFER_CAPACITY && channel.read(ByteBuffer.allocate(1)) == -1) {
+                        break;
+                    }
+                    final int capacity = grow(name, buffer.capacity());
+                    buffer.flip();
+                    buffer = ByteBuffer.allocateDirect(capacity).put(buffer);
+                }
+            }
+            buffer.flip();
+            MetricsTests.record(CATEGORY_RESOURCE, name, buffer.limit(), started);
+            return function.apply(buffer.asReadOnlyBuffer());
+        } finally {
+            POOLED_DIRECT_BUFFER.set(buffer);
+        }
+    }
+
+    /**
+     * The maximum capacity of buffers of {@link #applyResourceBuffer(ClassLoader, String, Function)}, the conventional
+     * maximum size of arrays.
+     */
+    static final int MAX_BUFFER_CAPACITY = Integer.MAX_VALUE - 8;
+
+    /**
+     * Returns a doubled capacity, capped at {@link #MAX_BUFFER_CAPACITY}, for a buffer of specified resource.
+     *
+     * @param name     the resource name.
+     * @param capacity the current capacity.
+     * @return a new capacity.
+     * @throws IOException if {@code capacity} is already {@link #MAX_BUFFER_CAPACITY}.
+     */
+    static int grow(final String name, final int capacity) throws IOException {
+        if (capacity >= MAX_BUFFER_CAPACITY) {
+            throw new IOException("resource '" + name + "' is larger than " + MAX_BUFFER_CAPACITY + " bytes");
+        }
+        return (int) Math.min((long) capacity << 1, MAX_BUFFER_CAPACITY);
+    }
+
+    /**
+     * A direct buffer reused by {@link #applyResourceBuffer(ClassLoader, String, Function)} for non-file resources.
+     */
+    private static final AtomicReference<ByteBuffer> POOLED_DIRECT_BUFFER = new AtomicReference<>();
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Compression formats of resources. Decompressors of {@link #ZSTD} and {@link #LZ4} are looked up reflectively
+     * and require {@code com.github.luben:zstd-jni} and {@code org.lz4:lz4-java}, respectively, on the class path.
+     */
+    public enum Compression {
+
+        /**
+         * The gzip format.
+         */
+        GZIP(".gz", new byte[] {0x1F, (byte) 0x8B}, null) {
+            @Override
+            public InputStream decompress(final InputStream stream, final int bufferSize) throws IOException {
+                return new GZIPInputStream(stream, bufferSize);
+            }
+        },
+
+        /**
+         * The Zstandard format.
+         */
+        ZSTD(".zst", new byte[] {0x28, (byte) 0xB5, 0x2F, (byte) 0xFD}, "com.github.luben.zstd.ZstdInputStream"),
+
+        /**
+         * The LZ4 frame format.
+         */
+        LZ4(".lz4", new byte[] {0x04, 0x22, 0x4D, 0x18}, "net.jpountz.lz4.LZ4FrameInputStream");
+
+        Compression(final String suffix, final byte[] magic, final String decompressorName) {
+            this.suffix = suffix;
+            this.magic = magic;
+            this.decompressorName = decompressorName;
+        }
+
+        /**
+         * Returns the compression format indicated by the suffix of specified resource name.
+         *
+         * @param name the resource name.
+         * @return the compression format; {@code null} if {@code name} has no suffix of any compression format.
+         */
+        public static Compression ofName(final String name) {
+            if (name == null) {
+                throw new NullPointerException("name is null");
+            }
+            for (final Compression compression : values()) {
+                if (name.endsWith(compression.suffix)) {
+                    return compression;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Detects the compression format of the content of specified stream by its leading bytes. The stream is reset
+         * to where it was.
+         *
+         * @param stream the stream to examine; must support {@link InputStream#mark(int)}.
+         * @return the compression format; {@code null} if the content is not compressed in any known format.
+         * @throws IOException if an I/O error occurs.
+         */
+        public static Compression sniff(final InputStream stream) throws IOException {
+            if (stream == null) {
+                throw new NullPointerException("stream is null");
+            }
+            if (!stream.markSupported()) {
+                throw new IllegalArgumentException("stream doesn't support mark");
+            }
+            final byte[] head = new byte[MAGIC_LENGTH];
+            final int length;
+            stream.mark(head.length);
+            try {
+                length = readHead(stream, head);
+            } finally {
+                stream.reset();
+            }
+            return match(head, length);
+        }
+
+        /**
+         * Detects the compression format of the content of specified stream by its leading bytes, which are pushed
+         * back.
+         *
+         * @param stream the stream to examine; its pushback buffer must hold the longest magic bytes.
+         * @return the compression format; {@code null} if the content is not compressed in any known format.
+         * @throws IOException if an I/O error occurs.
+         */
+        static Compression sniff(final PushbackInputStream stream) throws IOException {
+            final byte[] head = new byte[MAGIC_LENGTH];
+            final int length = readHead(stream, head);
+            stream.unread(head, 0, length);
+            return match(head, length);
+        }
+
+        private static int readHead(final InputStream stream, final byte[] head) throws IOException {
+            int length = 0;
+            for (int r; length < head.length && (r = stream.read(head, length, head.length - length)) != -1; ) {
+                length += r;
+            }
+            return length;
+        }
+
+        private static Compression match(final byte[] head, final int length) {
+            for (final Compression compression : values()) {
+                if (compression.matches(head, length)) {
+                    return compression;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Returns the suffix, including the leading dot, of resource names in this format.
+         *
+         * @return the suffix of resource names in this format.
+         */
+        public String getSuffix() {
+            return suffix;
+        }
+
+        /**
+         * Returns a stream which decompresses specified stream on the fly.
+         *
+         * @param stream     the stream of compressed content.
+         * @param bufferSize the size of buffers.
+         * @return a stream of decompressed content.
+         * @throws IOException if the decompressor is not available or an I/O error occurs.
+         */
+        public InputStream decompress(final InputStream stream, final int bufferSize) throws IOException {
+            final Constructor<?> constructor;
+            try {
+                constructor = Class.forName(decompressorName).getConstructor(InputStream.class);
+            } catch (final ReflectiveOperationException roe) {
+                throw new IOException("no decompressor for " + this + "; add " + decompressorName
+                                      + " to the class path", roe);
+            }
+            try {
+                return new BufferedInputStream((InputStream) constructor.newInstance(stream), bufferSize);
+            } catch (final InvocationTargetException ite) {
+                final Throwable cause = ite.getCause();
+                if (cause instanceof IOException) {
+                    throw (IOException) cause;
+                }
+                throw new IOException("failed to create a decompressor for " + this, cause);
+            } catch (final ReflectiveOperationException roe) {
+                throw new IOException("failed to create a decompressor for " + this, roe);
+            }
+        }
+
+        private boolean matches(final byte[] head, final int length) {
+            if (length < magic.length) {
+                return false;
+            }
+            for (int i = 0; i < magic.length; i++) {
+                if (head[i] != magic[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private final String suffix;
+
+        private final byte[] magic;
+
+        private final String decompressorName;
+    }
+
+    private static final int MAGIC_LENGTH = 4;
+
+    /**
+     * The default size of buffers for decompressing resources.
+     */
+    public static final int DEFAULT_DECOMPRESSION_BUFFER_SIZE = 65536;
+
+    private static volatile int decompressionBufferSize = DEFAULT_DECOMPRESSION_BUFFER_SIZE;
+
+    /**
+     * Returns the size of buffers used for decompressing resources when no size is specified.
+     *
+     * @return the size of buffers for decompression.
+     */
+    public static int getDecompressionBufferSize() {
+        return decompressionBufferSize;
+    }
+
+    /**
+     * Replaces the size of buffers used for decompressing resources when no size is specified.
+     *
+     * @param decompressionBufferSize new size of buffers for decompression; must be positive.
+     */
+    public static void setDecompressionBufferSize(final int decompressionBufferSize) {
+        if (decompressionBufferSize <= 0) {
+            throw new IllegalArgumentException("decompressionBufferSize(" + decompressionBufferSize + ") <= 0");
+        }
+        ResourceTests.decompressionBufferSize = decompressionBufferSize;
+    }
+
+    /**
+     * Returns a stream which decompresses specified stream of specified resource, if compressed. The compression format
+     * is detected by the suffix of {@code name} or, if none, by the leading bytes of the content. An uncompressed
+     * stream is returned as is or, if it doesn't support {@link InputStream#mark(int)}, wrapped in a
+     * {@link PushbackInputStream} holding only the examined bytes.
+     *
+     * @param name       the resource name.
+     * @param stream     the stream of the resource.
+     * @param bufferSize the size of buffers.
+     * @return a stream of decompressed content.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static InputStream decompress(final String name, InputStream stream, final int bufferSize)
+            throws IOException {
+        if (name == null) {
+            throw new NullPointerException("name is null");
+        }
+        if (stream == null) {
+            throw new NullPointerException("stream is null");
+        }
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("bufferSize(" + bufferSize + ") <= 0");
+        }
+        Compression compression = Compression.ofName(name);
+        if (compression == null) {
+            if (stream.markSupported()) {
+                compression = Compression.sniff(stream);
+            } else {
+                final PushbackInputStream pushback = new PushbackInputStream(stream, MAGIC_LENGTH);
+                compression = Compression.sniff(pushback);
+                stream = pushback;
+            }
+            if (compression == null) {
+                return stream;
+            }
+        }
+        return compression.decompress(stream, bufferSize);
+    }
+
+    /**
+     * Applies a decompressed stream of specified resource to specified function and returns the result. The content is
+     * decompressed on the fly, as the function reads it.
+     *
+     * @param loader     a class loader for reading resource; {@code null} for the class loader of this class.
+     * @param name       the resource name to open.
+     * @param bufferSize the size of buffers for decompression.
+     * @param function   the function to be applied with the decompressed stream.
+     * @param <R>        result type parameter.
+     * @return the result of the function
+     * @throws IOException if an I/O error occurs.
+     * @see #decompress(String, InputStream, int)
+     */
+    public static <R> R applyDecompressedResourceStream(final ClassLoader loader, final String name,
+                                                        final int bufferSize,
+                                                        final Function<? super InputStream, ? extends R> function)
+            throws IOException {
+        if (function == null) {
+            throw new NullPointerException("function is null");
+        }
+        try {
+            return applyResourceStream(loader, name, s -> {
+                try (InputStream decompressed = decompress(name, s, bufferSize)) {
+                    return function.apply(decompressed);
+                } catch (final IOException ioe) {
+                    throw new DecompressionException(ioe);
+                }
+            });
+        } catch (final DecompressionException de) {
+            throw de.getCause();
+        }
+    }
+
+    /**
+     * An unchecked exception which carries an {@link IOException} of decompression out of a function. Any other
+     * {@link UncheckedIOException}, e.g. one thrown by the caller's function, is propagated as is.
+     */
+    private static final class DecompressionException extends UncheckedIOException {
+
+        private static final long serialVersionUID = 1L;
+
+        private DecompressionException(final IOException cause) {
+            super(cause);
+        }
+    }
+
+    /**
+     * Applies a decompressed stream of specified resource to specified function, using buffers of
+     * {@link #getDecompressionBufferSize()}, and returns the result.
+     *
+     * @param loader   a class loader for reading resource; {@code null} for the class loader of this class.
+     * @param name     the resource name to open.
+     * @param function the function to be applied with the decompressed stream.
+     * @param <R>      result type parameter.
+     * @return the result of the function
+     * @throws IOException if an I/O error occurs.
+     * @see #applyDecompressedResourceStream(ClassLoader, String, int, Function)
+     */
+    public static <R> R applyDecompressedResourceStream(final ClassLoader loader, final String name,
+                                                        final Function<? super InputStream, ? extends R> function)
+            throws IOException {
+        return applyDecompressedResourceStream(loader, name, getDecompressionBufferSize(), function);
+    }
+
+    /**
+     * Opens a decompressed stream of specified resource. The caller is responsible for closing the returned stream.
+     *
+     * @param loader a class loader for reading resource; {@code null} for the class loader of this class.
+     * @param name   the resource name to open.
+     * @return a stream of decompressed content of the resource.
+     * @throws IOException if no resource found or an I/O error occurs.
+     * @see #decompress(String, InputStream, int)
+     */
+    public static InputStream openDecompressedResourceStream(final ClassLoader loader, final String name)
+            throws IOException {
+        final InputStream resourceStream = openResourceStream(loader, name);
+        try {
+            return decompress(name, resourceStream, getDecompressionBufferSize());
+        } catch (final IOException | RuntimeException e) {
+            resourceStream.close();
+            throw e;
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Reads all bytes of specified resource.
+     *
+     * @param loader a class loader for reading resource; {@code null} for the class loader of this class.
+     * @param name   the resource name to read.
+     * @return an array of all bytes of the resource.
+     * @throws IOException if an I/O error occurs.
+     */
+    static byte[] readResourceBytes(final ClassLoader loader, final String name) throws IOException {
+        try (InputStream resourceStream = openResourceStream(loader, name)) {
+            final ByteArrayOutputStream output = new ByteArrayOutputStream(Math.max(resourceStream.available(), 32));
+            final byte[] buffer = new byte[8192];
+            for (int r; (r = resourceStream.read(buffer)) != -1; ) {
+                output.write(buffer, 0, r);
+            }
+            return output.toByteArray();
+        }
+    }
+
     // -----------------------------------------------------------------------------------------------------------------
 
     /**
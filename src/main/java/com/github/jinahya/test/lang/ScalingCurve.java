@@ -0,0 +1,261 @@
+package com.github.jinahya.test.lang;
+
+import com.github.jinahya.test.metrics.LatencyHistogram;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Results of running an operation from increasing numbers of threads.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see ScalingTests#measure(String, Runnable, boolean, int[], Duration, Duration)
+ */
+public final class ScalingCurve {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * A result of running an operation from a number of threads.
+     */
+    public static final class Point {
+
+        Point(final int threads, final long count, final long elapsedNanos, final LatencyHistogram latencies,
+              final long blockedCount, final long blockedMillis, final long waitedCount, final long waitedMillis,
+              final Map<String, Long> hotSpots) {
+            super();
+            this.threads = threads;
+            this.count = count;
+            this.elapsedNanos = elapsedNanos;
+            this.latencies = latencies;
+            this.blockedCount = blockedCount;
+            this.blockedMillis = blockedMillis;
+            this.waitedCount = waitedCount;
+            this.waitedMillis = waitedMillis;
+            this.hotSpots = Collections.unmodifiableMap(hotSpots);
+        }
+
+        @Override
+        public String toString() {
+            return super.toString() + "{"
+                   + "threads=" + threads
+                   + ",count=" + count
+                   + ",opsPerSecond=" + String.format("%.1f", getOpsPerSecond())
+                   + ",p99=" + latencies.getValueAtPercentile(99.0d) + "ns"
+                   + ",blockedCount=" + blockedCount
+                   + ",waitedCount=" + waitedCount
+                   + "}";
+        }
+
+        /**
+         * Returns the number of threads which ran the operation concurrently.
+         *
+         * @return the number of threads.
+         */
+        public int getThreads() {
+            return threads;
+        }
+
+        /**
+         * Returns the number of operations completed, by all threads, during the measurement.
+         *
+         * @return the number of operations.
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * Returns the wall-clock time of the measurement.
+         *
+         * @return the elapsed time.
+         */
+        public Duration getElapsed() {
+            return Duration.ofNanos(elapsedNanos);
+        }
+
+        /**
+         * Returns the number of operations per second, across all threads.
+         *
+         * @return the throughput.
+         */
+        public double getOpsPerSecond() {
+            return elapsedNanos == 0L ? 0.0d : count / (elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1L));
+        }
+
+        /**
+         * Returns the histogram of the latency, in nanoseconds, of each operation.
+         *
+         * @return the histogram of latencies.
+         */
+        public LatencyHistogram getLatencies() {
+            return latencies;
+        }
+
+        /**
+         * Returns the total number of times the threads blocked to enter monitors.
+         *
+         * @return the number of blocks; {@code -1L} if unknown, e.g. for virtual threads.
+         */
+        public long getBlockedCount() {
+            return blockedCount;
+        }
+
+        /**
+         * Returns the total time the threads blocked to enter monitors.
+         *
+         * @return the blocked time in milliseconds; {@code -1L} if unknown.
+         */
+        public long getBlockedMillis() {
+            return blockedMillis;
+        }
+
+        /**
+         * Returns the total number of times the threads waited, e.g. on locks or conditions.
+         *
+         * @return the number of waits; {@code -1L} if unknown, e.g. for virtual threads.
+         */
+        public long getWaitedCount() {
+            return waitedCount;
+        }
+
+        /**
+         * Returns the total time the threads waited.
+         *
+         * @return the waited time in milliseconds; {@code -1L} if unknown.
+         */
+        public long getWaitedMillis() {
+            return waitedMillis;
+        }
+
+        /**
+         * Returns the numbers of samples in which a thread was blocked or waiting, by the lock and the frame which
+         * requested it, in descending order.
+         *
+         * @return an unmodifiable map of sample counts by contention site; {@code empty} if none or unknown.
+         */
+        public Map<String, Long> getHotSpots() {
+            return hotSpots;
+        }
+
+        private final int threads;
+
+        private final long count;
+
+        private final long elapsedNanos;
+
+        private final LatencyHistogram latencies;
+
+        private final long blockedCount;
+
+        private final long blockedMillis;
+
+        private final long waitedCount;
+
+        private final long waitedMillis;
+
+        private final Map<String, Long> hotSpots;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    ScalingCurve(final String operation, final boolean virtual, final List<Point> points) {
+        super();
+        this.operation = operation;
+        this.virtual = virtual;
+        this.points = Collections.unmodifiableList(new ArrayList<>(points));
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns a table of points of this curve, one line each, followed by hot spots of the point of the most threads.
+     *
+     * @return a string representation of this curve.
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder()
+                .append(operation).append(" (").append(virtual ? "virtual" : "platform").append(" threads)\n")
+                .append(String.format("%8s %14s %8s %10s %12s %12s %12s %10s %10s%n", "threads", "ops/s", "speedup",
+                                      "efficiency", "p50(ns)", "p99(ns)", "p99.9(ns)", "blocked", "waited"));
+        for (int i = 0; i < points.size(); i++) {
+            final Point point = points.get(i);
+            final LatencyHistogram latencies = point.getLatencies();
+            builder.append(String.format("%8d %14.1f %8.2f %10.2f %12d %12d %12d %10d %10d%n",
+                                         point.getThreads(), point.getOpsPerSecond(), getSpeedup(i),
+                                         getEfficiency(i), latencies.getValueAtPercentile(50.0d),
+                                         latencies.getValueAtPercentile(99.0d),
+                                         latencies.getValueAtPercentile(99.9d), point.getBlockedCount(),
+                                         point.getWaitedCount()));
+        }
+        if (!points.isEmpty()) {
+            points.get(points.size() - 1).getHotSpots().entrySet().stream().limit(5).forEach(
+                    e -> builder.append(String.format("  %6d %s%n", e.getValue(), e.getKey())));
+        }
+        return builder.toString();
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns the ratio of the throughput of the point at specified index to that of the first point.
+     *
+     * @param index the index of the point.
+     * @return the speedup of the point.
+     */
+    public double getSpeedup(final int index) {
+        final double base = points.get(0).getOpsPerSecond();
+        return base == 0.0d ? 0.0d : points.get(index).getOpsPerSecond() / base;
+    }
+
+    /**
+     * Returns the speedup of the point at specified index divided by the ratio of its threads to those of the first
+     * point; {@code 1.0} means linear scaling.
+     *
+     * @param index the index of the point.
+     * @return the parallel efficiency of the point.
+     */
+    public double getEfficiency(final int index) {
+        return getSpeedup(index) / (points.get(index).getThreads() / (double) points.get(0).getThreads());
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns the name of the measured operation.
+     *
+     * @return the name of the operation.
+     */
+    public String getOperation() {
+        return operation;
+    }
+
+    /**
+     * Indicates whether the operation was run from virtual threads.
+     *
+     * @return {@code true} for virtual threads; {@code false} for platform threads.
+     */
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    /**
+     * Returns points of this curve, in increasing order of threads.
+     *
+     * @return an unmodifiable list of points.
+     */
+    public List<Point> getPoints() {
+        return points;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private final String operation;
+
+    private final boolean virtual;
+
+    private final List<Point> points;
+}
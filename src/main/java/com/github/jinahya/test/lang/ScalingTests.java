@@ -0,0 +1,282 @@
+package com.github.jinahya.test.lang;
+
+import com.github.jinahya.test.metrics.LatencyHistogram;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Utilities for measuring how an operation scales when run concurrently from increasing numbers of threads. For each
+ * number of threads, the operation is run repeatedly, from all threads at once, for a warm-up period and then for a
+ * measurement period. Throughput, the latency of each operation, and, for platform threads, monitor contention and
+ * sampled contention sites are reported.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see ScalingCurve
+ */
+@Slf4j
+public final class ScalingTests {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The interval, in milliseconds, of sampling threads for contention sites.
+     */
+    static final long SAMPLING_INTERVAL_MILLIS = 10L;
+
+    private static final int SAMPLING_DEPTH = 16;
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns increasing numbers of threads, by powers of two, from {@code 1} up to, and including, specified
+     * maximum.
+     *
+     * @param maximum the maximum number of threads.
+     * @return an array of numbers of threads; e.g. {@code [1, 2, 4, 6]} for {@code 6}.
+     */
+    public static int[] threadCounts(final int maximum) {
+        if (maximum <= 0) {
+            throw new IllegalArgumentException("maximum(" + maximum + ") <= 0");
+        }
+        final List<Integer> counts = new ArrayList<>();
+        for (int count = 1; count < maximum; count <<= 1) {
+            counts.add(count);
+        }
+        counts.add(maximum);
+        return counts.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Measures specified operation run from each of specified numbers of threads.
+     *
+     * @param operation    a name of the operation.
+     * @param task         the operation to run; must be thread-safe.
+     * @param virtual      {@code true} to run from virtual threads; {@code false} for platform threads.
+     * @param threadCounts the numbers of threads, in increasing order.
+     * @param warmup       the warm-up period of each number of threads.
+     * @param measurement  the measurement period of each number of threads.
+     * @return a scaling curve of the operation.
+     * @throws UnsupportedOperationException if {@code virtual} is {@code true} and the runtime doesn't support virtual
+     *                                       threads.
+     */
+    public static ScalingCurve measure(final String operation, final Runnable task, final boolean virtual,
+                                       final int[] threadCounts, final Duration warmup, final Duration measurement) {
+        if (operation == null) {
+            throw new NullPointerException("operation is null");
+        }
+        if (task == null) {
+            throw new NullPointerException("task is null");
+        }
+        if (threadCounts == null) {
+            throw new NullPointerException("threadCounts is null");
+        }
+        if (warmup == null) {
+            throw new NullPointerException("warmup is null");
+        }
+        if (measurement == null) {
+            throw new NullPointerException("measurement is null");
+        }
+        final ThreadFactory factory;
+        if (virtual) {
+            factory = ExecutorTests.virtualThreadFactory();
+            if (factory == null) {
+                throw new UnsupportedOperationException("virtual threads are not supported");
+            }
+        } else {
+            factory = ExecutorTests.daemonThreadFactory("scaling-" + operation + "-");
+        }
+        final List<ScalingCurve.Point> points = new ArrayList<>(threadCounts.length);
+        for (final int threads : threadCounts) {
+            if (threads <= 0) {
+                throw new IllegalArgumentException("threads(" + threads + ") <= 0");
+            }
+            points.add(measure(task, factory, !virtual, threads, warmup.toNanos(), measurement.toNanos()));
+        }
+        final ScalingCurve curve = new ScalingCurve(operation, virtual, points);
+        log.debug("measured: {}", curve);
+        return curve;
+    }
+
+    /**
+     * Measures specified operation run from {@code 1} up to specified number of platform threads and, if supported,
+     * virtual threads.
+     *
+     * @param operation      a name of the operation.
+     * @param task           the operation to run; must be thread-safe.
+     * @param maximumThreads the maximum number of threads.
+     * @param warmup         the warm-up period of each number of threads.
+     * @param measurement    the measurement period of each number of threads.
+     * @return a list of a scaling curve of platform threads and, if supported, one of virtual threads.
+     * @see #threadCounts(int)
+     */
+    public static List<ScalingCurve> measure(final String operation, final Runnable task, final int maximumThreads,
+                                             final Duration warmup, final Duration measurement) {
+        final int[] threadCounts = threadCounts(maximumThreads);
+        final List<ScalingCurve> curves = new ArrayList<>(2);
+        curves.add(measure(operation, task, false, threadCounts, warmup, measurement));
+        if (ExecutorTests.virtualThreadFactory() != null) {
+            curves.add(measure(operation, task, true, threadCounts, warmup, measurement));
+        }
+        return curves;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private static ScalingCurve.Point measure(final Runnable task, final ThreadFactory factory, final boolean monitored,
+                                              final int threads, final long warmupNanos,
+                                              final long measurementNanos) {
+        final ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        final boolean contention = monitored && bean.isThreadContentionMonitoringSupported();
+        final boolean contentionEnabled = contention && bean.isThreadContentionMonitoringEnabled();
+        if (contention && !contentionEnabled) {
+            bean.setThreadContentionMonitoringEnabled(true);
+        }
+        try {
+            final LatencyHistogram latencies = new LatencyHistogram();
+            final LongAdder blockedCount = new LongAdder();
+            final LongAdder blockedMillis = new LongAdder();
+            final LongAdder waitedCount = new LongAdder();
+            final LongAdder waitedMillis = new LongAdder();
+            final AtomicReference<Throwable> failure = new AtomicReference<>();
+            final CountDownLatch ready = new CountDownLatch(threads);
+            final CountDownLatch start = new CountDownLatch(1);
+            final CountDownLatch done = new CountDownLatch(threads);
+            final long[] deadlines = new long[2]; // the end of the warm-up, and of the measurement
+            final long[] ends = new long[threads];
+            final long[] ids = new long[threads];
+            for (int i = 0; i < threads; i++) {
+                final int index = i;
+                final Thread thread = factory.newThread(() -> {
+                    final LatencyHistogram local = new LatencyHistogram();
+                    try {
+                        ready.countDown();
+                        start.await();
+                        while (System.nanoTime() < deadlines[0]) {
+                            task.run();
+                        }
+                        final ThreadInfo before = monitored ? bean.getThreadInfo(Thread.currentThread().getId()) : null;
+                        long now = System.nanoTime();
+                        while (now < deadlines[1]) {
+                            task.run();
+                            final long then = now;
+                            local.record((now = System.nanoTime()) - then);
+                        }
+                        ends[index] = now;
+                        final ThreadInfo after = monitored ? bean.getThreadInfo(Thread.currentThread().getId()) : null;
+                        if (before != null && after != null) {
+                            blockedCount.add(after.getBlockedCount() - before.getBlockedCount());
+                            waitedCount.add(after.getWaitedCount() - before.getWaitedCount());
+                            if (contention) {
+                                blockedMillis.add(after.getBlockedTime() - before.getBlockedTime());
+                                waitedMillis.add(after.getWaitedTime() - before.getWaitedTime());
+                            }
+                        }
+                    } catch (final Throwable t) {
+                        failure.compareAndSet(null, t);
+                    } finally {
+                        latencies.add(local);
+                        done.countDown();
+                    }
+                });
+                ids[i] = thread.getId();
+                thread.start();
+            }
+            final Map<String, Long> sites = new HashMap<>();
+            try {
+                ready.await();
+                final long started = System.nanoTime();
+                deadlines[0] = started + warmupNanos;
+                deadlines[1] = deadlines[0] + measurementNanos;
+                start.countDown(); // publishes deadlines
+                if (monitored) {
+                    TimeUnit.NANOSECONDS.sleep(warmupNanos);
+                    while (!done.await(SAMPLING_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+                        sample(bean, ids, sites);
+                    }
+                } else {
+                    done.await();
+                }
+            } catch (final InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("interrupted while measuring", ie);
+            }
+            final Throwable t = failure.get();
+            if (t instanceof RuntimeException) {
+                throw (RuntimeException) t;
+            }
+            if (t instanceof Error) {
+                throw (Error) t;
+            }
+            if (t != null) {
+                throw new IllegalStateException("failed to run the operation", t);
+            }
+            long end = deadlines[1];
+            for (final long e : ends) {
+                end = Math.max(end, e);
+            }
+            final Map<String, Long> hotSpots = new LinkedHashMap<>();
+            sites.entrySet().stream()
+                    .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                    .forEach(e -> hotSpots.put(e.getKey(), e.getValue()));
+            return new ScalingCurve.Point(threads, latencies.getCount(), end - deadlines[0], latencies,
+                                          monitored ? blockedCount.sum() : -1L,
+                                          contention ? blockedMillis.sum() : -1L,
+                                          monitored ? waitedCount.sum() : -1L,
+                                          contention ? waitedMillis.sum() : -1L, hotSpots);
+        } finally {
+            if (contention && !contentionEnabled) {
+                bean.setThreadContentionMonitoringEnabled(false);
+            }
+        }
+    }
+
+    /**
+     * Counts blocked or waiting threads of specified ids by their contention sites.
+     */
+    private static void sample(final ThreadMXBean bean, final long[] ids, final Map<String, Long> sites) {
+        for (final ThreadInfo info : bean.getThreadInfo(ids, SAMPLING_DEPTH)) {
+            if (info == null || info.getLockName() == null) {
+                continue;
+            }
+            final Thread.State state = info.getThreadState();
+            if (state != Thread.State.BLOCKED && state != Thread.State.WAITING
+                && state != Thread.State.TIMED_WAITING) {
+                continue;
+            }
+            String frame = "?";
+            for (final StackTraceElement element : info.getStackTrace()) {
+                final String className = element.getClassName();
+                if (!className.startsWith("java.util.concurrent.locks.") && !className.startsWith("sun.misc.")
+                    && !className.startsWith("jdk.internal.") && !className.equals(Object.class.getName())) {
+                    frame = className + "." + element.getMethodName();
+                    break;
+                }
+            }
+            final String lock = info.getLockName();
+            final int at = lock.indexOf('@');
+            sites.merge(state + " on " + (at < 0 ? lock : lock.substring(0, at)) + " in " + frame, 1L, Long::sum);
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new instance.
+     */
+    private ScalingTests() {
+        super();
+    }
+}
@@ -0,0 +1,161 @@
+package com.github.jinahya.test.metrics;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An implementation of {@link TestMetrics} which keeps counts, bytes and latency histograms in memory. An instance
+ * created with the default constructor, as by {@link java.util.ServiceLoader}, prints its summary to {@link System#err}
+ * at JVM shutdown.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+public class InMemoryTestMetrics implements TestMetrics {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Recorded metrics of a key in a category.
+     */
+    public static final class Entry {
+
+        private Entry(final String category, final String key) {
+            super();
+            this.category = category;
+            this.key = key;
+        }
+
+        /**
+         * Returns the category of this entry.
+         *
+         * @return the category of this entry.
+         */
+        public String getCategory() {
+            return category;
+        }
+
+        /**
+         * Returns the key of this entry.
+         *
+         * @return the key of this entry.
+         */
+        public String getKey() {
+            return key;
+        }
+
+        /**
+         * Returns the total number of bytes recorded.
+         *
+         * @return the total number of bytes.
+         */
+        public long getBytes() {
+            return bytes.sum();
+        }
+
+        /**
+         * Returns the histogram of latencies, in nanoseconds, recorded.
+         *
+         * @return the histogram of latencies.
+         */
+        public LatencyHistogram getLatencies() {
+            return latencies;
+        }
+
+        private final String category;
+
+        private final String key;
+
+        private final LongAdder bytes = new LongAdder();
+
+        private final LatencyHistogram latencies = new LatencyHistogram();
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new instance which prints its summary to {@link System#err} at JVM shutdown.
+     */
+    public InMemoryTestMetrics() {
+        this(true);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param dumpAtShutdown a flag for printing the summary to {@link System#err} at JVM shutdown.
+     */
+    public InMemoryTestMetrics(final boolean dumpAtShutdown) {
+        super();
+        if (dumpAtShutdown) {
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> dump(System.err), "test-metrics-dump"));
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Override
+    public void record(final String category, final String key, final long bytes, final long nanos) {
+        final Entry entry = entries.computeIfAbsent(category + '\u0000' + key, k -> new Entry(category, key));
+        if (bytes > 0L) {
+            entry.bytes.add(bytes);
+        }
+        entry.latencies.record(nanos);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns recorded entries sorted by their total latencies in descending order.
+     *
+     * @return a list of recorded entries.
+     */
+    public List<Entry> getEntries() {
+        final List<Entry> list = new ArrayList<>(entries.values());
+        list.sort(Comparator.comparingLong((Entry e) -> e.latencies.getSum()).reversed());
+        return list;
+    }
+
+    /**
+     * Clears all recorded entries.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Prints a summary of recorded entries, with latencies in microseconds, to specified stream.
+     *
+     * @param stream the stream to which the summary is printed.
+     */
+    public void dump(final PrintStream stream) {
+        if (stream == null) {
+            throw new NullPointerException("stream is null");
+        }
+        final List<Entry> list = getEntries();
+        if (list.isEmpty()) {
+            return;
+        }
+        stream.printf("%-10s %10s %12s %12s %10s %10s %10s %10s %10s  %s%n", "category", "count", "bytes", "total(ms)",
+                      "mean(us)", "p50(us)", "p90(us)", "p99(us)", "max(us)", "key");
+        for (final Entry entry : list) {
+            final LatencyHistogram h = entry.latencies;
+            stream.printf("%-10s %10d %12d %12d %10.1f %10d %10d %10d %10d  %s%n", entry.category, h.getCount(),
+                          entry.getBytes(), TimeUnit.NANOSECONDS.toMillis(h.getSum()), h.getMean() / 1000.0d,
+                          micros(h.getValueAtPercentile(50.0d)), micros(h.getValueAtPercentile(90.0d)),
+                          micros(h.getValueAtPercentile(99.0d)), micros(h.getMax()), entry.key);
+        }
+        stream.flush();
+    }
+
+    private static long micros(final long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+}
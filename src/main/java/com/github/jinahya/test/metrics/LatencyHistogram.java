@@ -0,0 +1,173 @@
+package com.github.jinahya.test.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A concurrent histogram of non-negative values with logarithmic buckets, each of which is divided into {@value
+ * #SUB_BUCKETS} linear sub-buckets, as HdrHistogram does. Recorded values are reported with a relative error less than
+ * {@code 1/}{@value #SUB_BUCKETS}.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+public final class LatencyHistogram {
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private static final int SUB_BUCKET_BITS = 4;
+
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private static final int BUCKETS = Long.SIZE - SUB_BUCKET_BITS;
+
+    /**
+     * Returns the index of the bucket for specified value.
+     *
+     * @param value the value; must be non-negative.
+     * @return the index of the bucket.
+     */
+    static int index(final long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        final int exponent = (Long.SIZE - 1) - Long.numberOfLeadingZeros(value);
+        final int shift = exponent - SUB_BUCKET_BITS;
+        return ((shift + 1) << SUB_BUCKET_BITS) + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+    /**
+     * Returns the lowest value of the bucket of specified index.
+     *
+     * @param index the index of the bucket.
+     * @return the lowest value of the bucket.
+     */
+    static long lowest(final int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        final int shift = (index >>> SUB_BUCKET_BITS) - 1;
+        return ((long) (SUB_BUCKETS + (index & (SUB_BUCKETS - 1)))) << shift;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new instance.
+     */
+    public LatencyHistogram() {
+        super();
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Records specified value. A negative value is recorded as {@code 0L}.
+     *
+     * @param value the value to record.
+     */
+    public void record(long value) {
+        if (value < 0L) {
+            value = 0L;
+        }
+        counts.incrementAndGet(index(value));
+        count.increment();
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    /**
+     * Adds all values recorded in specified histogram to this histogram.
+     *
+     * @param other the histogram whose values are added.
+     */
+    public void add(final LatencyHistogram other) {
+        if (other == null) {
+            throw new NullPointerException("other is null");
+        }
+        for (int i = 0; i < counts.length(); i++) {
+            final long c = other.counts.get(i);
+            if (c != 0L) {
+                counts.addAndGet(i, c);
+            }
+        }
+        count.add(other.getCount());
+        sum.add(other.getSum());
+        max.accumulate(other.getMax());
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns the number of recorded values.
+     *
+     * @return the number of recorded values.
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Returns the sum of recorded values.
+     *
+     * @return the sum of recorded values.
+     */
+    public long getSum() {
+        return sum.sum();
+    }
+
+    /**
+     * Returns the maximum of recorded values.
+     *
+     * @return the maximum recorded value; {@code 0L} if nothing recorded.
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Returns the arithmetic mean of recorded values.
+     *
+     * @return the mean of recorded values; {@code 0.0d} if nothing recorded.
+     */
+    public double getMean() {
+        final long c = getCount();
+        return c == 0L ? 0.0d : getSum() / (double) c;
+    }
+
+    /**
+     * Returns an approximate value at specified percentile.
+     *
+     * @param percentile the percentile between {@code 0.0d} and {@code 100.0d}.
+     * @return the approximate value at {@code percentile}; {@code 0L} if nothing recorded.
+     */
+    public long getValueAtPercentile(final double percentile) {
+        if (!(percentile >= 0.0d && percentile <= 100.0d)) {
+            throw new IllegalArgumentException("percentile(" + percentile + ") is not in [0, 100]");
+        }
+        long total = 0L;
+        final long[] snapshot = new long[counts.length()];
+        for (int i = 0; i < snapshot.length; i++) {
+            total += (snapshot[i] = counts.get(i));
+        }
+        if (total == 0L) {
+            return 0L;
+        }
+        final long rank = Math.max(1L, (long) Math.ceil(percentile / 100.0d * total));
+        long cumulative = 0L;
+        for (int i = 0; i < snapshot.length; i++) {
+            if ((cumulative += snapshot[i]) >= rank) {
+                return Math.min(lowest(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS << SUB_BUCKET_BITS);
+
+    private final LongAdder count = new LongAdder();
+
+    private final LongAdder sum = new LongAdder();
+
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+}
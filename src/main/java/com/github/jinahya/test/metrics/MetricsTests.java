@@ -0,0 +1,108 @@
+package com.github.jinahya.test.metrics;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Iterator;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * Utilities for recording metrics of test utilities.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see TestMetrics
+ */
+@Slf4j
+public final class MetricsTests {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Loads the first implementation of {@link TestMetrics} with {@link ServiceLoader}.
+     *
+     * @return the first implementation found; {@link TestMetrics#NOOP} if none found.
+     */
+    private static TestMetrics load() {
+        try {
+            final Iterator<TestMetrics> i = ServiceLoader.load(TestMetrics.class).iterator();
+            if (i.hasNext()) {
+                final TestMetrics loaded = i.next();
+                log.debug("loaded test metrics: {}", loaded);
+                return loaded;
+            }
+        } catch (final ServiceConfigurationError sce) {
+            log.warn("failed to load test metrics", sce);
+        }
+        return TestMetrics.NOOP;
+    }
+
+    private static volatile TestMetrics testMetrics = load();
+
+    /**
+     * Returns current instance of test metrics.
+     *
+     * @return current instance of test metrics.
+     */
+    public static TestMetrics getTestMetrics() {
+        return testMetrics;
+    }
+
+    /**
+     * Replaces current instance of test metrics.
+     *
+     * @param testMetrics new instance of test metrics; {@code null} for {@link TestMetrics#NOOP}.
+     */
+    public static void setTestMetrics(final TestMetrics testMetrics) {
+        MetricsTests.testMetrics = testMetrics == null ? TestMetrics.NOOP : testMetrics;
+    }
+
+    /**
+     * Indicates whether current instance of test metrics records anything.
+     *
+     * @return {@code true} if current instance is not {@link TestMetrics#NOOP}; {@code false} otherwise.
+     */
+    public static boolean isEnabled() {
+        return testMetrics != TestMetrics.NOOP;
+    }
+
+    /**
+     * Records an operation, started at specified time, with current instance of test metrics.
+     *
+     * @param category the category of the operation.
+     * @param key      the key of the operation.
+     * @param bytes    the number of bytes processed.
+     * @param started  the value of {@link System#nanoTime()} when the operation started.
+     * @see TestMetrics#record(String, String, long, long)
+     */
+    public static void record(final String category, final String key, final long bytes, final long started) {
+        final TestMetrics current = testMetrics;
+        if (current != TestMetrics.NOOP) {
+            current.record(category, key, bytes, System.nanoTime() - started);
+        }
+    }
+
+    /**
+     * Records an operation, which took specified time, with current instance of test metrics.
+     *
+     * @param category the category of the operation.
+     * @param key      the key of the operation.
+     * @param bytes    the number of bytes processed.
+     * @param nanos    the elapsed time of the operation in nanoseconds.
+     * @see TestMetrics#record(String, String, long, long)
+     */
+    public static void recordElapsed(final String category, final String key, final long bytes, final long nanos) {
+        final TestMetrics current = testMetrics;
+        if (current != TestMetrics.NOOP) {
+            current.record(category, key, bytes, nanos);
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new instance.
+     */
+    private MetricsTests() {
+        super();
+    }
+}
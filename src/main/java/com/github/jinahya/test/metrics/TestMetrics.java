@@ -0,0 +1,46 @@
+package com.github.jinahya.test.metrics;
+
+/**
+ * A service provider interface for recording metrics of test utilities. Implementations are located with {@link
+ * java.util.ServiceLoader} or installed with {@link MetricsTests#setTestMetrics(TestMetrics)}, and must be safe for
+ * concurrent use.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see MetricsTests
+ */
+@FunctionalInterface
+public interface TestMetrics {
+
+    /**
+     * The category of resource reads keyed by resource names. Elapsed times are of reading the resource only, not of
+     * processing the content read, e.g. parsing.
+     */
+    String CATEGORY_RESOURCE = "resource";
+
+    /**
+     * The category of JSON reads keyed by target types. Bytes are of the content parsed and elapsed times include
+     * reading the content, which is also recorded in {@link #CATEGORY_RESOURCE} category.
+     */
+    String CATEGORY_JSON = "json";
+
+    /**
+     * The category of bean validations keyed by bean classes.
+     */
+    String CATEGORY_VALIDATION = "validation";
+
+    /**
+     * An instance which records nothing.
+     */
+    TestMetrics NOOP = (category, key, bytes, nanos) -> {
+    };
+
+    /**
+     * Records an operation.
+     *
+     * @param category the category of the operation.
+     * @param key      the key of the operation in the category, such as a resource name.
+     * @param bytes    the number of bytes processed by the operation; {@code 0L} if not applicable.
+     * @param nanos    the elapsed time of the operation in nanoseconds.
+     */
+    void record(String category, String key, long bytes, long nanos);
+}
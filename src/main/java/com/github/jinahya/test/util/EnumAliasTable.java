@@ -0,0 +1,164 @@
+package com.github.jinahya.test.util;
+
+import java.util.SplittableRandom;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * A precomputed alias table for sampling enum constants with weights in constant time, built with Vose's alias
+ * method. An instance of this class is immutable and safe for concurrent use.
+ *
+ * @param <E> enum type parameter
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see <a href="https://www.keithschwarz.com/darts-dice-coins/">Darts, Dice, and Coins: Sampling from a Discrete
+ * Distribution</a>
+ */
+public final class EnumAliasTable<E extends Enum<E>> {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new alias table for constants of specified enum class weighted by specified function.
+     *
+     * @param enumClass the enum class.
+     * @param weight    a function which returns a non-negative weight of each constant.
+     * @param <E>       enum type parameter
+     * @return a new alias table.
+     * @throws IllegalArgumentException if any weight is negative or not finite, or all weights are zero.
+     */
+    public static <E extends Enum<E>> EnumAliasTable<E> of(final Class<E> enumClass,
+                                                           final ToDoubleFunction<? super E> weight) {
+        if (weight == null) {
+            throw new NullPointerException("weight is null");
+        }
+        final E[] enumConstants = JinahyaEnumTestUtils.enumConstants(enumClass);
+        final int n = enumConstants.length;
+        final double[] scaled = new double[n];
+        double sum = 0.0d;
+        for (int i = 0; i < n; i++) {
+            final double w = weight.applyAsDouble(enumConstants[i]);
+            if (!(w >= 0.0d) || Double.isInfinite(w)) {
+                throw new IllegalArgumentException("illegal weight(" + w + ") of " + enumConstants[i]);
+            }
+            scaled[i] = w;
+            sum += w;
+        }
+        if (sum == 0.0d) {
+            throw new IllegalArgumentException("all weights are zero");
+        }
+        final double[] probabilities = new double[n];
+        final int[] aliases = new int[n];
+        final int[] small = new int[n];
+        final int[] large = new int[n];
+        int s = 0;
+        int l = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = scaled[i] * n / sum;
+            if (scaled[i] < 1.0d) {
+                small[s++] = i;
+            } else {
+                large[l++] = i;
+            }
+        }
+        while (s > 0 && l > 0) {
+            final int less = small[--s];
+            final int more = large[--l];
+            probabilities[less] = scaled[less];
+            aliases[less] = more;
+            scaled[more] = (scaled[more] + scaled[less]) - 1.0d;
+            if (scaled[more] < 1.0d) {
+                small[s++] = more;
+            } else {
+                large[l++] = more;
+            }
+        }
+        while (l > 0) {
+            probabilities[large[--l]] = 1.0d;
+        }
+        while (s > 0) { // numerical instability
+            probabilities[small[--s]] = 1.0d;
+        }
+        return new EnumAliasTable<>(enumConstants, probabilities, aliases);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private EnumAliasTable(final E[] enumConstants, final double[] probabilities, final int[] aliases) {
+        super();
+        this.enumConstants = enumConstants;
+        this.probabilities = probabilities;
+        this.aliases = aliases;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns the ordinal of a constant selected by specified uniform variate.
+     *
+     * @param u a uniform variate in {@code [0, 1)}.
+     * @return the ordinal of the selected constant.
+     */
+    private int ordinal(final double u) {
+        final double x = u * probabilities.length;
+        final int column = (int) x;
+        return x - column < probabilities[column] ? column : aliases[column];
+    }
+
+    /**
+     * Returns the ordinal of a constant sampled with specified random.
+     *
+     * @param random the random to use.
+     * @return the ordinal of a sampled constant.
+     */
+    public int sampleOrdinal(final SplittableRandom random) {
+        if (random == null) {
+            throw new NullPointerException("random is null");
+        }
+        return ordinal(random.nextDouble());
+    }
+
+    /**
+     * Returns a constant sampled with specified random.
+     *
+     * @param random the random to use.
+     * @return a sampled constant.
+     */
+    public E sample(final SplittableRandom random) {
+        return enumConstants[sampleOrdinal(random)];
+    }
+
+    /**
+     * Returns a stream of ordinals of constants sampled with specified random. The stream may be parallel and, for the
+     * same seed of {@code random}, yields the same sequence as long as it is split in the same way.
+     *
+     * @param random     the random to use.
+     * @param streamSize the number of ordinals to produce.
+     * @return a stream of ordinals of sampled constants.
+     * @see SplittableRandom#doubles(long)
+     */
+    public IntStream ordinals(final SplittableRandom random, final long streamSize) {
+        if (random == null) {
+            throw new NullPointerException("random is null");
+        }
+        return random.doubles(streamSize).mapToInt(this::ordinal);
+    }
+
+    /**
+     * Returns a stream of constants sampled with specified random.
+     *
+     * @param random     the random to use.
+     * @param streamSize the number of constants to produce.
+     * @return a stream of sampled constants.
+     * @see #ordinals(SplittableRandom, long)
+     */
+    public Stream<E> constants(final SplittableRandom random, final long streamSize) {
+        return ordinals(random, streamSize).mapToObj(o -> enumConstants[o]);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private final E[] enumConstants;
+
+    private final double[] probabilities;
+
+    private final int[] aliases;
+}
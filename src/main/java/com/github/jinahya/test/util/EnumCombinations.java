@@ -0,0 +1,331 @@
+package com.github.jinahya.test.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Combinations of constants of multiple enum classes. Each combination is an array whose {@code i}-th element is a
+ * constant of the {@code i}-th enum class. Arrays of combinations are not shared; callers may modify them.
+ * <p>
+ * A <em>t</em>-wise covering array contains, for every <em>t</em> of the enum classes, every combination of their
+ * constants at least once, and is usually far smaller than the full cartesian product. Covering arrays are built with
+ * the greedy IPOG (In-Parameter-Order-General) strategy and cached by strength and enum classes.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see <a href="https://doi.org/10.1109/ECBS.2007.47">IPOG: A General Strategy for T-Way Software Testing</a>
+ */
+public final class EnumCombinations {
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private static final class Key {
+
+        private Key(final int strength, final Class<?>[] enumClasses) {
+            super();
+            this.strength = strength;
+            this.enumClasses = enumClasses;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key that = (Key) obj;
+            return strength == that.strength && Arrays.equals(enumClasses, that.enumClasses);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * strength + Arrays.hashCode(enumClasses);
+        }
+
+        private final int strength;
+
+        private final Class<?>[] enumClasses;
+    }
+
+    /**
+     * Cached covering arrays, as ordinals, by strength and enum classes. Arrays are shared and must not be modified.
+     */
+    private static final ConcurrentMap<Key, List<int[]>> COVERING_ARRAYS = new ConcurrentHashMap<>();
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns a lazy stream of all combinations of constants of specified enum classes; the last enum class varies
+     * fastest. The stream is sized and splits evenly when run in parallel.
+     *
+     * @param enumClasses the enum classes.
+     * @return a stream of all combinations.
+     * @throws ArithmeticException if the number of combinations overflows a {@code long}.
+     */
+    @SafeVarargs
+    public static Stream<Enum<?>[]> cartesianProduct(final Class<? extends Enum<?>>... enumClasses) {
+        final Enum<?>[][] constants = constants(enumClasses);
+        long size = 1L;
+        for (final Enum<?>[] c : constants) {
+            size = Math.multiplyExact(size, c.length);
+        }
+        return LongStream.range(0L, size).mapToObj(index -> {
+            final Enum<?>[] combination = new Enum<?>[constants.length];
+            for (int i = constants.length - 1; i >= 0; i--) {
+                combination[i] = constants[i][(int) (index % constants[i].length)];
+                index /= constants[i].length;
+            }
+            return combination;
+        });
+    }
+
+    /**
+     * Returns a stream of combinations of constants of specified enum classes which covers every combination of
+     * constants of every {@code strength} of the enum classes. When {@code strength} is not less than the number of
+     * enum classes, the result is the cartesian product.
+     *
+     * @param strength    the strength of interactions to cover; e.g. {@code 2} for pairwise.
+     * @param enumClasses the enum classes.
+     * @return a stream of combinations of the covering array.
+     */
+    @SafeVarargs
+    public static Stream<Enum<?>[]> coveringArray(final int strength, final Class<? extends Enum<?>>... enumClasses) {
+        if (strength <= 0) {
+            throw new IllegalArgumentException("strength(" + strength + ") <= 0");
+        }
+        final Enum<?>[][] constants = constants(enumClasses);
+        final int[] radices = new int[constants.length];
+        for (int i = 0; i < radices.length; i++) {
+            radices[i] = constants[i].length;
+        }
+        final List<int[]> rows = COVERING_ARRAYS.computeIfAbsent(new Key(strength, enumClasses.clone()),
+                                                                 k -> coveringOrdinals(strength, radices));
+        return rows.stream().map(row -> {
+            final Enum<?>[] combination = new Enum<?>[row.length];
+            for (int i = 0; i < row.length; i++) {
+                combination[i] = constants[i][row[i]];
+            }
+            return combination;
+        });
+    }
+
+    /**
+     * Returns a stream of combinations of constants of specified enum classes which covers every pair of constants of
+     * every two of the enum classes.
+     *
+     * @param enumClasses the enum classes.
+     * @return a stream of combinations of the pairwise covering array.
+     * @see #coveringArray(int, Class[])
+     */
+    @SafeVarargs
+    public static Stream<Enum<?>[]> pairwise(final Class<? extends Enum<?>>... enumClasses) {
+        return coveringArray(2, enumClasses);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Enum<?>[][] constants(final Class<? extends Enum<?>>[] enumClasses) {
+        if (enumClasses == null) {
+            throw new NullPointerException("enumClasses is null");
+        }
+        final Enum<?>[][] constants = new Enum<?>[enumClasses.length][];
+        for (int i = 0; i < constants.length; i++) {
+            constants[i] = JinahyaEnumTestUtils.enumConstants((Class) enumClasses[i]);
+        }
+        return constants;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Builds a covering array, as rows of ordinals, of specified strength for parameters of specified radices.
+     * Parameters are added in descending order of their radices, which tends to yield smaller arrays; columns of
+     * returned rows are in the given order.
+     *
+     * @param strength the strength.
+     * @param radices  the number of values of each parameter.
+     * @return an unmodifiable list of rows.
+     */
+    static List<int[]> coveringOrdinals(final int strength, final int[] radices) {
+        final int n = radices.length;
+        final Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Integer.compare(radices[b], radices[a]));
+        final int[] sorted = new int[n];
+        for (int i = 0; i < n; i++) {
+            sorted[i] = radices[order[i]];
+        }
+        final List<int[]> rows = ipog(Math.min(strength, n), sorted);
+        final List<int[]> result = new ArrayList<>(rows.size());
+        for (final int[] row : rows) {
+            final int[] unsorted = new int[n];
+            for (int i = 0; i < n; i++) {
+                unsorted[order[i]] = row[i] == DONT_CARE ? 0 : row[i];
+            }
+            result.add(unsorted);
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    private static final int DONT_CARE = -1;
+
+    private static List<int[]> ipog(final int t, final int[] radices) {
+        final int n = radices.length;
+        final List<int[]> rows = new ArrayList<>();
+        if (n == 0) {
+            rows.add(new int[0]);
+            return rows;
+        }
+        // initial rows; the cartesian product of the first t parameters
+        int initial = 1;
+        for (int i = 0; i < t; i++) {
+            initial = Math.multiplyExact(initial, radices[i]);
+        }
+        for (int index = 0; index < initial; index++) {
+            final int[] row = new int[n];
+            Arrays.fill(row, DONT_CARE);
+            for (int i = t - 1, r = index; i >= 0; i--) {
+                row[i] = r % radices[i];
+                r /= radices[i];
+            }
+            rows.add(row);
+        }
+        for (int k = t; k < n; k++) {
+            // every (t-1)-subset of the previous parameters, each with a bit set of its uncovered value combinations
+            final List<int[]> subsets = new ArrayList<>();
+            subsets(k, t - 1, 0, new int[t - 1], 0, subsets);
+            final BitSet[] uncovered = new BitSet[subsets.size()];
+            long remaining = 0L;
+            for (int s = 0; s < uncovered.length; s++) {
+                final int size = Math.multiplyExact(width(subsets.get(s), radices), radices[k]);
+                uncovered[s] = new BitSet(size);
+                uncovered[s].set(0, size);
+                remaining += size;
+            }
+            // horizontal growth; extend each row with the value which covers the most uncovered combinations
+            for (final int[] row : rows) {
+                if (remaining == 0L) {
+                    row[k] = 0;
+                    continue;
+                }
+                int best = 0;
+                int bestGain = -1;
+                for (int v = 0; v < radices[k]; v++) {
+                    int gain = 0;
+                    for (int s = 0; s < uncovered.length; s++) {
+                        final int index = index(subsets.get(s), row, radices, k, v);
+                        if (index >= 0 && uncovered[s].get(index)) {
+                            gain++;
+                        }
+                    }
+                    if (gain > bestGain) {
+                        best = v;
+                        bestGain = gain;
+                    }
+                }
+                row[k] = best;
+                for (int s = 0; s < uncovered.length; s++) {
+                    final int index = index(subsets.get(s), row, radices, k, best);
+                    if (index >= 0 && uncovered[s].get(index)) {
+                        uncovered[s].clear(index);
+                        remaining--;
+                    }
+                }
+            }
+            // vertical growth; put each remaining combination into a compatible row, or into a new row
+            for (int s = 0; s < uncovered.length; s++) {
+                final int[] subset = subsets.get(s);
+                final int[] values = new int[t];
+                for (int index = uncovered[s].nextSetBit(0); index >= 0; index = uncovered[s].nextSetBit(index + 1)) {
+                    values[t - 1] = index % radices[k];
+                    for (int i = t - 2, r = index / radices[k]; i >= 0; i--) {
+                        values[i] = r % radices[subset[i]];
+                        r /= radices[subset[i]];
+                    }
+                    int[] target = null;
+                    for (final int[] row : rows) {
+                        if (compatible(row, subset, k, values)) {
+                            target = row;
+                            break;
+                        }
+                    }
+                    if (target == null) {
+                        target = new int[n];
+                        Arrays.fill(target, DONT_CARE);
+                        rows.add(target);
+                    }
+                    for (int i = 0; i < subset.length; i++) {
+                        target[subset[i]] = values[i];
+                    }
+                    target[k] = values[t - 1];
+                }
+            }
+        }
+        return rows;
+    }
+
+    private static void subsets(final int bound, final int size, final int from, final int[] subset, final int depth,
+                                final List<int[]> subsets) {
+        if (depth == size) {
+            subsets.add(subset.clone());
+            return;
+        }
+        for (int i = from; i <= bound - (size - depth); i++) {
+            subset[depth] = i;
+            subsets(bound, size, i + 1, subset, depth + 1, subsets);
+        }
+    }
+
+    private static int width(final int[] subset, final int[] radices) {
+        int width = 1;
+        for (final int i : subset) {
+            width = Math.multiplyExact(width, radices[i]);
+        }
+        return width;
+    }
+
+    /**
+     * Returns the index of the combination of values of specified row at specified subset, followed by specified
+     * value; {@code -1} if the row has a don't-care value in the subset.
+     */
+    private static int index(final int[] subset, final int[] row, final int[] radices, final int k, final int v) {
+        int index = 0;
+        for (final int i : subset) {
+            if (row[i] == DONT_CARE) {
+                return -1;
+            }
+            index = index * radices[i] + row[i];
+        }
+        return index * radices[k] + v;
+    }
+
+    private static boolean compatible(final int[] row, final int[] subset, final int k, final int[] values) {
+        if (row[k] != DONT_CARE && row[k] != values[values.length - 1]) {
+            return false;
+        }
+        for (int i = 0; i < subset.length; i++) {
+            if (row[subset[i]] != DONT_CARE && row[subset[i]] != values[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new instance.
+     */
+    private EnumCombinations() {
+        super();
+    }
+}
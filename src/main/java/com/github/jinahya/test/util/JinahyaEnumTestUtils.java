@@ -1,26 +1,226 @@
 package com.github.jinahya.test.util;
 
+import java.util.Arrays;
 import java.util.Objects;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static java.util.concurrent.ThreadLocalRandom.current;
 
 public abstract class JinahyaEnumTestUtils {
 
+    // -----------------------------------------------------------------------------------------------------------------
+
     /**
-     * Returns a randomly selected enum constant defined in specified enum class.
+     * Cached enum constants of each enum class. Arrays are shared and must not be modified.
+     */
+    private static final ClassValue<Object[]> ENUM_CONSTANTS = new ClassValue<Object[]>() {
+        @Override
+        protected Object[] computeValue(final Class<?> type) {
+            return type.getEnumConstants();
+        }
+    };
+
+    /**
+     * Returns the shared array of enum constants of specified enum class. The array must not be modified.
      *
      * @param enumClass the enum class.
      * @param <E>       enum type parameter
-     * @return an randomly selected enum constant.
+     * @return the shared array of enum constants.
+     * @throws IllegalArgumentException if {@code enumClass} has no constants.
      */
-    public static <E extends Enum<E>> E getRandomEnumConstant(final Class<E> enumClass) {
-        final E[] enumConstants = Objects.requireNonNull(enumClass, "enumClazz is null").getEnumConstants();
+    @SuppressWarnings({"unchecked"})
+    static <E extends Enum<E>> E[] enumConstants(final Class<E> enumClass) {
+        final E[] enumConstants = (E[]) ENUM_CONSTANTS.get(Objects.requireNonNull(enumClass, "enumClazz is null"));
         if (enumConstants.length == 0) {
             throw new IllegalArgumentException("zero-length enum constants from " + enumClass);
         }
+        return enumConstants;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns a randomly selected enum constant defined in specified enum class.
+     *
+     * @param enumClass the enum class.
+     * @param <E>       enum type parameter
+     * @return an randomly selected enum constant.
+     */
+    public static <E extends Enum<E>> E getRandomEnumConstant(final Class<E> enumClass) {
+        final E[] enumConstants = enumConstants(enumClass);
         return enumConstants[current().nextInt(enumConstants.length)];
     }
 
+    /**
+     * Returns the ordinal of a randomly selected enum constant defined in specified enum class.
+     *
+     * @param enumClass the enum class.
+     * @param <E>       enum type parameter
+     * @return the ordinal of a randomly selected enum constant.
+     */
+    public static <E extends Enum<E>> int getRandomEnumOrdinal(final Class<E> enumClass) {
+        return current().nextInt(enumConstants(enumClass).length);
+    }
+
+    /**
+     * Fills specified array with randomly selected enum constants defined in specified enum class.
+     *
+     * @param enumClass the enum class.
+     * @param array     the array to fill.
+     * @param <E>       enum type parameter
+     * @return given array.
+     */
+    public static <E extends Enum<E>> E[] fillRandomEnumConstants(final Class<E> enumClass, final E[] array) {
+        if (array == null) {
+            throw new NullPointerException("array is null");
+        }
+        final E[] enumConstants = enumConstants(enumClass);
+        final ThreadLocalRandom random = current();
+        for (int i = 0; i < array.length; i++) {
+            array[i] = enumConstants[random.nextInt(enumConstants.length)];
+        }
+        return array;
+    }
+
+    /**
+     * Fills specified array with ordinals of randomly selected enum constants defined in specified enum class.
+     *
+     * @param enumClass the enum class.
+     * @param array     the array to fill.
+     * @param <E>       enum type parameter
+     * @return given array.
+     */
+    public static <E extends Enum<E>> int[] fillRandomEnumOrdinals(final Class<E> enumClass, final int[] array) {
+        if (array == null) {
+            throw new NullPointerException("array is null");
+        }
+        final int bound = enumConstants(enumClass).length;
+        final ThreadLocalRandom random = current();
+        for (int i = 0; i < array.length; i++) {
+            array[i] = random.nextInt(bound);
+        }
+        return array;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns an enum constant, defined in specified enum class, selected with specified random.
+     *
+     * @param enumClass the enum class.
+     * @param random    the random to use.
+     * @param <E>       enum type parameter
+     * @return a randomly selected enum constant.
+     */
+    public static <E extends Enum<E>> E getRandomEnumConstant(final Class<E> enumClass, final SplittableRandom random) {
+        if (random == null) {
+            throw new NullPointerException("random is null");
+        }
+        final E[] enumConstants = enumConstants(enumClass);
+        return enumConstants[random.nextInt(enumConstants.length)];
+    }
+
+    /**
+     * Returns an enum constant, defined in specified enum class and not in specified set, selected with specified
+     * random.
+     *
+     * @param enumClass the enum class.
+     * @param random    the random to use.
+     * @param excluded  a set of constants not to select.
+     * @param <E>       enum type parameter
+     * @return a randomly selected enum constant.
+     * @throws IllegalArgumentException if all constants are excluded.
+     */
+    public static <E extends Enum<E>> E getRandomEnumConstant(final Class<E> enumClass, final SplittableRandom random,
+                                                              final Set<? extends E> excluded) {
+        if (random == null) {
+            throw new NullPointerException("random is null");
+        }
+        final E[] candidates = candidates(enumClass, excluded);
+        return candidates[random.nextInt(candidates.length)];
+    }
+
+    /**
+     * Returns a stream of ordinals of enum constants, defined in specified enum class, selected with specified random.
+     * The stream may be parallel and, for the same seed of {@code random}, yields the same sequence as long as it is
+     * split in the same way.
+     *
+     * @param enumClass  the enum class.
+     * @param random     the random to use.
+     * @param streamSize the number of ordinals to produce.
+     * @param <E>        enum type parameter
+     * @return a stream of randomly selected ordinals.
+     * @see SplittableRandom#ints(long, int, int)
+     */
+    public static <E extends Enum<E>> IntStream randomEnumOrdinals(final Class<E> enumClass,
+                                                                   final SplittableRandom random,
+                                                                   final long streamSize) {
+        if (random == null) {
+            throw new NullPointerException("random is null");
+        }
+        return random.ints(streamSize, 0, enumConstants(enumClass).length);
+    }
+
+    /**
+     * Returns a stream of enum constants, defined in specified enum class, selected with specified random.
+     *
+     * @param enumClass  the enum class.
+     * @param random     the random to use.
+     * @param streamSize the number of constants to produce.
+     * @param <E>        enum type parameter
+     * @return a stream of randomly selected constants.
+     * @see #randomEnumOrdinals(Class, SplittableRandom, long)
+     */
+    public static <E extends Enum<E>> Stream<E> randomEnumConstants(final Class<E> enumClass,
+                                                                    final SplittableRandom random,
+                                                                    final long streamSize) {
+        final E[] enumConstants = enumConstants(enumClass);
+        return randomEnumOrdinals(enumClass, random, streamSize).mapToObj(o -> enumConstants[o]);
+    }
+
+    /**
+     * Returns a stream of enum constants, defined in specified enum class and not in specified set, selected with
+     * specified random.
+     *
+     * @param enumClass  the enum class.
+     * @param random     the random to use.
+     * @param streamSize the number of constants to produce.
+     * @param excluded   a set of constants not to select.
+     * @param <E>        enum type parameter
+     * @return a stream of randomly selected constants.
+     * @throws IllegalArgumentException if all constants are excluded.
+     */
+    public static <E extends Enum<E>> Stream<E> randomEnumConstants(final Class<E> enumClass,
+                                                                    final SplittableRandom random,
+                                                                    final long streamSize,
+                                                                    final Set<? extends E> excluded) {
+        if (random == null) {
+            throw new NullPointerException("random is null");
+        }
+        final E[] candidates = candidates(enumClass, excluded);
+        return random.ints(streamSize, 0, candidates.length).mapToObj(i -> candidates[i]);
+    }
+
+    private static <E extends Enum<E>> E[] candidates(final Class<E> enumClass, final Set<? extends E> excluded) {
+        if (excluded == null) {
+            throw new NullPointerException("excluded is null");
+        }
+        final E[] enumConstants = enumConstants(enumClass);
+        final E[] candidates = Arrays.stream(enumConstants)
+                .filter(c -> !excluded.contains(c))
+                .toArray(n -> Arrays.copyOf(enumConstants, n));
+        if (candidates.length == 0) {
+            throw new IllegalArgumentException("all constants of " + enumClass + " are excluded");
+        }
+        return candidates;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
     /**
      * Creates a new instance.
      */
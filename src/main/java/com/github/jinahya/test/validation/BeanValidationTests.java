@@ -1,21 +1,46 @@
 package com.github.jinahya.test.validation;
 
+import com.github.jinahya.test.lang.ResourceIndex;
+import com.github.jinahya.test.metrics.MetricsTests;
 import lombok.extern.slf4j.Slf4j;
 
-import javax.validation.Configuration;
+import javax.validation.ClockProvider;
+import javax.validation.ConstraintValidatorFactory;
 import javax.validation.ConstraintViolation;
 import javax.validation.ConstraintViolationException;
 import javax.validation.MessageInterpolator;
-import javax.validation.Validation;
+import javax.validation.ParameterNameProvider;
+import javax.validation.TraversableResolver;
 import javax.validation.Validator;
+import javax.validation.ValidatorContext;
 import javax.validation.ValidatorFactory;
+import javax.validation.metadata.ContainerElementTypeDescriptor;
+import javax.validation.metadata.PropertyDescriptor;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import static com.github.jinahya.test.metrics.TestMetrics.CATEGORY_VALIDATION;
+import static java.util.Collections.emptySet;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -29,38 +54,146 @@ public final class BeanValidationTests {
     // -----------------------------------------------------------------------------------------------------------------
 //    public static final ValidatorFactory VALIDATION_FACTORY = Validation.buildDefaultValidatorFactory();
 
-    // https://stackoverflow.com/a/54750045/330457
-    private static Configuration messageInterpolator(final Configuration configuration) {
-        try {
-            final Class<?> c = Class.forName(
-                    "org.hibernate.validator.messageinterpolation.ParameterMessageInterpolator");
-            configuration.messageInterpolator((MessageInterpolator) c.getConstructor().newInstance());
-        } catch (final ReflectiveOperationException roe) {
-            roe.printStackTrace();
+    /**
+     * A lazy holder of the validator factory, and a validator of it, to be used in testing.
+     */
+    private static final class TestValidationFactoryHolder {
+
+        private static final ValidatorFactory INSTANCE = new ValidatorFactoryBuilder().build();
+
+        private static final Validator VALIDATOR = INSTANCE.getValidator(); // thread-safe
+    }
+
+    /**
+     * A view of {@link #getTestValidationFactory()} which builds the shared factory on the first use of any method.
+     */
+    private static final class LazyTestValidationFactory implements ValidatorFactory {
+
+        @Override
+        public Validator getValidator() {
+            return getTestValidationFactory().getValidator();
+        }
+
+        @Override
+        public ValidatorContext usingContext() {
+            return getTestValidationFactory().usingContext();
+        }
+
+        @Override
+        public MessageInterpolator getMessageInterpolator() {
+            return getTestValidationFactory().getMessageInterpolator();
+        }
+
+        @Override
+        public TraversableResolver getTraversableResolver() {
+            return getTestValidationFactory().getTraversableResolver();
+        }
+
+        @Override
+        public ConstraintValidatorFactory getConstraintValidatorFactory() {
+            return getTestValidationFactory().getConstraintValidatorFactory();
+        }
+
+        @Override
+        public ParameterNameProvider getParameterNameProvider() {
+            return getTestValidationFactory().getParameterNameProvider();
+        }
+
+        @Override
+        public ClockProvider getClockProvider() {
+            return getTestValidationFactory().getClockProvider();
+        }
+
+        @Override
+        public <T> T unwrap(final Class<T> type) {
+            return getTestValidationFactory().unwrap(type);
+        }
+
+        @Override
+        public void close() {
+            getTestValidationFactory().close();
+        }
+    }
+
+    /**
+     * An instance of {@link ValidatorFactory} to be used in testing. This field is a view of
+     * {@link #getTestValidationFactory()}, so the shared factory is still built on the first use.
+     *
+     * @deprecated Use {@link #getTestValidationFactory()}.
+     */
+    @Deprecated
+    public static final ValidatorFactory TEST_VALIDATION_FACTORY = new LazyTestValidationFactory();
+
+    /**
+     * Returns a shared instance of {@link ValidatorFactory} to be used in testing. The factory is built, with the
+     * default provider, on the first invocation.
+     *
+     * @return a shared instance of validator factory.
+     * @see ValidatorFactoryBuilder
+     */
+    public static ValidatorFactory getTestValidationFactory() {
+        return TestValidationFactoryHolder.INSTANCE;
+    }
+
+    /**
+     * Returns a shared instance of {@link Validator} of {@link #getTestValidationFactory()}. Validators are thread-safe
+     * so the instance is reused by all validating methods of this class.
+     *
+     * @return a shared instance of validator.
+     */
+    public static Validator getTestValidator() {
+        return TestValidationFactoryHolder.VALIDATOR;
+    }
+
+    /**
+     * Starts building the shared validator factory in background, using specified executor, so that the bootstrap
+     * cost overlaps other setups.
+     *
+     * @param executor the executor to build the factory.
+     * @return a future of the shared validator factory.
+     * @see #getTestValidationFactory()
+     */
+    public static CompletableFuture<ValidatorFactory> warmUpTestValidationFactory(final Executor executor) {
+        if (executor == null) {
+            throw new NullPointerException("executor is null");
         }
-        return configuration;
+        return CompletableFuture.supplyAsync(BeanValidationTests::getTestValidationFactory, executor);
     }
 
     /**
-     * An instance of {@link ValidatorFactory} to be used in testing.
+     * Starts building the shared validator factory in background, using the common pool.
      *
-     * @see Validation#byDefaultProvider()
+     * @return a future of the shared validator factory.
+     * @see #warmUpTestValidationFactory(Executor)
      */
-    public static final ValidatorFactory TEST_VALIDATION_FACTORY
-            = messageInterpolator(Validation.byDefaultProvider().configure()).buildValidatorFactory();
+    public static CompletableFuture<ValidatorFactory> warmUpTestValidationFactory() {
+        return warmUpTestValidationFactory(ForkJoinPool.commonPool());
+    }
 
     // -----------------------------------------------------------------------------------------------------------------
 
     /**
-     * Applies an instance of {@link Validator} created from {@link #TEST_VALIDATION_FACTORY} to specified function and
-     * returns the result.
+     * Applies the shared instance of {@link Validator} to specified function and returns the result.
      *
      * @param function the function to be applied.
      * @param <R>      result type parameter
      * @return the result of the function.
+     * @see #getTestValidator()
      */
     public static <R> R applyValidator(final Function<? super Validator, ? extends R> function) {
-        return requireNonNull(function, "function is null").apply(TEST_VALIDATION_FACTORY.getValidator());
+        return requireNonNull(function, "function is null").apply(getTestValidator());
+    }
+
+    /**
+     * Applies a new instance of {@link Validator} created from {@link #getTestValidationFactory()} to specified
+     * function and returns the result. Use this method when a validator should not be shared.
+     *
+     * @param function the function to be applied.
+     * @param <R>      result type parameter
+     * @return the result of the function.
+     */
+    public static <R> R applyNewValidator(final Function<? super Validator, ? extends R> function) {
+        return requireNonNull(function, "function is null").apply(getTestValidationFactory().getValidator());
     }
 
     public static <U, R> R applyValidator(final BiFunction<? super Validator, ? super U, ? extends R> function,
@@ -98,17 +231,57 @@ public final class BeanValidationTests {
     // -----------------------------------------------------------------------------------------------------------------
 
     /**
-     * Validates specified bean.
+     * Validates specified bean using specified validator, e.g. a validator of a factory built by
+     * {@link ValidatorFactoryBuilder}.
+     *
+     * @param validator the validator to use.
+     * @param object    the bean to be validated; must be not {@code null}.
+     * @param <T>       bean type parameter
+     * @return a set of constraint violations; {@code empty} if valid.
+     */
+    public static <T> Set<ConstraintViolation<T>> validate(final Validator validator, final T object) {
+        if (validator == null) {
+            throw new NullPointerException("validator is null");
+        }
+        if (object == null) {
+            throw new NullPointerException("object is null");
+        }
+        final long started = System.nanoTime();
+        try {
+            return validator.validate(object);
+        } finally {
+            MetricsTests.record(CATEGORY_VALIDATION, object.getClass().getName(), 0L, started);
+        }
+    }
+
+    /**
+     * Validates specified bean using the shared validator.
      *
      * @param object the bean to be validated; must be not {@code null}.
      * @param <T>    bean type parameter
      * @return a set of constraint violations; {@code empty} if valid.
+     * @see #getTestValidator()
      */
     public static <T> Set<ConstraintViolation<T>> validate(final T object) {
+        return validate(getTestValidator(), object);
+    }
+
+    /**
+     * Checks whether specified bean is valid using specified validator.
+     *
+     * @param validator the validator to use.
+     * @param object    the bean to be checked.
+     * @return {@code true} if {@code object} is {@code null} or the result of {@link #validate(Validator, Object)}
+     * method with {@code validator} and {@code object} is empty.
+     */
+    public static boolean isValid(final Validator validator, final Object object) {
+        if (validator == null) {
+            throw new NullPointerException("validator is null");
+        }
         if (object == null) {
-            throw new NullPointerException("object is null");
+            return true;
         }
-        return applyValidator(v -> v.validate(object));
+        return validate(validator, object).isEmpty();
     }
 
     /**
@@ -119,10 +292,30 @@ public final class BeanValidationTests {
      * {@code object} is empty.
      */
     public static boolean isValid(final Object object) {
+        return isValid(getTestValidator(), object);
+    }
+
+    /**
+     * Checks that the specified bean is valid using specified validator.
+     *
+     * @param validator the validator to use.
+     * @param object    the bean to be validated; may be {@code null} which is considered as valid.
+     * @param <T>       bean type parameter
+     * @return specified bean.
+     * @throws ConstraintViolationException if the bean is not valid.
+     */
+    public static <T> T requireValid(final Validator validator, final T object) {
+        if (validator == null) {
+            throw new NullPointerException("validator is null");
+        }
         if (object == null) {
-            return true;
+            return null;
         }
-        return validate(object).isEmpty();
+        final Set<ConstraintViolation<T>> violations = validate(validator, object);
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+        return object;
     }
 
     /**
@@ -134,14 +327,223 @@ public final class BeanValidationTests {
      * @throws ConstraintViolationException if the bean is not valid.
      */
     public static <T> T requireValid(final T object) {
-        if (object == null) {
-            return null;
+        return requireValid(getTestValidator(), object);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Validates beans of specified spliterator, in parallel, using specified pool and returns an aggregated result.
+     * {@code null} elements are considered as valid.
+     *
+     * @param beans the spliterator of beans to validate.
+     * @param pool  the pool in which beans are validated.
+     * @param limit the maximum number of invalid beans whose violations are kept in the result.
+     * @param <T>   bean type parameter
+     * @return an aggregated result.
+     * @see BulkValidationResult#getSample()
+     */
+    public static <T> BulkValidationResult<T> validateAll(final Spliterator<? extends T> beans, final ForkJoinPool pool,
+                                                          final int limit) {
+        if (beans == null) {
+            throw new NullPointerException("beans is null");
         }
-        final Set<ConstraintViolation<T>> violations = validate(object);
-        if (!violations.isEmpty()) {
-            throw new ConstraintViolationException(violations);
+        if (pool == null) {
+            throw new NullPointerException("pool is null");
         }
-        return object;
+        if (limit < 0) {
+            throw new IllegalArgumentException("limit(" + limit + ") < 0");
+        }
+        final Validator validator = getTestValidator();
+        return pool.submit(() -> StreamSupport.stream(new IndexedSpliterator<T>(beans, 0L), true).collect(
+                () -> new BulkValidationResult.Accumulator<T>(limit),
+                (a, e) -> a.accept(e.index, e.value == null ? emptySet() : validator.validate(e.value)),
+                BulkValidationResult.Accumulator::combine)
+        ).join().finish();
+    }
+
+    public static <T> BulkValidationResult<T> validateAll(final Collection<? extends T> beans, final ForkJoinPool pool,
+                                                          final int limit) {
+        return validateAll(requireNonNull(beans, "beans is null").spliterator(), pool, limit);
+    }
+
+    public static <T> BulkValidationResult<T> validateAll(final Stream<? extends T> beans, final ForkJoinPool pool,
+                                                          final int limit) {
+        return validateAll(requireNonNull(beans, "beans is null").spliterator(), pool, limit);
+    }
+
+    /**
+     * Validates beans of specified collection, in parallel, using the common pool and returns an aggregated result.
+     *
+     * @param beans the collection of beans to validate.
+     * @param <T>   bean type parameter
+     * @return an aggregated result.
+     * @see #validateAll(Spliterator, ForkJoinPool, int)
+     */
+    public static <T> BulkValidationResult<T> validateAll(final Collection<? extends T> beans) {
+        return validateAll(beans, ForkJoinPool.commonPool(), DEFAULT_BULK_VALIDATION_LIMIT);
+    }
+
+    /**
+     * Checks, in parallel, using specified pool, whether all beans of specified spliterator are valid. This method
+     * returns as soon as an invalid bean is found.
+     *
+     * @param beans the spliterator of beans to check.
+     * @param pool  the pool in which beans are checked.
+     * @return {@code true} if all beans are valid; {@code false} otherwise.
+     * @see #isValid(Object)
+     */
+    public static boolean isAllValid(final Spliterator<?> beans, final ForkJoinPool pool) {
+        if (beans == null) {
+            throw new NullPointerException("beans is null");
+        }
+        if (pool == null) {
+            throw new NullPointerException("pool is null");
+        }
+        return pool.submit(() -> StreamSupport.stream(beans, true).allMatch(BeanValidationTests::isValid)).join();
+    }
+
+    public static boolean isAllValid(final Collection<?> beans, final ForkJoinPool pool) {
+        return isAllValid(requireNonNull(beans, "beans is null").spliterator(), pool);
+    }
+
+    public static boolean isAllValid(final Stream<?> beans, final ForkJoinPool pool) {
+        return isAllValid(requireNonNull(beans, "beans is null").spliterator(), pool);
+    }
+
+    public static boolean isAllValid(final Collection<?> beans) {
+        return isAllValid(beans, ForkJoinPool.commonPool());
+    }
+
+    private static final int DEFAULT_BULK_VALIDATION_LIMIT = 16;
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Builds constraint metadata, of specified classes and classes of their cascaded properties and container elements,
+     * of the shared validator ahead of time, using specified executor, so that first validations don't pay the
+     * introspection cost. A class which fails to be introspected, e.g. with a {@link LinkageError} or with an invalid
+     * constraint declaration, is logged and skipped.
+     *
+     * @param executor the executor in which classes are introspected.
+     * @param classes  the classes to introspect.
+     * @return a map of elapsed times of introspection keyed by given classes, except skipped ones, in the given order.
+     * @see Validator#getConstraintsForClass(Class)
+     */
+    public static Map<Class<?>, Duration> prewarm(final Executor executor, final Class<?>... classes) {
+        if (executor == null) {
+            throw new NullPointerException("executor is null");
+        }
+        if (classes == null) {
+            throw new NullPointerException("classes is null");
+        }
+        final Validator validator = getTestValidator();
+        final Map<Class<?>, CompletableFuture<Duration>> futures = new LinkedHashMap<>();
+        for (final Class<?> c : classes) {
+            futures.computeIfAbsent(requireNonNull(c, "null class"), k -> CompletableFuture.supplyAsync(() -> {
+                final long started = System.nanoTime();
+                try {
+                    introspect(validator, k, new HashSet<>());
+                } catch (final RuntimeException | LinkageError e) {
+                    log.debug("failed to introspect {}", k, e);
+                    return null;
+                }
+                return Duration.ofNanos(System.nanoTime() - started);
+            }, executor));
+        }
+        final Map<Class<?>, Duration> durations = new LinkedHashMap<>();
+        futures.forEach((k, v) -> {
+            final Duration duration = v.join();
+            if (duration != null) {
+                durations.put(k, duration);
+            }
+        });
+        log.debug("prewarmed: {}", durations);
+        return durations;
+    }
+
+    /**
+     * Builds constraint metadata of specified classes ahead of time using the common pool.
+     *
+     * @param classes the classes to introspect.
+     * @return a map of elapsed times of introspection keyed by given classes, except skipped ones, in the given order.
+     * @see #prewarm(Executor, Class[])
+     */
+    public static Map<Class<?>, Duration> prewarm(final Class<?>... classes) {
+        return prewarm(ForkJoinPool.commonPool(), classes);
+    }
+
+    /**
+     * Builds constraint metadata of all classes in specified package, and its sub-packages, ahead of time. Classes are
+     * found from the shared {@link ResourceIndex} of the class loader.
+     *
+     * @param loader      the class loader to find and load classes; {@code null} for the class loader of this class.
+     * @param packageName the name of the package.
+     * @param executor    the executor in which classes are introspected.
+     * @return a map of elapsed times of introspection keyed by found classes.
+     * @throws IOException if an I/O error occurs while scanning the package.
+     * @see #prewarm(Executor, Class[])
+     * @see ResourceIndex#of(ClassLoader)
+     */
+    public static Map<Class<?>, Duration> prewarmPackage(ClassLoader loader, final String packageName,
+                                                         final Executor executor)
+            throws IOException {
+        if (loader == null) {
+            loader = BeanValidationTests.class.getClassLoader();
+        }
+        if (packageName == null) {
+            throw new NullPointerException("packageName is null");
+        }
+        final List<Class<?>> classes = new ArrayList<>();
+        for (final String className : findClassNames(loader, packageName)) {
+            final Class<?> c;
+            try {
+                c = Class.forName(className, false, loader);
+            } catch (final ClassNotFoundException | LinkageError e) {
+                log.debug("failed to load {}", className, e);
+                continue;
+            }
+            if (c.isAnnotation() || c.isAnonymousClass() || c.isLocalClass() || c.isSynthetic()) {
+                continue;
+            }
+            classes.add(c);
+        }
+        return prewarm(executor, classes.toArray(new Class<?>[0]));
+    }
+
+    /**
+     * Builds constraint metadata of specified class and, recursively, of classes of its cascaded properties and
+     * cascaded container elements, e.g. {@code Child} of {@code List<@Valid Child>}.
+     */
+    static void introspect(final Validator validator, final Class<?> c, final Set<Class<?>> visited) {
+        if (!visited.add(c)) {
+            return;
+        }
+        for (final PropertyDescriptor property : validator.getConstraintsForClass(c).getConstrainedProperties()) {
+            if (property.isCascaded()) {
+                introspect(validator, property.getElementClass(), visited);
+            }
+            introspect(validator, property.getConstrainedContainerElementTypes(), visited);
+        }
+    }
+
+    private static void introspect(final Validator validator, final Set<ContainerElementTypeDescriptor> elements,
+                                   final Set<Class<?>> visited) {
+        for (final ContainerElementTypeDescriptor element : elements) {
+            if (element.isCascaded()) {
+                introspect(validator, element.getElementClass(), visited);
+            }
+            introspect(validator, element.getConstrainedContainerElementTypes(), visited);
+        }
+    }
+
+    private static Set<String> findClassNames(final ClassLoader loader, final String packageName)
+            throws IOException {
+        final String prefix = packageName.isEmpty() ? "" : packageName.replace('.', '/') + '/';
+        return ResourceIndex.of(loader).names(prefix + "**.class")
+                .filter(n -> !n.endsWith("module-info.class") && !n.endsWith("package-info.class"))
+                .map(n -> n.substring(0, n.length() - ".class".length()).replace('/', '.'))
+                .collect(Collectors.toCollection(TreeSet::new));
     }
 
     // -----------------------------------------------------------------------------------------------------------------
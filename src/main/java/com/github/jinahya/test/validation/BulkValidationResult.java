@@ -0,0 +1,176 @@
+package com.github.jinahya.test.validation;
+
+import javax.validation.ConstraintViolation;
+import java.lang.annotation.Annotation;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * An aggregated result of validating multiple beans.
+ *
+ * @param <T> bean type parameter
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see BeanValidationTests#validateAll(java.util.Spliterator, java.util.concurrent.ForkJoinPool, int)
+ */
+public final class BulkValidationResult<T> {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * A mutable container which accumulates results of a part of beans.
+     *
+     * @param <T> bean type parameter
+     */
+    static final class Accumulator<T> {
+
+        Accumulator(final int limit) {
+            super();
+            this.limit = limit;
+        }
+
+        void accept(final long index, final Set<ConstraintViolation<T>> violations) {
+            count++;
+            if (violations.isEmpty()) {
+                return;
+            }
+            invalidCount++;
+            for (final ConstraintViolation<T> violation : violations) {
+                countsByConstraint.merge(violation.getConstraintDescriptor().getAnnotation().annotationType(), 1L,
+                                         Long::sum);
+                countsByPropertyPath.merge(violation.getPropertyPath().toString(), 1L, Long::sum);
+            }
+            if (sample.size() < limit || (limit > 0 && index < sample.lastKey())) {
+                sample.put(index, violations);
+                trim();
+            }
+        }
+
+        Accumulator<T> combine(final Accumulator<T> other) {
+            count += other.count;
+            invalidCount += other.invalidCount;
+            other.countsByConstraint.forEach((k, v) -> countsByConstraint.merge(k, v, Long::sum));
+            other.countsByPropertyPath.forEach((k, v) -> countsByPropertyPath.merge(k, v, Long::sum));
+            sample.putAll(other.sample);
+            trim();
+            return this;
+        }
+
+        BulkValidationResult<T> finish() {
+            return new BulkValidationResult<>(count, invalidCount, countsByConstraint, countsByPropertyPath, sample);
+        }
+
+        private void trim() {
+            while (sample.size() > limit) {
+                sample.remove(sample.lastKey());
+            }
+        }
+
+        private final int limit;
+
+        private long count;
+
+        private long invalidCount;
+
+        private final Map<Class<? extends Annotation>, Long> countsByConstraint = new HashMap<>();
+
+        private final Map<String, Long> countsByPropertyPath = new HashMap<>();
+
+        private final TreeMap<Long, Set<ConstraintViolation<T>>> sample = new TreeMap<>();
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private BulkValidationResult(final long count, final long invalidCount,
+                                 final Map<Class<? extends Annotation>, Long> countsByConstraint,
+                                 final Map<String, Long> countsByPropertyPath,
+                                 final SortedMap<Long, Set<ConstraintViolation<T>>> sample) {
+        super();
+        this.count = count;
+        this.invalidCount = invalidCount;
+        this.countsByConstraint = Collections.unmodifiableMap(countsByConstraint);
+        this.countsByPropertyPath = Collections.unmodifiableMap(countsByPropertyPath);
+        this.sample = Collections.unmodifiableSortedMap(sample);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Override
+    public String toString() {
+        return super.toString() + "{"
+               + "count=" + count
+               + ",invalidCount=" + invalidCount
+               + ",countsByConstraint=" + countsByConstraint
+               + ",countsByPropertyPath=" + countsByPropertyPath
+               + "}";
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns the number of validated beans.
+     *
+     * @return the number of validated beans.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the number of beans with at least one constraint violation.
+     *
+     * @return the number of invalid beans.
+     */
+    public long getInvalidCount() {
+        return invalidCount;
+    }
+
+    /**
+     * Indicates whether all validated beans are valid.
+     *
+     * @return {@code true} if no bean is invalid; {@code false} otherwise.
+     */
+    public boolean isAllValid() {
+        return invalidCount == 0L;
+    }
+
+    /**
+     * Returns the numbers of constraint violations mapped by their constraint annotation types.
+     *
+     * @return an unmodifiable map of violation counts by constraint.
+     */
+    public Map<Class<? extends Annotation>, Long> getCountsByConstraint() {
+        return countsByConstraint;
+    }
+
+    /**
+     * Returns the numbers of constraint violations mapped by their property paths.
+     *
+     * @return an unmodifiable map of violation counts by property path.
+     */
+    public Map<String, Long> getCountsByPropertyPath() {
+        return countsByPropertyPath;
+    }
+
+    /**
+     * Returns constraint violations of first invalid beans, up to the requested limit, mapped by the indices of the
+     * beans.
+     *
+     * @return an unmodifiable map of constraint violations by bean index.
+     */
+    public SortedMap<Long, Set<ConstraintViolation<T>>> getSample() {
+        return sample;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private final long count;
+
+    private final long invalidCount;
+
+    private final Map<Class<? extends Annotation>, Long> countsByConstraint;
+
+    private final Map<String, Long> countsByPropertyPath;
+
+    private final SortedMap<Long, Set<ConstraintViolation<T>>> sample;
+}
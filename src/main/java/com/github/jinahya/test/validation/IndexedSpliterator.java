@@ -0,0 +1,115 @@
+package com.github.jinahya.test.validation;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * A spliterator which pairs each element of a source spliterator with its encounter index, even when split for
+ * parallel traversal. A source without {@link Spliterator#SUBSIZED} characteristic is split by copying batches of
+ * elements into arrays, as {@link Spliterators#spliteratorUnknownSize(java.util.Iterator, int)} does.
+ *
+ * @param <T> element type parameter
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+final class IndexedSpliterator<T> implements Spliterator<IndexedSpliterator.Element<T>> {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * An element paired with its index.
+     *
+     * @param <T> value type parameter
+     */
+    static final class Element<T> {
+
+        private Element(final long index, final T value) {
+            super();
+            this.index = index;
+            this.value = value;
+        }
+
+        final long index;
+
+        final T value;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private static final int BATCH_UNIT = 1 << 10;
+
+    private static final int MAX_BATCH = 1 << 25;
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new instance.
+     *
+     * @param source the source spliterator.
+     * @param origin the index of the first element of {@code source}.
+     */
+    IndexedSpliterator(final Spliterator<? extends T> source, final long origin) {
+        super();
+        if (source == null) {
+            throw new NullPointerException("source is null");
+        }
+        this.source = source;
+        this.index = origin;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Override
+    public boolean tryAdvance(final Consumer<? super Element<T>> action) {
+        if (action == null) {
+            throw new NullPointerException("action is null");
+        }
+        return source.tryAdvance(v -> action.accept(new Element<>(index++, v)));
+    }
+
+    @Override
+    public Spliterator<Element<T>> trySplit() {
+        if (source.hasCharacteristics(SUBSIZED)) {
+            final Spliterator<? extends T> prefix = source.trySplit();
+            if (prefix == null) {
+                return null;
+            }
+            final IndexedSpliterator<T> split = new IndexedSpliterator<>(prefix, index);
+            index += prefix.getExactSizeIfKnown();
+            return split;
+        }
+        final int size = (int) Math.min(batch + BATCH_UNIT, Math.min(source.estimateSize(), MAX_BATCH));
+        if (size <= 0) {
+            return null;
+        }
+        final Object[] array = new Object[size];
+        int count = 0;
+        for (final Object[] holder = new Object[1]; count < size && source.tryAdvance(v -> holder[0] = v); ) {
+            array[count++] = holder[0];
+        }
+        if (count == 0) {
+            return null;
+        }
+        batch = count;
+        @SuppressWarnings({"unchecked"})
+        final Spliterator<T> prefix = (Spliterator<T>) Spliterators.spliterator(array, 0, count, ORDERED);
+        final IndexedSpliterator<T> split = new IndexedSpliterator<>(prefix, index);
+        index += count;
+        return split;
+    }
+
+    @Override
+    public long estimateSize() {
+        return source.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return source.characteristics() & (ORDERED | SIZED | SUBSIZED);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private final Spliterator<? extends T> source;
+
+    private long index;
+
+    private int batch;
+}
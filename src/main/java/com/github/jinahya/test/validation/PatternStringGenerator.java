@@ -0,0 +1,312 @@
+package com.github.jinahya.test.validation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * A generator of strings which match a regular expression of a simple subset. Supported are literals, {@code .},
+ * character classes (e.g. {@code [a-z_0-9]}), the {@code \d}, {@code \w} and {@code \s} escapes, groups (capturing or
+ * {@code (?:...)}), alternations, the {@code ?}, {@code *}, {@code +} and {@code {n,m}} quantifiers, and the {@code ^}
+ * and {@code $} anchors at the ends. Unbounded quantifiers repeat at most {@value #UNBOUNDED_EXTRA} more times than
+ * their minimums.
+ * <p>
+ * An instance of this class is immutable and safe for concurrent use by multiple threads.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see javax.validation.constraints.Pattern
+ */
+final class PatternStringGenerator {
+
+    // -----------------------------------------------------------------------------------------------------------------
+    static final int UNBOUNDED_EXTRA = 8;
+
+    private static final char[] DIGITS = chars("0-9");
+
+    private static final char[] WORDS = chars("a-zA-Z0-9_");
+
+    private static final char[] SPACES = {' '};
+
+    private static final char[] PRINTABLES = chars(" -~");
+
+    private static char[] chars(final String ranges) {
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < ranges.length(); i++) {
+            if (i + 2 < ranges.length() && ranges.charAt(i + 1) == '-') {
+                for (char c = ranges.charAt(i); c <= ranges.charAt(i + 2); c++) {
+                    builder.append(c);
+                }
+                i += 2;
+            } else {
+                builder.append(ranges.charAt(i));
+            }
+        }
+        return builder.toString().toCharArray();
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private interface Node {
+
+        void generate(StringBuilder builder, SplittableRandom random);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Compiles specified regular expression.
+     *
+     * @param regex the regular expression.
+     * @return a new generator.
+     * @throws IllegalArgumentException if {@code regex} is not in the supported subset.
+     */
+    static PatternStringGenerator compile(final String regex) {
+        if (regex == null) {
+            throw new NullPointerException("regex is null");
+        }
+        final PatternStringGenerator generator = new PatternStringGenerator(regex);
+        if (generator.position != regex.length()) {
+            throw generator.unsupported();
+        }
+        return generator;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private PatternStringGenerator(final String regex) {
+        super();
+        this.regex = regex;
+        int end = regex.length();
+        if (end > 0 && regex.charAt(end - 1) == '$' && (end < 2 || regex.charAt(end - 2) != '\\')) {
+            end--;
+        }
+        this.end = end;
+        if (end > 0 && regex.charAt(0) == '^') {
+            position++;
+        }
+        root = alternation();
+        if (position == end) {
+            position = regex.length();
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Generates a new string which matches the regular expression.
+     *
+     * @param random the random to use.
+     * @return a new matching string.
+     */
+    String generate(final SplittableRandom random) {
+        final StringBuilder builder = new StringBuilder();
+        root.generate(builder, random);
+        return builder.toString();
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private Node alternation() {
+        final List<Node> alternatives = new ArrayList<>();
+        alternatives.add(sequence());
+        while (position < end && regex.charAt(position) == '|') {
+            position++;
+            alternatives.add(sequence());
+        }
+        if (alternatives.size() == 1) {
+            return alternatives.get(0);
+        }
+        final Node[] nodes = alternatives.toArray(new Node[0]);
+        return (b, r) -> nodes[r.nextInt(nodes.length)].generate(b, r);
+    }
+
+    private Node sequence() {
+        final List<Node> nodes = new ArrayList<>();
+        while (position < end && regex.charAt(position) != '|' && regex.charAt(position) != ')') {
+            nodes.add(quantified(atom()));
+        }
+        final Node[] array = nodes.toArray(new Node[0]);
+        return (b, r) -> {
+            for (final Node node : array) {
+                node.generate(b, r);
+            }
+        };
+    }
+
+    private Node quantified(final Node atom) {
+        if (position == end) {
+            return atom;
+        }
+        final int min;
+        final int max;
+        switch (regex.charAt(position)) {
+            case '?':
+                min = 0;
+                max = 1;
+                break;
+            case '*':
+                min = 0;
+                max = UNBOUNDED_EXTRA;
+                break;
+            case '+':
+                min = 1;
+                max = 1 + UNBOUNDED_EXTRA;
+                break;
+            case '{':
+                final int close = regex.indexOf('}', position);
+                if (close < 0) {
+                    throw unsupported();
+                }
+                final String[] bounds = regex.substring(position + 1, close).split(",", -1);
+                try {
+                    min = Integer.parseInt(bounds[0]);
+                    if (bounds.length == 1) {
+                        max = min;
+                    } else if (bounds.length == 2) {
+                        max = bounds[1].isEmpty() ? min + UNBOUNDED_EXTRA : Integer.parseInt(bounds[1]);
+                    } else {
+                        throw unsupported();
+                    }
+                } catch (final NumberFormatException nfe) {
+                    throw unsupported();
+                }
+                if (min < 0 || max < min) {
+                    throw unsupported();
+                }
+                position = close;
+                break;
+            default:
+                return atom;
+        }
+        position++;
+        if (position < end && (regex.charAt(position) == '?' || regex.charAt(position) == '+')) {
+            position++; // reluctant or possessive; generates the same
+        }
+        return (b, r) -> {
+            for (int i = min == max ? min : r.nextInt(min, max + 1); i > 0; i--) {
+                atom.generate(b, r);
+            }
+        };
+    }
+
+    private Node atom() {
+        final char c = regex.charAt(position++);
+        switch (c) {
+            case '(':
+                if (regex.startsWith("?:", position)) {
+                    position += 2;
+                } else if (position < end && regex.charAt(position) == '?') {
+                    throw unsupported();
+                }
+                final Node group = alternation();
+                if (position == end || regex.charAt(position) != ')') {
+                    throw unsupported();
+                }
+                position++;
+                return group;
+            case '[':
+                return characters(characterClass());
+            case '.':
+                return characters(PRINTABLES);
+            case '\\':
+                final char[] escaped = escape();
+                return characters(escaped);
+            case '*':
+            case '+':
+            case '?':
+            case '{':
+            case '^':
+            case '$':
+                position--;
+                throw unsupported();
+            default:
+                return (b, r) -> b.append(c);
+        }
+    }
+
+    private char[] escape() {
+        if (position == end) {
+            throw unsupported();
+        }
+        final char c = regex.charAt(position++);
+        switch (c) {
+            case 'd':
+                return DIGITS;
+            case 'w':
+                return WORDS;
+            case 's':
+                return SPACES;
+            default:
+                if (Character.isLetterOrDigit(c)) {
+                    position--;
+                    throw unsupported();
+                }
+                return new char[] {c};
+        }
+    }
+
+    private char[] characterClass() {
+        if (position < end && regex.charAt(position) == '^') {
+            throw unsupported();
+        }
+        final StringBuilder builder = new StringBuilder();
+        boolean first = true;
+        while (position < end && (first || regex.charAt(position) != ']')) {
+            first = false;
+            char c = regex.charAt(position++);
+            if (c == '\\') {
+                final char[] escaped = escape();
+                if (escaped.length > 1) {
+                    builder.append(escaped);
+                    continue;
+                }
+                c = escaped[0];
+            } else if (c == '[' || (c == '&' && position < end && regex.charAt(position) == '&')) {
+                position--;
+                throw unsupported();
+            }
+            if (position + 1 < end && regex.charAt(position) == '-' && regex.charAt(position + 1) != ']') {
+                position++;
+                char to = regex.charAt(position++);
+                if (to == '\\') {
+                    final char[] escaped = escape();
+                    if (escaped.length > 1) {
+                        throw unsupported();
+                    }
+                    to = escaped[0];
+                }
+                if (to < c) {
+                    throw unsupported();
+                }
+                for (char x = c; x <= to; x++) {
+                    builder.append(x);
+                }
+            } else {
+                builder.append(c);
+            }
+        }
+        if (position == end) {
+            throw unsupported();
+        }
+        position++; // ']'
+        return builder.toString().toCharArray();
+    }
+
+    private static Node characters(final char[] chars) {
+        if (chars.length == 1) {
+            final char c = chars[0];
+            return (b, r) -> b.append(c);
+        }
+        return (b, r) -> b.append(chars[r.nextInt(chars.length)]);
+    }
+
+    private IllegalArgumentException unsupported() {
+        return new IllegalArgumentException("unsupported regular expression '" + regex + "' at " + position);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private final String regex;
+
+    private final int end;
+
+    private int position; // used only while compiling
+
+    private final Node root;
+}
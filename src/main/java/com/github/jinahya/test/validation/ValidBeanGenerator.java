@@ -0,0 +1,529 @@
+package com.github.jinahya.test.validation;
+
+import com.github.jinahya.test.util.JinahyaEnumTestUtils;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.validation.constraints.AssertFalse;
+import javax.validation.constraints.AssertTrue;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.Negative;
+import javax.validation.constraints.NegativeOrZero;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Null;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.PositiveOrZero;
+import javax.validation.constraints.Size;
+import javax.validation.metadata.BeanDescriptor;
+import javax.validation.metadata.ConstraintDescriptor;
+import javax.validation.metadata.ContainerElementTypeDescriptor;
+import javax.validation.metadata.PropertyDescriptor;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * A generator of random beans which are valid by construction. Constraint metadata of each bean class is read from
+ * {@link BeanValidationTests#getTestValidator()} and compiled, once, into a cached plan which sets each constrained
+ * field with a value satisfying its constraints.
+ * <p>
+ * Supported constraints are {@link NotNull}, {@link NotEmpty}, {@link NotBlank}, {@link Null}, {@link Size},
+ * {@link Min}, {@link Max}, {@link Positive}, {@link PositiveOrZero}, {@link Negative} and {@link NegativeOrZero}, on
+ * numbers only, {@link AssertTrue}, {@link AssertFalse} and {@link Pattern}, the last of a simple subset of regular
+ * expressions.
+ * Supported types are strings, booleans, integral numbers, {@link BigInteger}, {@link BigDecimal}, floating-point
+ * numbers, enums, {@link List}s, {@link Set}s and {@link Collection}s of those, and nested beans with public or
+ * non-public no-arg constructors. Supported constraints on elements of collections, e.g.
+ * {@code List<@Size(max = 2) String>}, are honored; elements are never {@code null}. Enum constants are selected with
+ * {@link JinahyaEnumTestUtils}. Unconstrained fields are left as initialized by the constructor. Compiling a plan of a
+ * class with any other constraint, including any class-level constraint, fails with an
+ * {@link IllegalArgumentException}.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see BeanValidationTests#isValid(Object)
+ */
+@Slf4j
+public final class ValidBeanGenerator {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The maximum depth of nested beans. A nested bean beyond this depth is left {@code null} unless it is required.
+     */
+    public static final int MAXIMUM_DEPTH = 8;
+
+    /**
+     * The maximum length of generated strings and collections whose sizes are not bounded above.
+     */
+    static final int UNBOUNDED_SIZE = 16;
+
+    private static final int MAXIMUM_ATTEMPTS = 64;
+
+    private static final char[] ALPHANUMERICS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789"
+            .toCharArray();
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private interface ValueGenerator {
+
+        Object generate(SplittableRandom random, int depth);
+    }
+
+    /**
+     * A compiled plan of generating a valid bean of a class.
+     */
+    private static final class Plan {
+
+        private Plan(final Class<?> beanClass) {
+            super();
+            try {
+                constructor = beanClass.getDeclaredConstructor();
+            } catch (final NoSuchMethodException nsme) {
+                throw new IllegalArgumentException("no no-arg constructor of " + beanClass, nsme);
+            }
+            constructor.setAccessible(true);
+            final BeanDescriptor descriptor = BeanValidationTests.getTestValidator().getConstraintsForClass(beanClass);
+            if (!descriptor.getConstraintDescriptors().isEmpty()) {
+                final Annotation annotation = descriptor.getConstraintDescriptors().iterator().next().getAnnotation();
+                throw new IllegalArgumentException("unsupported class-level constraint @"
+                                                   + annotation.annotationType().getSimpleName() + " of " + beanClass);
+            }
+            final Set<PropertyDescriptor> properties = descriptor.getConstrainedProperties();
+            fields = new Field[properties.size()];
+            generators = new ValueGenerator[properties.size()];
+            int i = 0;
+            for (final PropertyDescriptor property : properties) {
+                fields[i] = field(beanClass, property.getPropertyName());
+                fields[i].setAccessible(true);
+                generators[i] = compile(beanClass, property, fields[i]);
+                i++;
+            }
+        }
+
+        private Object generate(final SplittableRandom random, final int depth) {
+            final Object bean;
+            try {
+                bean = constructor.newInstance();
+                for (int i = 0; i < fields.length; i++) {
+                    fields[i].set(bean, generators[i].generate(random, depth));
+                }
+            } catch (final ReflectiveOperationException roe) {
+                throw new RuntimeException("failed to generate an instance of " + constructor.getDeclaringClass(),
+                                           roe);
+            }
+            return bean;
+        }
+
+        private final Constructor<?> constructor;
+
+        private final Field[] fields;
+
+        private final ValueGenerator[] generators;
+    }
+
+    private static final ClassValue<Plan> PLANS = new ClassValue<Plan>() {
+        @Override
+        protected Plan computeValue(final Class<?> type) {
+            final Plan plan = new Plan(type);
+            log.debug("compiled a plan of {} with {} constrained field(s)", type, plan.fields.length);
+            return plan;
+        }
+    };
+
+    private static Plan plan(final Class<?> beanClass) {
+        if (beanClass == null) {
+            throw new NullPointerException("beanClass is null");
+        }
+        return PLANS.get(beanClass);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Generates a new valid instance of specified class.
+     *
+     * @param beanClass the bean class.
+     * @param random    the random to use.
+     * @param <T>       bean type parameter
+     * @return a new valid instance.
+     * @throws IllegalArgumentException if the class has any unsupported constraint or type.
+     */
+    public static <T> T generateValid(final Class<T> beanClass, final SplittableRandom random) {
+        if (random == null) {
+            throw new NullPointerException("random is null");
+        }
+        return beanClass.cast(plan(beanClass).generate(random, 0));
+    }
+
+    /**
+     * Returns a stream of new valid instances of specified class. The {@code i}-th bean is generated with a random
+     * derived only from {@code seed} and {@code i}, so the stream yields the same beans in the same order whether it
+     * runs sequentially or in parallel.
+     *
+     * @param beanClass the bean class.
+     * @param seed      the seed.
+     * @param count     the number of beans to generate.
+     * @param <T>       bean type parameter
+     * @return a stream of new valid instances.
+     * @throws IllegalArgumentException if the class has any unsupported constraint or type.
+     */
+    public static <T> Stream<T> generateValid(final Class<T> beanClass, final long seed, final long count) {
+        if (count < 0L) {
+            throw new IllegalArgumentException("count(" + count + ") < 0L");
+        }
+        final Plan plan = plan(beanClass); // fails fast
+        return LongStream.range(0L, count).mapToObj(
+                i -> beanClass.cast(plan.generate(new SplittableRandom(seed + i * 0x9E3779B97F4A7C15L), 0)));
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private static Field field(final Class<?> beanClass, final String name) {
+        for (Class<?> c = beanClass; c != null; c = c.getSuperclass()) {
+            try {
+                final Field field = c.getDeclaredField(name);
+                if (!Modifier.isStatic(field.getModifiers()) && !Modifier.isFinal(field.getModifiers())) {
+                    return field;
+                }
+            } catch (final NoSuchFieldException nsfe) {
+                // try the superclass
+            }
+        }
+        throw new IllegalArgumentException("no settable field for '" + name + "' of " + beanClass);
+    }
+
+    /**
+     * Constraints of a property, or of elements of a property, folded into bounds of values.
+     */
+    private static final class Bounds {
+
+        private Bounds(final Set<ConstraintDescriptor<?>> descriptors, final String where) {
+            super();
+            for (final ConstraintDescriptor<?> descriptor : descriptors) {
+                final Annotation annotation = descriptor.getAnnotation();
+                if (annotation instanceof NotNull) {
+                    required = true;
+                } else if (annotation instanceof Null) {
+                    isNull = true;
+                } else if (annotation instanceof NotEmpty) {
+                    required = true;
+                    minSize = Math.max(minSize, 1);
+                } else if (annotation instanceof NotBlank) {
+                    required = true;
+                    blank = false;
+                    minSize = Math.max(minSize, 1);
+                } else if (annotation instanceof Size) {
+                    minSize = Math.max(minSize, ((Size) annotation).min());
+                    maxSize = Math.min(maxSize, ((Size) annotation).max());
+                } else if (annotation instanceof Min) {
+                    min = Math.max(min, ((Min) annotation).value());
+                    numeric = true;
+                } else if (annotation instanceof Max) {
+                    max = Math.min(max, ((Max) annotation).value());
+                    numeric = true;
+                } else if (annotation instanceof Positive) {
+                    min = Math.max(min, 1L);
+                    numeric = true;
+                } else if (annotation instanceof PositiveOrZero) {
+                    min = Math.max(min, 0L);
+                    numeric = true;
+                } else if (annotation instanceof Negative) {
+                    max = Math.min(max, -1L);
+                    numeric = true;
+                } else if (annotation instanceof NegativeOrZero) {
+                    max = Math.min(max, 0L);
+                    numeric = true;
+                } else if (annotation instanceof AssertTrue) {
+                    assertion = Boolean.TRUE;
+                } else if (annotation instanceof AssertFalse) {
+                    assertion = Boolean.FALSE;
+                } else if (annotation instanceof Pattern) {
+                    regex = ((Pattern) annotation).regexp();
+                } else {
+                    throw new IllegalArgumentException(
+                            "unsupported constraint @" + annotation.annotationType().getSimpleName() + " on " + where);
+                }
+            }
+        }
+
+        private boolean required;
+
+        private boolean blank = true;
+
+        private boolean isNull;
+
+        private boolean numeric;
+
+        private Boolean assertion;
+
+        private int minSize;
+
+        private int maxSize = Integer.MAX_VALUE;
+
+        private long min = Long.MIN_VALUE;
+
+        private long max = Long.MAX_VALUE;
+
+        private String regex;
+    }
+
+    /**
+     * Compiles constraints of specified property, and of its elements, into a generator of values.
+     */
+    private static ValueGenerator compile(final Class<?> beanClass, final PropertyDescriptor property,
+                                          final Field field) {
+        final String where = "'" + property.getPropertyName() + "' of " + beanClass;
+        final Bounds bounds = new Bounds(property.getConstraintDescriptors(), where);
+        final Set<ContainerElementTypeDescriptor> elements = property.getConstrainedContainerElementTypes();
+        ValueGenerator element = null;
+        if (Collection.class.isAssignableFrom(field.getType())) {
+            element = element(field, elements, "elements of " + where);
+        } else if (!elements.isEmpty()) {
+            throw new IllegalArgumentException("unsupported container element constraints on " + where);
+        }
+        return generator(field.getType(), bounds, element, !bounds.required, where);
+    }
+
+    /**
+     * Returns a generator of values of specified type which satisfy specified bounds.
+     *
+     * @param element  a generator of elements, if {@code type} is a collection type.
+     * @param nullable whether a nested bean may be {@code null} beyond the {@link #MAXIMUM_DEPTH}.
+     */
+    private static ValueGenerator generator(final Class<?> type, final Bounds bounds, final ValueGenerator element,
+                                            final boolean nullable, final String where) {
+        if (bounds.isNull) {
+            if (bounds.required || type.isPrimitive()) {
+                throw new IllegalArgumentException("unsatisfiable @Null on " + where);
+            }
+            return (r, d) -> null;
+        }
+        final int minSize = bounds.minSize;
+        if (minSize > bounds.maxSize || bounds.min > bounds.max) {
+            throw new IllegalArgumentException("unsatisfiable constraints on " + where);
+        }
+        if (bounds.numeric && !isNumber(type)) {
+            throw new IllegalArgumentException("numeric constraints on non-numeric " + where);
+        }
+        if (Collection.class.isAssignableFrom(type)) {
+            final int lo = minSize;
+            final int hi = upper(minSize, bounds.maxSize);
+            if (type.isAssignableFrom(ArrayList.class)) {
+                return (r, d) -> {
+                    final int size = lo == hi ? lo : r.nextInt(lo, hi + 1);
+                    final List<Object> list = new ArrayList<>(size);
+                    for (int i = 0; i < size; i++) {
+                        list.add(element.generate(r, d + 1));
+                    }
+                    return list;
+                };
+            }
+            if (type.isAssignableFrom(LinkedHashSet.class)) {
+                return (r, d) -> {
+                    final int size = lo == hi ? lo : r.nextInt(lo, hi + 1);
+                    final Set<Object> set = new LinkedHashSet<>();
+                    for (int i = 0; set.size() < size; i++) {
+                        if (i == size * MAXIMUM_ATTEMPTS) {
+                            throw new IllegalStateException("failed to generate " + size + " distinct elements of "
+                                                            + where);
+                        }
+                        set.add(element.generate(r, d + 1));
+                    }
+                    return set;
+                };
+            }
+            throw new IllegalArgumentException("unsupported collection type " + type + " of " + where);
+        }
+        if (CharSequence.class.isAssignableFrom(type)) {
+            if (!type.isAssignableFrom(String.class)) {
+                throw new IllegalArgumentException("unsupported type " + type + " of " + where);
+            }
+            return string(bounds.regex, minSize, upper(minSize, bounds.maxSize), bounds.blank, where);
+        }
+        if (bounds.regex != null) {
+            throw new IllegalArgumentException("@Pattern on non-string " + where);
+        }
+        if (type == boolean.class || type == Boolean.class) {
+            final Boolean value = bounds.assertion;
+            return value == null ? (r, d) -> r.nextBoolean() : (r, d) -> value;
+        }
+        final ValueGenerator scalar = scalar(type, bounds.min, bounds.max);
+        if (scalar != null) {
+            return scalar;
+        }
+        return (r, d) -> {
+            if (d >= MAXIMUM_DEPTH) {
+                if (nullable) {
+                    return null;
+                }
+                throw new IllegalStateException("too deeply nested beans at " + where);
+            }
+            return plan(type).generate(r, d + 1);
+        };
+    }
+
+    private static boolean isNumber(final Class<?> type) {
+        return type == byte.class || type == short.class || type == int.class || type == long.class
+               || type == float.class || type == double.class || type == Byte.class || type == Short.class
+               || type == Integer.class || type == Long.class || type == Float.class || type == Double.class
+               || type == BigInteger.class || type == BigDecimal.class;
+    }
+
+    private static int upper(final int minSize, final int maxSize) {
+        return (int) Math.min(maxSize, (long) minSize + UNBOUNDED_SIZE);
+    }
+
+    /**
+     * Returns a generator of elements, which satisfy specified element constraints, of specified collection field.
+     * Elements are never {@code null}.
+     */
+    private static ValueGenerator element(final Field field, final Set<ContainerElementTypeDescriptor> descriptors,
+                                          final String where) {
+        final Type generic = field.getGenericType();
+        if (!(generic instanceof ParameterizedType)
+            || !(((ParameterizedType) generic).getActualTypeArguments()[0] instanceof Class)) {
+            throw new IllegalArgumentException("unsupported element type of " + where);
+        }
+        final Class<?> type = (Class<?>) ((ParameterizedType) generic).getActualTypeArguments()[0];
+        final Set<ConstraintDescriptor<?>> constraints = new LinkedHashSet<>();
+        for (final ContainerElementTypeDescriptor descriptor : descriptors) {
+            if (descriptor.getTypeArgumentIndex() == null || descriptor.getTypeArgumentIndex() != 0
+                || !descriptor.getConstrainedContainerElementTypes().isEmpty()) {
+                throw new IllegalArgumentException("unsupported container element constraints on " + where);
+            }
+            constraints.addAll(descriptor.getConstraintDescriptors());
+        }
+        final Bounds bounds = new Bounds(constraints, where);
+        if (bounds.isNull) {
+            throw new IllegalArgumentException("unsupported @Null on " + where);
+        }
+        if (type == String.class && constraints.isEmpty()) {
+            return string(null, 1, 1 + UNBOUNDED_SIZE / 2, false, null);
+        }
+        return generator(type, bounds, null, false, where);
+    }
+
+    /**
+     * Returns a generator of strings, of lengths between specified bounds, which match specified regular expression.
+     */
+    private static ValueGenerator string(final String regex, final int lo, final int hi, final boolean blank,
+                                         final String where) {
+        if (regex == null) {
+            return (r, d) -> {
+                final int length = lo == hi ? lo : r.nextInt(lo, hi + 1);
+                final char[] chars = new char[length];
+                for (int i = 0; i < length; i++) {
+                    chars[i] = ALPHANUMERICS[r.nextInt(ALPHANUMERICS.length)];
+                }
+                return new String(chars);
+            };
+        }
+        final PatternStringGenerator generator;
+        try {
+            generator = PatternStringGenerator.compile(regex);
+        } catch (final IllegalArgumentException iae) {
+            throw new IllegalArgumentException("unsupported @Pattern on " + where, iae);
+        }
+        return (r, d) -> {
+            for (int i = 0; i < MAXIMUM_ATTEMPTS; i++) {
+                final String value = generator.generate(r);
+                if (value.length() >= lo && value.length() <= hi && (blank || !value.trim().isEmpty())) {
+                    return value;
+                }
+            }
+            throw new IllegalStateException("failed to generate a string of /" + regex + "/ and sizes of [" + lo
+                                            + ", " + hi + "] for " + where);
+        };
+    }
+
+    /**
+     * Returns a generator of numbers or enum constants of specified type; {@code null} if the type is neither.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static ValueGenerator scalar(final Class<?> type, final long min, final long max) {
+        if (type.isEnum()) {
+            return (r, d) -> JinahyaEnumTestUtils.getRandomEnumConstant((Class) type, r);
+        }
+        if (type == double.class || type == Double.class || type == float.class || type == Float.class) {
+            double lo = Math.max(min, -1.0e6d);
+            double hi = Math.min(max, 1.0e6d);
+            if (lo > hi) { // the range lies beyond [-1.0e6, 1.0e6]; take the same width at its end nearer to zero
+                lo = min > 0L ? min : Math.max(min, max - 2.0e6d);
+                hi = min > 0L ? Math.min(max, min + 2.0e6d) : max;
+            }
+            final double l = lo;
+            final double h = hi;
+            if (type == float.class || type == Float.class) {
+                return (r, d) -> (float) (l == h ? l : r.nextDouble(l, h));
+            }
+            return (r, d) -> l == h ? l : r.nextDouble(l, h);
+        }
+        final long lo;
+        final long hi;
+        if (type == byte.class || type == Byte.class) {
+            lo = Math.max(min, Byte.MIN_VALUE);
+            hi = Math.min(max, Byte.MAX_VALUE);
+        } else if (type == short.class || type == Short.class) {
+            lo = Math.max(min, Short.MIN_VALUE);
+            hi = Math.min(max, Short.MAX_VALUE);
+        } else if (type == int.class || type == Integer.class) {
+            lo = Math.max(min, Integer.MIN_VALUE);
+            hi = Math.min(max, Integer.MAX_VALUE);
+        } else if (type == long.class || type == Long.class || type == BigInteger.class || type == BigDecimal.class) {
+            lo = min;
+            hi = max;
+        } else {
+            return null;
+        }
+        if (lo > hi) {
+            throw new IllegalArgumentException("unsatisfiable range [" + min + ", " + max + "] of " + type);
+        }
+        final ValueGenerator longs;
+        if (lo == Long.MIN_VALUE && hi == Long.MAX_VALUE) {
+            longs = (r, d) -> r.nextLong();
+        } else if (hi == Long.MAX_VALUE) {
+            longs = (r, d) -> r.nextLong(lo - 1L, hi) + 1L;
+        } else {
+            longs = (r, d) -> r.nextLong(lo, hi + 1L);
+        }
+        if (type == byte.class || type == Byte.class) {
+            return (r, d) -> (byte) (long) (Long) longs.generate(r, d);
+        }
+        if (type == short.class || type == Short.class) {
+            return (r, d) -> (short) (long) (Long) longs.generate(r, d);
+        }
+        if (type == int.class || type == Integer.class) {
+            return (r, d) -> (int) (long) (Long) longs.generate(r, d);
+        }
+        if (type == BigInteger.class) {
+            return (r, d) -> BigInteger.valueOf((Long) longs.generate(r, d));
+        }
+        if (type == BigDecimal.class) {
+            return (r, d) -> BigDecimal.valueOf((Long) longs.generate(r, d));
+        }
+        return longs;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new instance.
+     */
+    private ValidBeanGenerator() {
+        super();
+    }
+}
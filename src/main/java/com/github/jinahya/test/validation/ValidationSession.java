@@ -0,0 +1,331 @@
+package com.github.jinahya.test.validation;
+
+import com.github.jinahya.test.metrics.MetricsTests;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import javax.validation.metadata.BeanDescriptor;
+import javax.validation.metadata.PropertyDescriptor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static com.github.jinahya.test.metrics.TestMetrics.CATEGORY_VALIDATION;
+
+/**
+ * An incremental validation of a bean which is mutated between validations. The session keeps the violations of the
+ * last validation and, on {@link #revalidate()}, re-checks only the properties marked dirty, with
+ * {@link Validator#validateProperty(Object, String, Class[])}, replacing the violations at and under their paths.
+ * <p>
+ * A dirty property which is cascaded is re-checked property by property down to its nested beans. A full validation is
+ * done instead, and filtered by path where possible, whenever re-checking properties would miss something; i.e. when
+ * the bean class, the class of a bean along a dirty path (e.g. {@code child} of {@code child.name}), or the class of a
+ * nested bean to re-check, has class-level constraints, when a path has an index (e.g. {@code items[0]}), or when a
+ * dirty cascaded property holds a container such as a collection, a map, an array or an {@link Optional}.
+ * <p>
+ * An instance of this class is not safe for concurrent use by multiple threads.
+ *
+ * @param <T> bean type parameter
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see BeanValidationTests#validate(Object)
+ */
+public final class ValidationSession<T> {
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private static boolean isUnder(final String path, final String parent) {
+        return path.startsWith(parent)
+               && (path.length() == parent.length() || path.charAt(parent.length()) == '.'
+                   || path.charAt(parent.length()) == '[');
+    }
+
+    private static boolean isContainer(final Object value) {
+        return value instanceof Iterable || value instanceof Map || value instanceof Optional
+               || value.getClass().isArray();
+    }
+
+    /**
+     * Reads the value of specified property of specified bean from its getter or, if none, its field.
+     */
+    private static Object propertyValue(final Object bean, final String name) {
+        final String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        for (final String prefix : new String[] {"get", "is"}) {
+            try {
+                final Method getter = bean.getClass().getMethod(prefix + capitalized);
+                if (getter.getReturnType() != void.class) {
+                    getter.setAccessible(true);
+                    return getter.invoke(bean);
+                }
+            } catch (final NoSuchMethodException nsme) {
+                // try the next
+            } catch (final ReflectiveOperationException | RuntimeException e) {
+                throw new RuntimeException("failed to get '" + name + "' of " + bean.getClass(), e);
+            }
+        }
+        for (Class<?> c = bean.getClass(); c != null; c = c.getSuperclass()) {
+            try {
+                final Field field = c.getDeclaredField(name);
+                field.setAccessible(true);
+                return field.get(bean);
+            } catch (final NoSuchFieldException nsfe) {
+                // try the superclass
+            } catch (final ReflectiveOperationException | RuntimeException e) {
+                throw new RuntimeException("failed to get '" + name + "' of " + bean.getClass(), e);
+            }
+        }
+        throw new IllegalArgumentException("no property '" + name + "' in " + bean.getClass());
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new session of specified bean, validated fully with specified validator.
+     *
+     * @param validator the validator to use.
+     * @param bean      the bean to validate.
+     */
+    public ValidationSession(final Validator validator, final T bean) {
+        super();
+        if (validator == null) {
+            throw new NullPointerException("validator is null");
+        }
+        if (bean == null) {
+            throw new NullPointerException("bean is null");
+        }
+        this.validator = validator;
+        this.bean = bean;
+        final BeanDescriptor descriptor = validator.getConstraintsForClass(bean.getClass());
+        classConstrained = !descriptor.getConstraintDescriptors().isEmpty();
+        revalidateAll();
+    }
+
+    /**
+     * Creates a new session of specified bean, validated fully with {@link BeanValidationTests#getTestValidator()}.
+     *
+     * @param bean the bean to validate.
+     */
+    public ValidationSession(final T bean) {
+        this(BeanValidationTests.getTestValidator(), bean);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Override
+    public String toString() {
+        return super.toString() + "{"
+               + "bean=" + bean
+               + ",violations=" + violations.size()
+               + ",dirty=" + dirty
+               + ",fullValidationCount=" + fullValidationCount
+               + ",propertyValidationCount=" + propertyValidationCount
+               + "}";
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Marks specified property as changed since the last validation.
+     *
+     * @param propertyPath the path of the changed property; e.g. {@code name} or {@code child.name}.
+     * @return this session.
+     */
+    public ValidationSession<T> markDirty(final String propertyPath) {
+        if (propertyPath == null) {
+            throw new NullPointerException("propertyPath is null");
+        }
+        if (propertyPath.isEmpty()) {
+            throw new IllegalArgumentException("propertyPath is empty");
+        }
+        dirty.add(propertyPath);
+        return this;
+    }
+
+    /**
+     * Re-checks properties marked dirty and returns the updated violations. Dirty marks are cleared.
+     *
+     * @return a set of current violations; {@code empty} if valid.
+     */
+    public Set<ConstraintViolation<T>> revalidate() {
+        if (dirty.isEmpty()) {
+            return getViolations();
+        }
+        if (classConstrained) {
+            return revalidateAll();
+        }
+        final long started = System.nanoTime();
+        String previous = null;
+        for (final String path : dirty) { // sorted; a parent precedes its children
+            if (previous != null && isUnder(path, previous)) {
+                continue;
+            }
+            previous = path;
+            violations.removeIf(v -> isUnder(v.getPropertyPath().toString(), path));
+            revalidate(path, Collections.newSetFromMap(new IdentityHashMap<>()));
+        }
+        dirty.clear();
+        MetricsTests.record(CATEGORY_VALIDATION, bean.getClass().getName(), 0L, started);
+        return getViolations();
+    }
+
+    private void revalidate(final String path, final Set<Object> visited) {
+        if (path.indexOf('[') >= 0) {
+            revalidateUnder(path, true);
+            return;
+        }
+        Object owner = bean;
+        final String[] names = path.split("\\.");
+        for (int i = 0; i < names.length - 1 && owner != null; i++) {
+            owner = propertyValue(owner, names[i]);
+            if (owner != null && !validator.getConstraintsForClass(owner.getClass()).getConstraintDescriptors()
+                    .isEmpty()) { // the class-level violations of the owner are reported at the path of the owner
+                final String ownerPath = String.join(".", Arrays.copyOf(names, i + 1));
+                violations.removeIf(v -> isUnder(v.getPropertyPath().toString(), ownerPath));
+                revalidateUnder(ownerPath, true);
+                return;
+            }
+        }
+        violations.addAll(validator.validateProperty(bean, path));
+        propertyValidationCount++;
+        if (owner == null) {
+            return;
+        }
+        final String name = names[names.length - 1];
+        final PropertyDescriptor property = validator.getConstraintsForClass(owner.getClass())
+                .getConstraintsForProperty(name);
+        if (property == null || !property.isCascaded()) {
+            return;
+        }
+        final Object value = propertyValue(owner, name);
+        if (value == null || !visited.add(value)) {
+            return;
+        }
+        final BeanDescriptor descriptor = validator.getConstraintsForClass(value.getClass());
+        if (isContainer(value) || !descriptor.getConstraintDescriptors().isEmpty()) {
+            revalidateUnder(path, false);
+            return;
+        }
+        for (final PropertyDescriptor nested : descriptor.getConstrainedProperties()) {
+            revalidate(path + '.' + nested.getPropertyName(), visited);
+        }
+    }
+
+    /**
+     * Validates the whole bean and takes violations under specified path.
+     */
+    private void revalidateUnder(final String path, final boolean inclusive) {
+        fullValidationCount++;
+        for (final ConstraintViolation<T> violation : validator.validate(bean)) {
+            final String p = violation.getPropertyPath().toString();
+            if (isUnder(p, path) && (inclusive || p.length() > path.length())) {
+                violations.add(violation);
+            }
+        }
+    }
+
+    /**
+     * Validates the whole bean and returns the violations. Dirty marks are cleared.
+     *
+     * @return a set of current violations; {@code empty} if valid.
+     */
+    public Set<ConstraintViolation<T>> revalidateAll() {
+        final long started = System.nanoTime();
+        violations.clear();
+        violations.addAll(validator.validate(bean));
+        fullValidationCount++;
+        dirty.clear();
+        MetricsTests.record(CATEGORY_VALIDATION, bean.getClass().getName(), 0L, started);
+        return getViolations();
+    }
+
+    /**
+     * Checks, with {@link Validator#validateValue(Class, String, Object, Class[])}, whether specified value would be
+     * valid for specified property, without changing the bean or this session.
+     *
+     * @param propertyName the name of the property.
+     * @param value        the value to check.
+     * @return a set of violations the value would cause; {@code empty} if valid.
+     */
+    @SuppressWarnings({"unchecked"})
+    public Set<ConstraintViolation<T>> validateValue(final String propertyName, final Object value) {
+        if (propertyName == null) {
+            throw new NullPointerException("propertyName is null");
+        }
+        return validator.validateValue((Class<T>) bean.getClass(), propertyName, value);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns the bean of this session.
+     *
+     * @return the bean of this session.
+     */
+    public T getBean() {
+        return bean;
+    }
+
+    /**
+     * Returns a snapshot of the violations of the last validation.
+     *
+     * @return an unmodifiable set of violations; {@code empty} if valid.
+     */
+    public Set<ConstraintViolation<T>> getViolations() {
+        return Collections.unmodifiableSet(new LinkedHashSet<>(violations));
+    }
+
+    /**
+     * Indicates whether the bean was valid at the last validation.
+     *
+     * @return {@code true} if no violation; {@code false} otherwise.
+     */
+    public boolean isValid() {
+        return violations.isEmpty();
+    }
+
+    /**
+     * Returns the paths of properties marked dirty since the last validation.
+     *
+     * @return an unmodifiable set of dirty property paths.
+     */
+    public Set<String> getDirtyPaths() {
+        return Collections.unmodifiableSet(dirty);
+    }
+
+    /**
+     * Returns the number of validations of the whole bean done by this session.
+     *
+     * @return the number of full validations.
+     */
+    public long getFullValidationCount() {
+        return fullValidationCount;
+    }
+
+    /**
+     * Returns the number of validations of single properties done by this session.
+     *
+     * @return the number of property validations.
+     */
+    public long getPropertyValidationCount() {
+        return propertyValidationCount;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private final Validator validator;
+
+    private final T bean;
+
+    private final boolean classConstrained;
+
+    private final Set<ConstraintViolation<T>> violations = new LinkedHashSet<>();
+
+    private final Set<String> dirty = new TreeSet<>();
+
+    private long fullValidationCount;
+
+    private long propertyValidationCount;
+}
@@ -0,0 +1,142 @@
+package com.github.jinahya.test.validation;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.validation.Configuration;
+import javax.validation.MessageInterpolator;
+import javax.validation.TraversableResolver;
+import javax.validation.Validation;
+import javax.validation.ValidatorFactory;
+import javax.validation.spi.ValidationProvider;
+
+/**
+ * A builder for instances of {@link ValidatorFactory}.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see BeanValidationTests#getTestValidationFactory()
+ */
+@Slf4j
+public final class ValidatorFactoryBuilder {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The name of the provider property for fail-fast mode of Hibernate Validator.
+     */
+    static final String PROPERTY_HIBERNATE_VALIDATOR_FAIL_FAST = "hibernate.validator.fail_fast";
+
+    /**
+     * The name of the message interpolator class which doesn't require an Expression Language implementation.
+     */
+    // https://stackoverflow.com/a/54750045/330457
+    static final String PARAMETER_MESSAGE_INTERPOLATOR
+            = "org.hibernate.validator.messageinterpolation.ParameterMessageInterpolator";
+
+    /**
+     * Returns a new instance of {@value #PARAMETER_MESSAGE_INTERPOLATOR}, if available.
+     *
+     * @return a new instance of {@value #PARAMETER_MESSAGE_INTERPOLATOR}; {@code null} if not available.
+     */
+    static MessageInterpolator parameterMessageInterpolator() {
+        try {
+            final Class<?> c = Class.forName(PARAMETER_MESSAGE_INTERPOLATOR);
+            return (MessageInterpolator) c.getConstructor().newInstance();
+        } catch (final ReflectiveOperationException roe) {
+            log.debug("{} is not available; using the default message interpolator", PARAMETER_MESSAGE_INTERPOLATOR,
+                      roe);
+            return null;
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new instance.
+     */
+    public ValidatorFactoryBuilder() {
+        super();
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Builds a new validator factory with current configuration.
+     *
+     * @return a new validator factory.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public ValidatorFactory build() {
+        final Configuration<?> configuration = providerClass == null
+                                               ? Validation.byDefaultProvider().configure()
+                                               : Validation.byProvider((Class) providerClass).configure();
+        final MessageInterpolator interpolator
+                = messageInterpolator == null ? parameterMessageInterpolator() : messageInterpolator;
+        if (interpolator != null) {
+            configuration.messageInterpolator(interpolator);
+        }
+        if (traversableResolver != null) {
+            configuration.traversableResolver(traversableResolver);
+        }
+        if (failFast) {
+            configuration.addProperty(PROPERTY_HIBERNATE_VALIDATOR_FAIL_FAST, Boolean.TRUE.toString());
+        }
+        return configuration.buildValidatorFactory();
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Sets the class of the validation provider to use. The default provider is used if not set.
+     *
+     * @param providerClass the class of the validation provider; {@code null} for the default provider.
+     * @return this builder.
+     */
+    public ValidatorFactoryBuilder provider(final Class<? extends ValidationProvider<?>> providerClass) {
+        this.providerClass = providerClass;
+        return this;
+    }
+
+    /**
+     * Sets the message interpolator to use. If not set, Hibernate Validator's {@code ParameterMessageInterpolator},
+     * which doesn't require an Expression Language implementation, is used when available.
+     *
+     * @param messageInterpolator the message interpolator; {@code null} for the default.
+     * @return this builder.
+     */
+    public ValidatorFactoryBuilder messageInterpolator(final MessageInterpolator messageInterpolator) {
+        this.messageInterpolator = messageInterpolator;
+        return this;
+    }
+
+    /**
+     * Sets the traversable resolver to use.
+     *
+     * @param traversableResolver the traversable resolver; {@code null} for the provider's default.
+     * @return this builder.
+     */
+    public ValidatorFactoryBuilder traversableResolver(final TraversableResolver traversableResolver) {
+        this.traversableResolver = traversableResolver;
+        return this;
+    }
+
+    /**
+     * Sets whether validation should stop at the first constraint violation. This is a Hibernate Validator specific
+     * property which other providers may ignore.
+     *
+     * @param failFast {@code true} for fail-fast mode; {@code false} otherwise.
+     * @return this builder.
+     */
+    public ValidatorFactoryBuilder failFast(final boolean failFast) {
+        this.failFast = failFast;
+        return this;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private Class<? extends ValidationProvider<?>> providerClass;
+
+    private MessageInterpolator messageInterpolator;
+
+    private TraversableResolver traversableResolver;
+
+    private boolean failFast;
+}
@@ -0,0 +1,140 @@
+package com.github.jinahya.test.fasterxml.jackson;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import com.github.jinahya.test.fasterxml.jackson.BinaryJsonTests.Format;
+import lombok.Getter;
+import lombok.Setter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static com.github.jinahya.test.fasterxml.jackson.BinaryJsonTests.binarySiblingName;
+import static com.github.jinahya.test.fasterxml.jackson.BinaryJsonTests.convert;
+import static com.github.jinahya.test.fasterxml.jackson.BinaryJsonTests.convertFixtures;
+import static com.github.jinahya.test.fasterxml.jackson.BinaryJsonTests.convertResource;
+import static com.github.jinahya.test.fasterxml.jackson.BinaryJsonTests.detectFormat;
+import static com.github.jinahya.test.fasterxml.jackson.BinaryJsonTests.readValueFromResource;
+import static com.github.jinahya.test.fasterxml.jackson.BinaryJsonTests.sniffFormat;
+import static com.github.jinahya.test.lang.ResourceTests.openResourceStream;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BinaryJsonTestsTest {
+
+    public static class TheNamed {
+
+        @Setter
+        @Getter
+        private String name;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Test
+    public void testBinarySiblingName() {
+        assertEquals("a/b/c.smile", binarySiblingName("a/b/c.json", Format.SMILE));
+        assertEquals("a/b/c.jsonl.cbor", binarySiblingName("a/b/c.jsonl", Format.CBOR));
+        assertEquals("a.b/c.smile", binarySiblingName("a.b/c", Format.SMILE));
+        assertEquals("a.b/c.txt.smile", binarySiblingName("a.b/c.txt", Format.SMILE));
+    }
+
+    @Test
+    public void testDetectFormat() {
+        assertEquals(Format.SMILE, detectFormat("a/b.smile"));
+        assertEquals(Format.CBOR, detectFormat("a/b.cbor"));
+        assertNull(detectFormat("a/b.json"));
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @ParameterizedTest
+    @EnumSource(Format.class)
+    public void testConvertAndSniff(final Format format) throws IOException {
+        final ByteArrayOutputStream target = new ByteArrayOutputStream();
+        try (InputStream source = openResourceStream(null, "com/github/jinahya/test/fasterxml/jackson/array.json")) {
+            convert(source, target, format);
+        }
+        final InputStream stream = new BufferedInputStream(new ByteArrayInputStream(target.toByteArray()));
+        assertEquals(format, sniffFormat(stream));
+        assertArrayEquals(new String[] {"a", "b", "c"}, format.getObjectMapper().readValue(stream, String[].class));
+        assertNull(sniffFormat(new BufferedInputStream(new ByteArrayInputStream("[]".getBytes(UTF_8)))));
+    }
+
+    @ParameterizedTest
+    @EnumSource(Format.class)
+    public void testReadValueFromResourcePrefersBinarySibling(final Format format, @TempDir final Path directory)
+            throws IOException {
+        Files.write(directory.resolve("fixture.json"), "[\"x\"]".getBytes(UTF_8));
+        convertResource(null, "com/github/jinahya/test/fasterxml/jackson/array.json", format,
+                        directory.resolve(binarySiblingName("fixture.json", format)));
+        try (URLClassLoader loader = new URLClassLoader(new URL[] {directory.toUri().toURL()}, null)) {
+            final String[] value = readValueFromResource(loader, "fixture.json", String[].class);
+            assertArrayEquals(new String[] {"a", "b", "c"}, value);
+        }
+    }
+
+    @Test
+    public void testReadValueFromResourceSniffsContent(@TempDir final Path directory) throws IOException {
+        convertResource(null, "com/github/jinahya/test/fasterxml/jackson/object.json", Format.SMILE,
+                        directory.resolve("fixture.bin"));
+        try (URLClassLoader loader = new URLClassLoader(new URL[] {directory.toUri().toURL()}, null)) {
+            final Map<?, ?> value = readValueFromResource(loader, "fixture.bin", Map.class);
+            assertEquals("unknown", value.get("name"));
+        }
+        final String[] value = readValueFromResource(
+                null, "com/github/jinahya/test/fasterxml/jackson/array.json", String[].class);
+        assertArrayEquals(new String[] {"a", "b", "c"}, value);
+    }
+
+    @ParameterizedTest
+    @EnumSource(Format.class)
+    public void assertBinarySiblingReadWithProfile(final Format format, @TempDir final Path directory)
+            throws IOException {
+        Files.write(directory.resolve("fixture.json"), "{\"name\":\"a\",\"extra\":1}".getBytes(UTF_8));
+        convertFixtures(directory, format);
+        final JacksonProfile lenient = JacksonProfile.register(
+                "lenient-" + format.getExtension(),
+                new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES));
+        try (URLClassLoader loader = new URLClassLoader(new URL[] {directory.toUri().toURL()}, null)) {
+            assertEquals("a", BinaryJsonTests.<TheNamed>readValueFromResource(
+                    lenient, loader, "fixture.json", TheNamed.class).getName());
+            final IOException thrown = assertThrows(
+                    IOException.class, () -> readValueFromResource(loader, "fixture.json", TheNamed.class));
+            assertTrue(thrown instanceof UnrecognizedPropertyException, thrown::toString);
+        }
+        assertFalse(format.getObjectMapper(lenient).isEnabled(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES));
+    }
+
+    @Test
+    public void testConvertFixtures(@TempDir final Path directory) throws IOException {
+        Files.write(directory.resolve("array.json"), "[1,2]".getBytes(UTF_8));
+        Files.write(directory.resolve("array.jsonl"), "{}\n{}\n".getBytes(UTF_8));
+        Files.write(directory.resolve("other.txt"), "text".getBytes(UTF_8));
+        final List<Path> written = convertFixtures(directory, Format.CBOR);
+        assertEquals(2, written.size());
+        assertTrue(Files.isRegularFile(directory.resolve("array.cbor")));
+        assertTrue(Files.isRegularFile(directory.resolve("array.jsonl.cbor")));
+        try (InputStream stream = Files.newInputStream(directory.resolve("array.cbor"))) {
+            assertArrayEquals(new int[] {1, 2}, Format.CBOR.getObjectMapper().readValue(stream, int[].class));
+        }
+        assertTrue(convertFixtures(directory, Format.CBOR).isEmpty());
+    }
+}
@@ -0,0 +1,149 @@
+package com.github.jinahya.test.fasterxml.jackson;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import static com.github.jinahya.test.fasterxml.jackson.JacksonTests.TEST_OBJECT_MAPPER;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JacksonProfileTest {
+
+    private static final String RESOURCE_NAME = "com/github/jinahya/test/fasterxml/jackson/object.json";
+
+    private static final JacksonProfile LENIENT = JacksonProfile.register(
+            "lenient", new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES));
+
+    private static final JacksonProfile WRAPPING = JacksonProfile.register(
+            "wrapping", new ObjectMapper().enable(SerializationFeature.WRAP_ROOT_VALUE)
+                    .enable(DeserializationFeature.UNWRAP_ROOT_VALUE));
+
+    @EqualsAndHashCode
+    public static class Named {
+
+        @Setter
+        @Getter
+        private String name;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Test
+    void assertDefaultProfileUsesTestObjectMapper() {
+        final JacksonProfile profile = JacksonProfile.getDefault();
+        assertThat(profile.getName()).isEqualTo(JacksonProfile.DEFAULT);
+        assertThat(profile.getObjectMapper()).isSameAs(TEST_OBJECT_MAPPER);
+        assertThat(JacksonTests.<ObjectMapper>applyObjectMapper(m -> m)).isSameAs(TEST_OBJECT_MAPPER);
+        assertThat(JacksonTests.readerFor(Named.class)).isSameAs(profile.readerFor(Named.class));
+    }
+
+    @Test
+    void assertFastProfileRegistersAccessorModule() throws IOException {
+        final JacksonProfile profile = JacksonProfile.getFast();
+        assertThat(profile.getObjectMapper()).isNotSameAs(TEST_OBJECT_MAPPER);
+        assertThat(profile.getObjectMapper().getDeserializationConfig().getDeserializationFeatures())
+                .isEqualTo(TEST_OBJECT_MAPPER.getDeserializationConfig().getDeserializationFeatures());
+        assertThat(profile.getObjectMapper().getRegisteredModuleIds())
+                .anySatisfy(id -> assertThat(String.valueOf(id)).containsIgnoringCase("afterburner"));
+        final Named value = JacksonTests.readValueFromResource(profile, null, RESOURCE_NAME, Named.class);
+        assertThat(value.getName()).isEqualTo("unknown");
+        assertThat(JacksonTests.getPrettyString(profile, value)).isEqualTo(JacksonTests.getPrettyString(value));
+    }
+
+    @Test
+    void assertReadersAreCachedPerProfile() {
+        final JacksonProfile profile = JacksonProfile.getFast();
+        final ObjectReader reader = profile.readerFor(Named.class);
+        final long hitCount = profile.getReaderCacheHitCount();
+        assertThat(profile.readerFor(Named.class)).isSameAs(reader);
+        assertThat(profile.getReaderCacheHitCount()).isGreaterThan(hitCount);
+        assertThat(profile.getReaderCacheMissCount()).isPositive();
+        assertThat(JacksonProfile.getDefault().readerFor(Named.class)).isNotSameAs(reader);
+    }
+
+    @Test
+    void testRegister() throws IOException {
+        final ObjectMapper mapper = new ObjectMapper();
+        final JacksonProfile profile = JacksonProfile.register("strict", mapper);
+        assertThat(JacksonProfile.get("strict")).isSameAs(profile);
+        assertThat(JacksonProfile.getNames()).contains(JacksonProfile.DEFAULT, JacksonProfile.FAST, "strict");
+        mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES); // doesn't affect the profile
+        assertThat(profile.getObjectMapper()).isNotSameAs(mapper);
+        assertThat(profile.getObjectMapper().isEnabled(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)).isTrue();
+        assertThat(JacksonTests.readTreeFromResource(profile, null, RESOURCE_NAME).get("name").asText())
+                .isEqualTo("unknown");
+        assertThrows(IllegalArgumentException.class, () -> JacksonProfile.register("strict", mapper));
+        assertThrows(IllegalArgumentException.class, () -> JacksonProfile.get("unknown"));
+    }
+
+    @Test
+    void assertStreamsReadWithProfile(@TempDir final Path tempDir) throws IOException {
+        Files.write(tempDir.resolve("extra.json"), "[{\"name\":\"a\",\"extra\":1}]".getBytes(UTF_8));
+        Files.write(tempDir.resolve("extra.jsonl"), "{\"name\":\"a\",\"extra\":1}\n".getBytes(UTF_8));
+        try (URLClassLoader loader = new URLClassLoader(new URL[] {tempDir.toUri().toURL()}, null)) {
+            try (Stream<Named> elements = JacksonTests.streamElementsFromResource(
+                    LENIENT, loader, "extra.json", Named.class)) {
+                assertThat(elements.map(Named::getName).collect(toList())).containsExactly("a");
+            }
+            try (Stream<Named> values = JacksonTests.streamValuesFromResource(
+                    LENIENT, loader, "extra.jsonl", Named.class)) {
+                assertThat(values.map(Named::getName).collect(toList())).containsExactly("a");
+            }
+            try (Stream<Named> values = JacksonTests.streamValuesFromResource(loader, "extra.jsonl", Named.class)) {
+                assertThrows(RuntimeException.class, () -> values.collect(toList()));
+            }
+            assertThat(JacksonTests.<Named>verifyRoundTripsOfResource(
+                    LENIENT, loader, "extra.json", LENIENT.getObjectMapper().constructType(Named.class), null, null,
+                    ForkJoinPool.commonPool(), JacksonTests.DEFAULT_ROUND_TRIP_FAILURE_LIMIT).getCount())
+                    .isEqualTo(1L);
+        }
+    }
+
+    @Test
+    void assertPrettyStringsPrintedWithProfile() throws IOException {
+        final Named value = new Named();
+        value.setName("a");
+        final StringWriter writer = new StringWriter();
+        JacksonTests.printPrettyStringTo(WRAPPING, value, writer);
+        assertThat(writer.toString()).isEqualTo(JacksonTests.getPrettyString(WRAPPING, value)).contains("Named");
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        JacksonTests.printPrettyStringTo(WRAPPING, value, stream);
+        assertThat(new String(stream.toByteArray(), UTF_8)).isEqualTo(writer.toString());
+        assertThat(JacksonTests.getPrettyString(value)).doesNotContain("Named");
+    }
+
+    @Test
+    void assertRoundTripsVerifiedWithProfile() {
+        final RoundTripResult<Named> wrapped = JacksonTests.verifyRoundTrips(WRAPPING, Named.class, i -> {
+            final Named value = new Named();
+            value.setName("a");
+            return value;
+        }, 4);
+        assertThat(wrapped.isSuccessful()).isTrue();
+        final RoundTripResult<Named> unwrapped = JacksonTests.verifyRoundTrips(Named.class, i -> {
+            final Named value = new Named();
+            value.setName("a");
+            return value;
+        }, 4);
+        assertThat(unwrapped.isSuccessful()).isTrue();
+        assertThat(wrapped.getBytesPerObject()).isGreaterThan(unwrapped.getBytesPerObject());
+    }
+}
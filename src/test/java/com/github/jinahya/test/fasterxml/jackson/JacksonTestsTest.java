@@ -1,27 +1,76 @@
 package com.github.jinahya.test.fasterxml.jackson;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
 import com.fasterxml.jackson.databind.node.JsonNodeType;
+import com.github.jinahya.test.validation.BeanValidationTests;
+import lombok.AllArgsConstructor;
+import lombok.Data;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import javax.validation.constraints.Min;
+
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.PrintStream;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
 
+import static com.github.jinahya.test.fasterxml.jackson.JacksonTests.TEST_OBJECT_MAPPER;
 import static com.github.jinahya.test.fasterxml.jackson.JacksonTests.acceptObjectMapper;
 import static com.github.jinahya.test.fasterxml.jackson.JacksonTests.acceptPrettyPrinter;
 import static com.github.jinahya.test.fasterxml.jackson.JacksonTests.applyObjectMapper;
 import static com.github.jinahya.test.fasterxml.jackson.JacksonTests.applyPrettyPrinter;
+import static com.github.jinahya.test.fasterxml.jackson.JacksonTests.getPrettyString;
+import static com.github.jinahya.test.fasterxml.jackson.JacksonTests.getReaderCacheHitCount;
+import static com.github.jinahya.test.fasterxml.jackson.JacksonTests.getReaderCacheMissCount;
+import static com.github.jinahya.test.fasterxml.jackson.JacksonTests.printPrettyStringTo;
 import static com.github.jinahya.test.fasterxml.jackson.JacksonTests.printPrettyStringToSystemOut;
 import static com.github.jinahya.test.fasterxml.jackson.JacksonTests.readTreeFromResource;
 import static com.github.jinahya.test.fasterxml.jackson.JacksonTests.readValueFromResource;
+import static com.github.jinahya.test.fasterxml.jackson.JacksonTests.readValueFromResourceAsync;
+import static com.github.jinahya.test.fasterxml.jackson.JacksonTests.readValuesFromResourcesAsync;
+import static com.github.jinahya.test.fasterxml.jackson.JacksonTests.readerFor;
+import static com.github.jinahya.test.fasterxml.jackson.JacksonTests.streamElementsFromResource;
+import static com.github.jinahya.test.fasterxml.jackson.JacksonTests.streamValuesFromResource;
+import static com.github.jinahya.test.fasterxml.jackson.JacksonTests.verifyRoundTrips;
+import static com.github.jinahya.test.fasterxml.jackson.JacksonTests.verifyRoundTripsOfResource;
 import static com.github.jinahya.test.lang.ResourceTests.acceptResourceStream;
 import static com.github.jinahya.test.lang.ResourceTests.applyResourceStream;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class JacksonTestsTest {
 
@@ -148,6 +197,101 @@ public class JacksonTestsTest {
         }
     }
 
+    @Test
+    public void testReaderFor() {
+        final ObjectReader reader = readerFor(TheObject.class);
+        assertNotNull(reader);
+        final long hitCount = getReaderCacheHitCount();
+        assertSame(reader, readerFor(TheObject.class));
+        assertSame(reader, readerFor(new TypeReference<TheObject>() {
+        }));
+        assertTrue(getReaderCacheHitCount() >= hitCount + 2);
+        assertTrue(getReaderCacheMissCount() > 0L);
+    }
+
+    private static class Nameless {
+
+    }
+
+    @Test
+    public void assertCachedReadersFollowReconfiguredMapper() {
+        final String name = "com/github/jinahya/test/fasterxml/jackson/object.json";
+        assertThrows(UnrecognizedPropertyException.class,
+                     () -> readValueFromResource(null, name, Nameless.class));
+        acceptObjectMapper(m -> m.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES));
+        try {
+            assertDoesNotThrow(() -> readValueFromResource(null, name, Nameless.class));
+        } finally {
+            acceptObjectMapper(m -> m.enable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES));
+        }
+        assertThrows(UnrecognizedPropertyException.class,
+                     () -> readValueFromResource(null, name, Nameless.class));
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Test
+    public void testReadValueFromResourceAsync() {
+        final TheObject value = JacksonTests.<TheObject>readValueFromResourceAsync(
+                null, "com/github/jinahya/test/fasterxml/jackson/object.json", TheObject.class, null).join();
+        assertEquals("unknown", value.name);
+        final CompletableFuture<String[]> failed = readValueFromResourceAsync(
+                null, "com/github/jinahya/test/fasterxml/jackson/object.json", String[].class,
+                ForkJoinPool.commonPool());
+        final CompletionException thrown = assertThrows(CompletionException.class, failed::join);
+        assertTrue(thrown.getCause() instanceof UncheckedIOException);
+        assertThrows(IOException.class, () -> readValueFromResource(
+                null, "com/github/jinahya/test/fasterxml/jackson/object.json", String[].class));
+    }
+
+    @Test
+    public void testReadValuesFromResourcesAsync() {
+        final Map<String, JavaType> javaTypes = new LinkedHashMap<>();
+        javaTypes.put("com/github/jinahya/test/fasterxml/jackson/array.json",
+                      TEST_OBJECT_MAPPER.constructType(String[].class));
+        javaTypes.put("com/github/jinahya/test/fasterxml/jackson/object.json",
+                      TEST_OBJECT_MAPPER.constructType(TheObject.class));
+        final Map<String, Object> values = readValuesFromResourcesAsync(null, javaTypes, null).join();
+        assertEquals(new ArrayList<>(javaTypes.keySet()), new ArrayList<>(values.keySet()));
+        assertArrayEquals(new String[] {"a", "b", "c"},
+                          (String[]) values.get("com/github/jinahya/test/fasterxml/jackson/array.json"));
+        assertEquals("unknown",
+                     ((TheObject) values.get("com/github/jinahya/test/fasterxml/jackson/object.json")).name);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Test
+    public void testStreamElementsFromResource() throws IOException {
+        try (Stream<String> elements = streamElementsFromResource(
+                null, "com/github/jinahya/test/fasterxml/jackson/array.json", String.class)) {
+            assertEquals(asList("a", "b", "c"), elements.collect(toList()));
+        }
+    }
+
+    @Test
+    public void testStreamElementsFromGzippedResource(@TempDir final Path tempDir) throws IOException {
+        try (OutputStream stream = new GZIPOutputStream(Files.newOutputStream(tempDir.resolve("array.json.gz")))) {
+            stream.write("[\"a\",\"b\",\"c\"]".getBytes(UTF_8));
+        }
+        try (URLClassLoader loader = new URLClassLoader(new URL[] {tempDir.toUri().toURL()}, null);
+             Stream<String> elements = streamElementsFromResource(loader, "array.json.gz", String.class)) {
+            assertEquals(asList("a", "b", "c"), elements.collect(toList()));
+        }
+    }
+
+    @Test
+    public void assertStreamElementsFromResourceThrowsIOExceptionWhenNotAnArray() {
+        assertThrows(IOException.class, () -> streamElementsFromResource(
+                null, "com/github/jinahya/test/fasterxml/jackson/object.json", String.class));
+    }
+
+    @Test
+    public void testStreamValuesFromResource() throws IOException {
+        try (Stream<TheObject> values = streamValuesFromResource(
+                null, "com/github/jinahya/test/fasterxml/jackson/lines.jsonl", TheObject.class)) {
+            assertEquals(asList("a", "b", "c"), values.map(TheObject::getName).collect(toList()));
+        }
+    }
+
     // -----------------------------------------------------------------------------------------------------------------
     @Test
     public void testApplyPrettyPrinter() {
@@ -166,4 +310,159 @@ public class JacksonTestsTest {
         printPrettyStringToSystemOut(asList("a", "b", "c"));
         printPrettyStringToSystemOut(new TheObject());
     }
+
+    @Test
+    public void testPrintPrettyStringToWriter() throws IOException {
+        final StringWriter writer = new StringWriter();
+        printPrettyStringTo(asList("a", "b", "c"), writer);
+        assertEquals(getPrettyString(asList("a", "b", "c")), writer.toString());
+    }
+
+    @Test
+    public void testPrintPrettyStringToOutputStream() throws IOException {
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        printPrettyStringTo(asList("a", "b", "c"), stream);
+        assertEquals(getPrettyString(asList("a", "b", "c")), new String(stream.toByteArray(), UTF_8));
+    }
+
+    @Test
+    public void assertPrintStreamEncodingFollowed() throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final PrintStream stream = new PrintStream(output, true, "UTF-16BE");
+        printPrettyStringTo(asList("\uAC00", "b"), stream);
+        assertEquals(getPrettyString(asList("\uAC00", "b")) + System.lineSeparator(),
+                     new String(output.toByteArray(), "UTF-16BE"));
+    }
+
+    @Test
+    public void assertPrettyPrintersFollowReconfiguredMapper() throws IOException {
+        final TheObject value = new TheObject();
+        assertFalse(getPrettyString(value).contains("TheObject"));
+        acceptObjectMapper(m -> m.enable(SerializationFeature.WRAP_ROOT_VALUE));
+        try {
+            assertTrue(getPrettyString(value).contains("TheObject"));
+            final StringWriter writer = new StringWriter();
+            printPrettyStringTo(value, writer);
+            assertTrue(writer.toString().contains("TheObject"));
+        } finally {
+            acceptObjectMapper(m -> m.disable(SerializationFeature.WRAP_ROOT_VALUE));
+        }
+        assertFalse(getPrettyString(value).contains("TheObject"));
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    private static class ThePoint {
+
+        @Min(0)
+        private int x;
+
+        private String label;
+    }
+
+    @Test
+    public void testVerifyRoundTrips() {
+        final RoundTripResult<ThePoint> result = verifyRoundTrips(ThePoint.class, i -> new ThePoint(i, "p" + i), 1000);
+        assertTrue(result.isSuccessful(), result::toString);
+        assertEquals(1000L, result.getCount());
+        assertEquals(1000L, result.getLatencies().getCount());
+        assertTrue(result.getBytesPerObject() > 0.0d);
+        assertTrue(result.getOpsPerSecond() > 0.0d);
+    }
+
+    @Test
+    public void testVerifyRoundTripsWithValidity() {
+        final ForkJoinPool pool = new ForkJoinPool(2);
+        final RoundTripResult<ThePoint> result;
+        try {
+            result = verifyRoundTrips(TEST_OBJECT_MAPPER.constructType(ThePoint.class),
+                                      i -> new ThePoint(i - 10, null), 100, null, BeanValidationTests::isValid,
+                                      pool, 4);
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(10L, result.getInvalidCount());
+        assertEquals(0L, result.getFailureCount());
+        assertFalse(result.isSuccessful());
+    }
+
+    @Test
+    public void testVerifyRoundTripsReportsFirstFailures() {
+        final RoundTripResult<TheObject> result = verifyRoundTrips(TheObject.class, i -> new TheObject(), 100);
+        assertEquals(100L, result.getFailureCount());
+        assertEquals(asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15),
+                     new ArrayList<>(result.getFailures().keySet()));
+        assertTrue(result.getFailures().get(0).startsWith("not equal after round trip: "));
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    private static class TheCount {
+
+        private int value;
+
+        public void setValue(final int value) {
+            if (value < 0) {
+                throw new IllegalArgumentException("value(" + value + ") < 0");
+            }
+            this.value = value;
+        }
+    }
+
+    @Test
+    public void assertAbortedRoundTripsExcludedFromStatistics() {
+        final RoundTripResult<TheCount> result = verifyRoundTrips(
+                TheCount.class, i -> new TheCount(i % 2 == 0 ? i : -i), 10); // {"value":0} ... {"value":8}
+        assertEquals(10L, result.getCount());
+        assertEquals(5L, result.getFailureCount());
+        assertEquals(5L, result.getLatencies().getCount());
+        assertEquals(11.0d, result.getBytesPerObject());
+    }
+
+    @Test
+    public void assertThrowingGeneratorAndPredicatesRecordedAsFailures() {
+        final RoundTripResult<TheCount> result = verifyRoundTrips(
+                TEST_OBJECT_MAPPER.constructType(TheCount.class),
+                i -> {
+                    if (i % 4 == 0) {
+                        throw new IllegalStateException("no value at " + i);
+                    }
+                    return new TheCount(i);
+                },
+                8,
+                (v, r) -> {
+                    if (v.getValue() == 1) {
+                        throw new IllegalStateException("uncomparable");
+                    }
+                    return v.equals(r);
+                },
+                r -> {
+                    if (r.getValue() == 2) {
+                        throw new AssertionError("unverifiable");
+                    }
+                    return true;
+                },
+                ForkJoinPool.commonPool(), JacksonTests.DEFAULT_ROUND_TRIP_FAILURE_LIMIT);
+        assertEquals(8L, result.getCount());
+        assertEquals(4L, result.getFailureCount()); // 0, 1, 2, 4
+        assertEquals(1L, result.getInvalidCount()); // 2
+        assertEquals(6L, result.getLatencies().getCount());
+        assertEquals(asList(0, 1, 2, 4), new ArrayList<>(result.getFailures().keySet()));
+        assertTrue(result.getFailures().get(0).startsWith("failed to get the value: "));
+        assertTrue(result.getFailures().get(1).startsWith("failed to test equality: "));
+        assertTrue(result.getFailures().get(2).startsWith("failed to test validity: "));
+    }
+
+    @Test
+    public void testVerifyRoundTripsOfResource() throws IOException {
+        final RoundTripResult<String> result = verifyRoundTripsOfResource(
+                null, "com/github/jinahya/test/fasterxml/jackson/array.json",
+                TEST_OBJECT_MAPPER.constructType(String.class), null, null, ForkJoinPool.commonPool(), 1);
+        assertTrue(result.isSuccessful());
+        assertEquals(3L, result.getCount());
+        assertEquals(3.0d, result.getBytesPerObject()); // "a"
+    }
 }
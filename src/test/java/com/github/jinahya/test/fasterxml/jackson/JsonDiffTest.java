@@ -0,0 +1,95 @@
+package com.github.jinahya.test.fasterxml.jackson;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.jinahya.test.fasterxml.jackson.JsonDiff.Difference;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static com.github.jinahya.test.fasterxml.jackson.JacksonTests.TEST_OBJECT_MAPPER;
+import static com.github.jinahya.test.fasterxml.jackson.JacksonTests.readTreeFromResource;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JsonDiffTest {
+
+    private static JsonNode tree(final String json) throws IOException {
+        return TEST_OBJECT_MAPPER.readTree(json.replace('\'', '"'));
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Test
+    void testDiffWithSameResources() throws IOException {
+        final JsonNode expected = readTreeFromResource(null, "com/github/jinahya/test/fasterxml/jackson/object.json");
+        final JsonNode actual = readTreeFromResource(null, "com/github/jinahya/test/fasterxml/jackson/object.json");
+        final JsonDiff diff = new JsonDiffBuilder().build();
+        assertThat(diff.diff(expected, actual)).isEmpty();
+        assertThat(diff.isEqual(expected, actual)).isTrue();
+        diff.assertEqual(expected, actual);
+    }
+
+    @Test
+    void testDiffReportsJsonPointers() throws IOException {
+        final JsonNode expected = tree("{'a':{'b/c':[1,2,3]},'d':'x','e':true}");
+        final JsonNode actual = tree("{'a':{'b/c':[1,5]},'d':'y','f':null}");
+        final List<Difference> differences = new JsonDiffBuilder().build().diff(expected, actual);
+        assertThat(differences).extracting(Difference::getPath)
+                .containsExactly("/a/b~1c/1", "/a/b~1c/2", "/d", "/e", "/f");
+        assertThat(differences.get(2).getExpected().asText()).isEqualTo("x");
+        assertThat(differences.get(2).getActual().asText()).isEqualTo("y");
+        assertThat(differences.get(3).getActual()).isNull();
+        assertThat(differences.get(4).getExpected()).isNull();
+    }
+
+    @Test
+    void testMaximumDifferences() throws IOException {
+        final JsonNode expected = tree("[1,2,3,4,5]");
+        final JsonNode actual = tree("[5,4,3,2,1]");
+        assertThat(new JsonDiffBuilder().maximumDifferences(1).build().diff(expected, actual)).hasSize(1);
+        assertThat(new JsonDiffBuilder().build().isEqual(expected, actual)).isFalse();
+        assertThrows(IllegalArgumentException.class, () -> new JsonDiffBuilder().maximumDifferences(0));
+    }
+
+    @Test
+    void testNumbersComparedByValue() throws IOException {
+        assertThat(new JsonDiffBuilder().build().isEqual(tree("[1, 2.50, 10000000000]"),
+                                                         tree("[1.0, 2.5, 10000000000]"))).isTrue();
+    }
+
+    @Test
+    void testIgnoreRules() throws IOException {
+        final JsonNode expected = tree("{'id':1,'items':[{'id':2,'at':'x'},{'id':3,'at':'y'}],'meta':{'v':1}}");
+        final JsonNode actual = tree("{'id':9,'items':[{'id':2,'at':'z'},{'id':3,'at':'w'}],'meta':{'v':2}}");
+        final JsonDiff diff = new JsonDiffBuilder()
+                .ignoreField("at")
+                .ignorePath("/meta")
+                .build();
+        assertThat(diff.diff(expected, actual)).extracting(Difference::getPath).containsExactly("/id");
+        assertThat(new JsonDiffBuilder().ignorePath("/id").ignorePath("/items/*/at").ignorePath("/meta/v").build()
+                           .isEqual(expected, actual)).isTrue();
+        assertThrows(IllegalArgumentException.class, () -> new JsonDiffBuilder().ignorePath("meta"));
+    }
+
+    @Test
+    void testUnorderedArrays() throws IOException {
+        final JsonNode expected = tree("{'a':[1,2,{'x':1,'t':0}],'b':[1,2]}");
+        final JsonNode actual = tree("{'a':[{'t':1,'x':1},2,1],'b':[2,1]}");
+        assertThat(new JsonDiffBuilder().unorderedArray("/a").ignoreField("t").build().diff(expected, actual))
+                .extracting(Difference::getPath).containsExactly("/b/0", "/b/1");
+        assertThat(new JsonDiffBuilder().allArraysUnordered(true).ignoreField("t").build().isEqual(expected, actual))
+                .isTrue();
+        final List<Difference> differences = new JsonDiffBuilder().allArraysUnordered(true).build()
+                .diff(tree("[1,1,2]"), tree("[1,2,2]"));
+        assertThat(differences).extracting(Difference::getPath).containsExactly("/1", "/2");
+        assertThat(differences.get(0).getActual()).isNull();
+        assertThat(differences.get(1).getExpected()).isNull();
+    }
+
+    @Test
+    void testAssertEqual() throws IOException {
+        final AssertionError error = assertThrows(AssertionError.class, () -> new JsonDiffBuilder().build()
+                .assertEqual(tree("{'a':1}"), tree("{'a':2}")));
+        assertThat(error.getMessage()).contains("/a: expected 1 but was 2");
+    }
+}
@@ -0,0 +1,173 @@
+package com.github.jinahya.test.fasterxml.jackson;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.Getter;
+import lombok.Setter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ParsedResourceCacheTest {
+
+    private static final String OBJECT = "com/github/jinahya/test/fasterxml/jackson/object.json";
+
+    private static final String ARRAY = "com/github/jinahya/test/fasterxml/jackson/array.json";
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private static class TheObject {
+
+        @Setter
+        @Getter
+        private String name;
+    }
+
+    private static class TheNumbers {
+
+        @Setter
+        @Getter
+        private BigDecimal decimal;
+
+        @Setter
+        @Getter
+        private double real;
+
+        @Setter
+        @Getter
+        private Object number;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Test
+    void assertConstructorThrowsIllegalArgumentExceptionWhenBoundsAreNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> new ParsedResourceCache(0L, 1L));
+        assertThrows(IllegalArgumentException.class, () -> new ParsedResourceCache(1L, 0L));
+    }
+
+    @Test
+    void testReadTreeFromResource() throws IOException {
+        final ParsedResourceCache cache = new ParsedResourceCache(16L, 1024L);
+        final JsonNode first = cache.readTreeFromResource(null, OBJECT);
+        ((ObjectNode) first).put("name", "changed");
+        final JsonNode second = cache.readTreeFromResource(null, OBJECT);
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.get("name").asText()).isEqualTo("unknown");
+        ((ObjectNode) second).remove("name");
+        assertThat(cache.readTreeFromResource(null, OBJECT).get("name").asText()).isEqualTo("unknown");
+        assertThat(cache.getMissCount()).isEqualTo(1L);
+        assertThat(cache.getHitCount()).isEqualTo(2L);
+        assertThat(cache.getWeight()).isPositive();
+    }
+
+    @Test
+    void testReadValueFromResource() throws IOException {
+        final ParsedResourceCache cache = new ParsedResourceCache(16L, 1024L);
+        final TheObject first = cache.readValueFromResource(null, OBJECT, TheObject.class);
+        first.setName("changed");
+        final TheObject second = cache.readValueFromResource(null, OBJECT, TheObject.class);
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getName()).isEqualTo("unknown");
+        final List<String> list = cache.readValueFromResource(null, ARRAY, new TypeReference<List<String>>() {
+        });
+        assertThat(list).containsExactly("a", "b", "c");
+        assertThat(cache.getSize()).isEqualTo(2L);
+        assertThat(cache.getMissCount()).isEqualTo(2L);
+        assertThat(cache.getHitCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void assertEmptyResourceReadAsWithoutCache(@TempDir final Path tempDir) throws IOException {
+        Files.createFile(tempDir.resolve("empty.json"));
+        try (URLClassLoader loader = new URLClassLoader(new URL[] {tempDir.toUri().toURL()}, null)) {
+            final ParsedResourceCache cache = new ParsedResourceCache(16L, 1024L);
+            final JsonNode expected = JacksonTests.readTreeFromResource(loader, "empty.json");
+            assertThat(cache.readTreeFromResource(loader, "empty.json")).isEqualTo(expected);
+            assertThat(cache.readTreeFromResource(loader, "empty.json")).isEqualTo(expected);
+            assertThat(cache.getHitCount()).isEqualTo(1L);
+            assertThrows(MismatchedInputException.class,
+                         () -> JacksonTests.readValueFromResource(loader, "empty.json", TheObject.class));
+            assertThrows(MismatchedInputException.class,
+                         () -> cache.readValueFromResource(loader, "empty.json", TheObject.class));
+        }
+    }
+
+    @Test
+    void assertDifferentTypesOfSameResourceCachedSeparately() throws IOException {
+        final ParsedResourceCache cache = new ParsedResourceCache(16L, 1024L);
+        cache.readTreeFromResource(null, OBJECT);
+        cache.readValueFromResource(null, OBJECT, TheObject.class);
+        final JsonNode tree = cache.readValueFromResource(null, OBJECT, JsonNode.class);
+        assertThat(tree.get("name").asText()).isEqualTo("unknown");
+        assertThat(cache.getSize()).isEqualTo(2L);
+        assertThat(cache.getHitCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void assertLeastRecentlyUsedEvicted() throws IOException {
+        final ParsedResourceCache cache = new ParsedResourceCache(1L, 1024L);
+        cache.readTreeFromResource(null, OBJECT);
+        cache.readTreeFromResource(null, ARRAY);
+        assertThat(cache.getEvictionCount()).isEqualTo(1L);
+        assertThat(cache.getSize()).isEqualTo(1L);
+        cache.readTreeFromResource(null, ARRAY);
+        assertThat(cache.getHitCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void assertHeavierThanMaximumWeightNotCached() throws IOException {
+        final ParsedResourceCache cache = new ParsedResourceCache(16L, 1L);
+        assertThat(cache.readValueFromResource(null, OBJECT, TheObject.class).getName()).isEqualTo("unknown");
+        assertThat(cache.getSize()).isZero();
+        cache.clear();
+        assertThat(cache.getWeight()).isZero();
+    }
+
+    @Test
+    void assertDecimalsReadAsWithoutCache(@TempDir final Path tempDir) throws IOException {
+        final String json = "{\"decimal\":0.10000000000000000000001,\"real\":0.1,\"number\":1.50}";
+        Files.write(tempDir.resolve("numbers.json"), json.getBytes(UTF_8));
+        try (URLClassLoader loader = new URLClassLoader(new URL[] {tempDir.toUri().toURL()}, null)) {
+            final ParsedResourceCache cache = new ParsedResourceCache(16L, 1024L);
+            for (int i = 0; i < 2; i++) {
+                final TheNumbers numbers = cache.readValueFromResource(loader, "numbers.json", TheNumbers.class);
+                assertThat(numbers.getDecimal()).isEqualTo(new BigDecimal("0.10000000000000000000001"));
+                assertThat(numbers.getReal()).isEqualTo(0.1d);
+                assertThat(numbers.getNumber()).isEqualTo(1.5d);
+                final Map<String, Object> map = cache.readValueFromResource(
+                        loader, "numbers.json", new TypeReference<Map<String, Object>>() {
+                        });
+                assertThat(map).isEqualTo(JacksonTests.<Map<String, Object>>readValueFromResource(
+                        loader, "numbers.json", new TypeReference<Map<String, Object>>() {
+                        }));
+            }
+            assertThat(cache.getHitCount()).isEqualTo(2L);
+        }
+    }
+
+    @Test
+    void assertResourcesParsedWithProfileOfCache() throws IOException {
+        final JacksonProfile profile = JacksonProfile.register(
+                "cached", new ObjectMapper().enable(DeserializationFeature.UNWRAP_ROOT_VALUE));
+        final ParsedResourceCache cache = new ParsedResourceCache(profile, 16L, 1024L);
+        assertThat(cache.getProfile()).isSameAs(profile);
+        assertThrows(IOException.class, () -> cache.readValueFromResource(null, OBJECT, TheObject.class));
+        assertThat(new ParsedResourceCache(16L, 1024L).readValueFromResource(null, OBJECT, TheObject.class)
+                           .getName()).isEqualTo("unknown");
+    }
+}
@@ -0,0 +1,68 @@
+package com.github.jinahya.test.lang;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ResourceCacheTest {
+
+    private static final String OBJECT = "com/github/jinahya/test/fasterxml/jackson/object.json";
+
+    private static final String ARRAY = "com/github/jinahya/test/fasterxml/jackson/array.json";
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Test
+    void assertConstructorThrowsIllegalArgumentExceptionWhenMaximumSizeIsNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> new ResourceCache(0L));
+    }
+
+    @Test
+    void testApplyResourceStream() throws IOException {
+        final ResourceCache cache = new ResourceCache(1024L);
+        final int expected = ResourceTests.readResourceBytes(null, OBJECT).length;
+        for (int i = 0; i < 3; i++) {
+            final int actual = cache.applyResourceStream(null, OBJECT, s -> {
+                int count = 0;
+                try {
+                    while (s.read() != -1) {
+                        count++;
+                    }
+                } catch (final IOException ioe) {
+                    throw new RuntimeException(ioe);
+                }
+                return count;
+            });
+            assertThat(actual).isEqualTo(expected);
+        }
+        assertThat(cache.getMissCount()).isEqualTo(1L);
+        assertThat(cache.getHitCount()).isEqualTo(2L);
+        assertThat(cache.getSize()).isEqualTo(expected);
+    }
+
+    @Test
+    void testApplyResourceBuffer() throws IOException {
+        final ResourceCache cache = new ResourceCache(1024L);
+        final ByteBuffer buffer = cache.applyResourceBuffer(null, OBJECT, b -> b);
+        assertThat(buffer.isReadOnly()).isTrue();
+        assertThat(buffer.remaining()).isEqualTo(ResourceTests.readResourceBytes(null, OBJECT).length);
+    }
+
+    @Test
+    void assertLeastRecentlyUsedEvicted() throws IOException {
+        final int objectSize = ResourceTests.readResourceBytes(null, OBJECT).length;
+        final ResourceCache cache = new ResourceCache(objectSize);
+        cache.applyResourceBuffer(null, OBJECT, b -> null);
+        cache.applyResourceBuffer(getClass().getClassLoader(), ARRAY, b -> null);
+        assertThat(cache.getEvictionCount()).isEqualTo(1L);
+        assertThat(cache.getSize()).isLessThanOrEqualTo(cache.getMaximumSize());
+    }
+
+    @Test
+    void assertThrowsIOExceptionWhenResourceNotFound() {
+        assertThrows(IOException.class, () -> new ResourceCache(1L).applyResourceBuffer(null, "none", b -> b));
+    }
+}
@@ -0,0 +1,81 @@
+package com.github.jinahya.test.lang;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ResourceIndexTest {
+
+    private static final String PREFIX = "com/github/jinahya/test/fasterxml/jackson/";
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Test
+    void testCompile() {
+        final Pattern pattern = ResourceIndex.compile("a/**/b/*.{json,jsonl}");
+        assertThat(pattern.matcher("a/b/c.json").matches()).isTrue();
+        assertThat(pattern.matcher("a/x/y/b/c.jsonl").matches()).isTrue();
+        assertThat(pattern.matcher("a/b/c/d.json").matches()).isFalse();
+        assertThat(pattern.matcher("a/b/c.xml").matches()).isFalse();
+        assertThat(ResourceIndex.compile("?.json").matcher("a.json").matches()).isTrue();
+        assertThat(ResourceIndex.compile("?.json").matcher("/.json").matches()).isFalse();
+        assertThrows(IllegalArgumentException.class, () -> ResourceIndex.compile("a{b"));
+        assertThrows(IllegalArgumentException.class, () -> ResourceIndex.compile("a}b"));
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Test
+    void assertOfReturnsSharedInstance() throws IOException {
+        assertThat(ResourceIndex.of(null)).isSameAs(ResourceIndex.of(ResourceTests.class.getClassLoader()));
+    }
+
+    @Test
+    void testGlob() throws IOException {
+        final ResourceIndex index = ResourceIndex.scan(null, null);
+        assertThat(index.names(PREFIX + "*.json").collect(Collectors.toList()))
+                .containsExactly(PREFIX + "array.json", PREFIX + "object.json");
+        assertThat(index.names("com/**/*.{json,jsonl}").collect(Collectors.toList()))
+                .contains(PREFIX + "array.json", PREFIX + "lines.jsonl", PREFIX + "object.json");
+        assertThat(index.names(PREFIX + "*.xml")).isEmpty();
+    }
+
+    @Test
+    void testGetEntry() throws IOException {
+        final ResourceIndex index = ResourceIndex.of(null);
+        final ResourceIndex.Entry entry = index.getEntry(PREFIX + "object.json");
+        assertThat(entry).isNotNull();
+        assertThat(entry.getSize()).isEqualTo(ResourceTests.readResourceBytes(null, entry.getName()).length);
+        try (InputStream stream = entry.getLocation().openStream()) {
+            assertThat(stream.read()).isEqualTo('{');
+        }
+        final ResourceIndex.Entry jarred = index.getEntry(Test.class.getName().replace('.', '/') + ".class");
+        assertThat(jarred).isNotNull();
+        assertThat(jarred.getRoot().toString()).endsWith(".jar");
+        try (InputStream stream = jarred.getLocation().openStream()) {
+            assertThat(stream.read()).isEqualTo(0xCA);
+        }
+        assertThat(index.getEntry("no/such/resource")).isNull();
+    }
+
+    @Test
+    void testApplyResourceStreams() throws IOException {
+        final long sum = ResourceIndex.of(null).applyResourceStreams(PREFIX + "*.json", s -> {
+            long count = 0L;
+            try {
+                while (s.read() != -1) {
+                    count++;
+                }
+            } catch (final IOException ioe) {
+                throw new RuntimeException(ioe);
+            }
+            return count;
+        }).mapToLong(Long::longValue).sum();
+        assertThat(sum).isEqualTo(ResourceTests.readResourceBytes(null, PREFIX + "array.json").length
+                                  + ResourceTests.readResourceBytes(null, PREFIX + "object.json").length);
+    }
+}
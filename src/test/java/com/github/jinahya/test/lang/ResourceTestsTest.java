@@ -1,12 +1,45 @@
 package com.github.jinahya.test.lang;
 
+import com.github.jinahya.test.lang.ResourceTests.Compression;
+import com.github.luben.zstd.ZstdOutputStream;
 import lombok.extern.slf4j.Slf4j;
+import net.jpountz.lz4.LZ4FrameOutputStream;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.zip.GZIPOutputStream;
 
 import static com.github.jinahya.test.lang.ResourceTests.acceptResourceStream;
+import static com.github.jinahya.test.lang.ResourceTests.applyDecompressedResourceStream;
+import static com.github.jinahya.test.lang.ResourceTests.applyResourceBuffer;
 import static com.github.jinahya.test.lang.ResourceTests.applyResourceStream;
+import static com.github.jinahya.test.lang.ResourceTests.applyResourceStreamAsync;
+import static com.github.jinahya.test.lang.ResourceTests.getDecompressionBufferSize;
+import static com.github.jinahya.test.lang.ResourceTests.setDecompressionBufferSize;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @Slf4j
@@ -25,6 +58,18 @@ public class ResourceTestsTest {
                                                  () -> null));
     }
 
+    @Test
+    public void testApplyResourceStreamAsync() {
+        assertTrue(applyResourceStreamAsync(null, "com/github/jinahya/test/lang/empty", s -> s != null, null).join());
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            assertTrue(applyResourceStreamAsync(null, "com/github/jinahya/test/lang/empty", s -> s != null, executor)
+                               .join());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     @Test
     public void testAcceptResourceStream() throws IOException {
         acceptResourceStream(null,
@@ -40,4 +85,152 @@ public class ResourceTestsTest {
                              },
                              () -> null);
     }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Test
+    public void testApplyResourceBufferWithFile() throws IOException {
+        final String name = "com/github/jinahya/test/fasterxml/jackson/object.json";
+        final byte[] expected = ResourceTests.readResourceBytes(null, name);
+        final byte[] actual = applyResourceBuffer(null, name, b -> {
+            assertTrue(b.isReadOnly());
+            final byte[] bytes = new byte[b.remaining()];
+            b.get(bytes);
+            return bytes;
+        });
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    public void testApplyResourceBufferWithJarEntry(@TempDir final Path tempDir) throws IOException {
+        final String name = "some/entry.bin";
+        final byte[] expected = new byte[65536];
+        ThreadLocalRandom.current().nextBytes(expected);
+        final Path jar = tempDir.resolve("fixtures.jar");
+        try (JarOutputStream output = new JarOutputStream(Files.newOutputStream(jar))) {
+            output.putNextEntry(new JarEntry(name));
+            output.write(expected);
+            output.closeEntry();
+        }
+        try (URLClassLoader loader = new URLClassLoader(new URL[] {jar.toUri().toURL()}, null)) {
+            for (int i = 0; i < 2; i++) {
+                final byte[] actual = applyResourceBuffer(loader, name, b -> {
+                    assertTrue(b.isDirect());
+                    final byte[] bytes = new byte[b.remaining()];
+                    b.get(bytes);
+                    return bytes;
+                });
+                assertArrayEquals(expected, actual);
+            }
+        }
+    }
+
+    @Test
+    public void assertResourceBufferGrowthCapped() throws IOException {
+        assertEquals(16384, ResourceTests.grow("some", 8192));
+        assertEquals(ResourceTests.MAX_BUFFER_CAPACITY, ResourceTests.grow("some", 1 << 30));
+        assertEquals(ResourceTests.MAX_BUFFER_CAPACITY, ResourceTests.grow("some", (1 << 30) + 1));
+        assertThrows(IOException.class, () -> ResourceTests.grow("some", ResourceTests.MAX_BUFFER_CAPACITY));
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    static byte[] compress(final Compression compression, final byte[] bytes) throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        switch (compression) {
+            case GZIP:
+                try (OutputStream stream = new GZIPOutputStream(output)) {
+                    stream.write(bytes);
+                }
+                break;
+            case ZSTD:
+                try (OutputStream stream = new ZstdOutputStream(output)) {
+                    stream.write(bytes);
+                }
+                break;
+            case LZ4:
+                try (OutputStream stream = new LZ4FrameOutputStream(output)) {
+                    stream.write(bytes);
+                }
+                break;
+            default:
+                throw new AssertionError("unknown compression: " + compression);
+        }
+        return output.toByteArray();
+    }
+
+    private static byte[] readAll(final InputStream stream) {
+        try {
+            final ByteArrayOutputStream output = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[1024];
+            for (int r; (r = stream.read(buffer)) != -1; ) {
+                output.write(buffer, 0, r);
+            }
+            return output.toByteArray();
+        } catch (final IOException ioe) {
+            throw new RuntimeException(ioe);
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(Compression.class)
+    public void testApplyDecompressedResourceStream(final Compression compression, @TempDir final Path tempDir)
+            throws IOException {
+        final byte[] expected = new byte[100000];
+        ThreadLocalRandom.current().nextBytes(expected);
+        final byte[] compressed = compress(compression, expected);
+        Files.write(tempDir.resolve("fixture.bin" + compression.getSuffix()), compressed);
+        Files.write(tempDir.resolve("sniffed.bin"), compressed);
+        try (URLClassLoader loader = new URLClassLoader(new URL[] {tempDir.toUri().toURL()}, null)) {
+            assertArrayEquals(expected, applyDecompressedResourceStream(
+                    loader, "fixture.bin" + compression.getSuffix(), ResourceTestsTest::readAll));
+            assertArrayEquals(expected, applyDecompressedResourceStream(
+                    loader, "sniffed.bin", 512, ResourceTestsTest::readAll));
+        }
+    }
+
+    @Test
+    public void testApplyDecompressedResourceStreamWithUncompressed() throws IOException {
+        final String name = "com/github/jinahya/test/fasterxml/jackson/object.json";
+        assertArrayEquals(ResourceTests.readResourceBytes(null, name),
+                          applyDecompressedResourceStream(null, name, ResourceTestsTest::readAll));
+    }
+
+    @Test
+    public void assertUncheckedIOExceptionOfFunctionPropagated() {
+        final String name = "com/github/jinahya/test/fasterxml/jackson/object.json";
+        final UncheckedIOException expected = new UncheckedIOException(new IOException("intended"));
+        final UncheckedIOException actual = assertThrows(UncheckedIOException.class, () -> {
+            applyDecompressedResourceStream(null, name, s -> {
+                throw expected;
+            });
+        });
+        assertSame(expected, actual);
+    }
+
+    @Test
+    public void assertUncompressedStreamIsNotBuffered() throws IOException {
+        final byte[] expected = "{\"name\":\"unknown\"}".getBytes(StandardCharsets.UTF_8);
+        final InputStream markable = new ByteArrayInputStream(expected);
+        assertSame(markable, ResourceTests.decompress("object.json", markable, 65536));
+        final InputStream unmarkable = new FilterInputStream(new ByteArrayInputStream(expected)) {
+            @Override
+            public boolean markSupported() {
+                return false;
+            }
+        };
+        final InputStream decompressed = ResourceTests.decompress("object.json", unmarkable, 65536);
+        assertTrue(decompressed instanceof PushbackInputStream);
+        assertArrayEquals(expected, readAll(decompressed));
+    }
+
+    @Test
+    public void testSetDecompressionBufferSize() {
+        assertThrows(IllegalArgumentException.class, () -> setDecompressionBufferSize(0));
+        final int bufferSize = getDecompressionBufferSize();
+        try {
+            setDecompressionBufferSize(1024);
+            assertEquals(1024, getDecompressionBufferSize());
+        } finally {
+            setDecompressionBufferSize(bufferSize);
+        }
+    }
 }
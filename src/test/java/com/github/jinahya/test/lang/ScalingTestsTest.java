@@ -0,0 +1,89 @@
+package com.github.jinahya.test.lang;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ScalingTestsTest {
+
+    private static final Duration WARMUP = Duration.ofMillis(20L);
+
+    private static final Duration MEASUREMENT = Duration.ofMillis(100L);
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private static final Object LOCK = new Object();
+
+    private static void contend() {
+        synchronized (LOCK) {
+            final long until = System.nanoTime() + 100_000L;
+            while (System.nanoTime() < until) {
+                Thread.yield();
+            }
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Test
+    void testThreadCounts() {
+        assertThat(ScalingTests.threadCounts(1)).containsExactly(1);
+        assertThat(ScalingTests.threadCounts(6)).containsExactly(1, 2, 4, 6);
+        assertThat(ScalingTests.threadCounts(8)).containsExactly(1, 2, 4, 8);
+        assertThrows(IllegalArgumentException.class, () -> ScalingTests.threadCounts(0));
+    }
+
+    @Test
+    void testMeasure() {
+        final LongAdder adder = new LongAdder();
+        final ScalingCurve curve = ScalingTests.measure("add", adder::increment, false, new int[] {1, 2},
+                                                        WARMUP, MEASUREMENT);
+        assertThat(curve.getOperation()).isEqualTo("add");
+        assertThat(curve.isVirtual()).isFalse();
+        assertThat(curve.getPoints()).hasSize(2).allSatisfy(p -> {
+            assertThat(p.getCount()).isPositive().isEqualTo(p.getLatencies().getCount());
+            assertThat(p.getElapsed()).isGreaterThanOrEqualTo(MEASUREMENT);
+            assertThat(p.getBlockedCount()).isNotNegative();
+        });
+        assertThat(curve.getPoints().get(1).getThreads()).isEqualTo(2);
+        assertThat(curve.getSpeedup(0)).isEqualTo(1.0d);
+        assertThat(curve.toString()).contains("add (platform threads)", "ops/s");
+    }
+
+    @Test
+    void assertContentionReported() {
+        final ScalingCurve curve = ScalingTests.measure("contend", ScalingTestsTest::contend, false, new int[] {4},
+                                                        WARMUP, MEASUREMENT);
+        final ScalingCurve.Point point = curve.getPoints().get(0);
+        assertThat(point.getBlockedCount()).isPositive();
+        assertThat(point.getHotSpots().keySet())
+                .anySatisfy(k -> assertThat(k).contains("BLOCKED", ScalingTestsTest.class.getName() + ".contend"));
+    }
+
+    @Test
+    void assertFailureOfOperationIsThrown() {
+        assertThrows(ArithmeticException.class, () -> ScalingTests.measure("fail", () -> {
+            throw new ArithmeticException();
+        }, false, new int[] {2}, WARMUP, MEASUREMENT));
+    }
+
+    @Test
+    void testMeasureWithVirtualThreads() {
+        if (ExecutorTests.virtualThreadFactory() == null) {
+            assertThrows(UnsupportedOperationException.class,
+                         () -> ScalingTests.measure("noop", () -> {
+                         }, true, new int[] {1}, WARMUP, MEASUREMENT));
+            assertThat(ScalingTests.measure("noop", () -> {
+            }, 2, WARMUP, MEASUREMENT)).hasSize(1);
+            return;
+        }
+        final List<ScalingCurve> curves = ScalingTests.measure("noop", () -> {
+        }, 2, WARMUP, MEASUREMENT);
+        assertThat(curves).hasSize(2);
+        assertThat(curves.get(1).isVirtual()).isTrue();
+        assertThat(curves.get(1).getPoints().get(0).getBlockedCount()).isEqualTo(-1L);
+    }
+}
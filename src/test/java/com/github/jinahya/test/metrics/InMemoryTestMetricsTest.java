@@ -0,0 +1,102 @@
+package com.github.jinahya.test.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.github.jinahya.test.fasterxml.jackson.JacksonTests.readValueFromResource;
+import static com.github.jinahya.test.lang.ResourceTests.applyResourceStream;
+import static com.github.jinahya.test.metrics.TestMetrics.CATEGORY_JSON;
+import static com.github.jinahya.test.metrics.TestMetrics.CATEGORY_RESOURCE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class InMemoryTestMetricsTest {
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Test
+    void testLatencyHistogram() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (long v = 1L; v <= 100000L; v++) {
+            histogram.record(v);
+        }
+        assertThat(histogram.getCount()).isEqualTo(100000L);
+        assertThat(histogram.getMax()).isEqualTo(100000L);
+        assertThat(histogram.getMean()).isCloseTo(50000.5d, within(.1d));
+        assertThat((double) histogram.getValueAtPercentile(50.0d)).isCloseTo(50000.0d, within(50000.0d / 16));
+        assertThat((double) histogram.getValueAtPercentile(99.0d)).isCloseTo(99000.0d, within(99000.0d / 16));
+        assertThat(histogram.getValueAtPercentile(100.0d)).isLessThanOrEqualTo(histogram.getMax());
+    }
+
+    @Test
+    void testIndexAndLowest() {
+        for (long v = 0L; v < 1L << 20; v++) {
+            final long lowest = LatencyHistogram.lowest(LatencyHistogram.index(v));
+            assertThat(lowest).isLessThanOrEqualTo(v);
+            assertThat(v - lowest).isLessThanOrEqualTo(Math.max(0L, v / LatencyHistogram.SUB_BUCKETS));
+        }
+        assertThat(LatencyHistogram.index(Long.MAX_VALUE)).isNotNegative();
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Test
+    void testRecord() throws IOException {
+        final InMemoryTestMetrics metrics = new InMemoryTestMetrics(false);
+        MetricsTests.setTestMetrics(metrics);
+        try {
+            for (int i = 0; i < 8; i++) {
+                readValueFromResource(null, "com/github/jinahya/test/fasterxml/jackson/array.json", String[].class);
+            }
+        } finally {
+            MetricsTests.setTestMetrics(null);
+        }
+        assertThat(MetricsTests.isEnabled()).isFalse();
+        assertThat(metrics.getEntries())
+                .anySatisfy(e -> {
+                    assertThat(e.getCategory()).isEqualTo(CATEGORY_RESOURCE);
+                    assertThat(e.getKey()).isEqualTo("com/github/jinahya/test/fasterxml/jackson/array.json");
+                    assertThat(e.getLatencies().getCount()).isEqualTo(8L);
+                    assertThat(e.getBytes()).isPositive();
+                })
+                .anySatisfy(e -> {
+                    assertThat(e.getCategory()).isEqualTo(CATEGORY_JSON);
+                    assertThat(e.getKey()).isEqualTo(String[].class.getTypeName());
+                    assertThat(e.getLatencies().getCount()).isEqualTo(8L);
+                    assertThat(e.getBytes()).isEqualTo(metrics.getEntries().stream()
+                                                               .filter(r -> CATEGORY_RESOURCE.equals(r.getCategory()))
+                                                               .mapToLong(InMemoryTestMetrics.Entry::getBytes)
+                                                               .sum());
+                });
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        metrics.dump(new PrintStream(output, true));
+        assertThat(new String(output.toByteArray(), UTF_8)).contains(CATEGORY_RESOURCE, CATEGORY_JSON);
+    }
+
+    @Test
+    void assertResourceTimeExcludesProcessing() throws IOException {
+        final AtomicLong nanos = new AtomicLong(-1L);
+        MetricsTests.setTestMetrics((category, key, bytes, elapsed) -> {
+            if (CATEGORY_RESOURCE.equals(category)) {
+                nanos.set(elapsed);
+            }
+        });
+        try {
+            applyResourceStream(null, "com/github/jinahya/test/fasterxml/jackson/array.json", s -> {
+                try {
+                    Thread.sleep(100L);
+                } catch (final InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                }
+                return null;
+            });
+        } finally {
+            MetricsTests.setTestMetrics(null);
+        }
+        assertThat(nanos.get()).isNotNegative().isLessThan(TimeUnit.MILLISECONDS.toNanos(100L));
+    }
+}
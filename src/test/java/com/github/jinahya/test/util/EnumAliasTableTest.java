@@ -0,0 +1,63 @@
+package com.github.jinahya.test.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EnumAliasTableTest {
+
+    private enum Q_ {
+        A,
+        B,
+        C,
+        D
+    }
+
+    @Test
+    void assertOfThrowsIllegalArgumentExceptionWhenWeightIsNegative() {
+        assertThrows(IllegalArgumentException.class, () -> EnumAliasTable.of(Q_.class, q -> -1.0d));
+    }
+
+    @Test
+    void assertOfThrowsIllegalArgumentExceptionWhenAllWeightsAreZero() {
+        assertThrows(IllegalArgumentException.class, () -> EnumAliasTable.of(Q_.class, q -> 0.0d));
+    }
+
+    @Test
+    void testSample() {
+        final EnumAliasTable<Q_> table = EnumAliasTable.of(Q_.class, Enum::ordinal);
+        final SplittableRandom random = new SplittableRandom(0L);
+        for (int i = 0; i < 1024; i++) {
+            assertThat(table.sample(random)).isNotEqualTo(Q_.A);
+        }
+    }
+
+    @Test
+    void testConstants() {
+        final int size = 600000;
+        final Map<Q_, Long> counts = EnumAliasTable.of(Q_.class, Enum::ordinal)
+                .constants(new SplittableRandom(0L), size)
+                .parallel()
+                .collect(groupingBy(Function.identity(), counting()));
+        assertThat(counts).doesNotContainKey(Q_.A);
+        assertThat(counts.get(Q_.B) / (double) size).isCloseTo(1.0d / 6, within(.01d));
+        assertThat(counts.get(Q_.C) / (double) size).isCloseTo(2.0d / 6, within(.01d));
+        assertThat(counts.get(Q_.D) / (double) size).isCloseTo(3.0d / 6, within(.01d));
+    }
+
+    @Test
+    void assertConstantsAreReproducible() {
+        final EnumAliasTable<Q_> table = EnumAliasTable.of(Q_.class, q -> 1.0d);
+        assertThat(table.constants(new SplittableRandom(31L), 128).collect(toList()))
+                .isEqualTo(table.constants(new SplittableRandom(31L), 128).collect(toList()));
+    }
+}
@@ -0,0 +1,138 @@
+package com.github.jinahya.test.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+
+import static com.github.jinahya.test.util.EnumCombinations.cartesianProduct;
+import static com.github.jinahya.test.util.EnumCombinations.coveringArray;
+import static com.github.jinahya.test.util.EnumCombinations.pairwise;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EnumCombinationsTest {
+
+    private enum E_ {
+    }
+
+    private enum B_ {
+        A,
+        B
+    }
+
+    private enum T_ {
+        A,
+        B,
+        C
+    }
+
+    private enum Q_ {
+        A,
+        B,
+        C,
+        D
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Asserts that specified rows cover every combination of values of every {@code t} of the columns.
+     */
+    private static void assertCovers(final List<int[]> rows, final int t, final int[] radices) {
+        assertCovers(rows, t, radices, 0, new int[t], 0);
+    }
+
+    private static void assertCovers(final List<int[]> rows, final int t, final int[] radices, final int from,
+                                     final int[] columns, final int depth) {
+        if (depth == t) {
+            final Set<List<Integer>> covered = new HashSet<>();
+            for (final int[] row : rows) {
+                assertThat(row).hasSize(radices.length);
+                final List<Integer> values = new ArrayList<>();
+                for (final int column : columns) {
+                    assertThat(row[column]).isBetween(0, radices[column] - 1);
+                    values.add(row[column]);
+                }
+                covered.add(values);
+            }
+            int expected = 1;
+            for (final int column : columns) {
+                expected *= radices[column];
+            }
+            assertThat(covered).hasSize(expected);
+            return;
+        }
+        for (int i = from; i < radices.length; i++) {
+            columns[depth] = i;
+            assertCovers(rows, t, radices, i + 1, columns, depth + 1);
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Test
+    void testCartesianProduct() {
+        final List<Enum<?>[]> product = cartesianProduct(B_.class, T_.class).collect(Collectors.toList());
+        assertThat(product).hasSize(6);
+        assertThat(product.get(0)).containsExactly(B_.A, T_.A);
+        assertThat(product.get(1)).containsExactly(B_.A, T_.B);
+        assertThat(product.get(5)).containsExactly(B_.B, T_.C);
+        assertThat(cartesianProduct(B_.class, T_.class, Q_.class).parallel().count()).isEqualTo(24L);
+        assertThat(cartesianProduct()).hasSize(1);
+    }
+
+    @Test
+    void assertEmptyEnumClassThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> cartesianProduct(B_.class, E_.class));
+        assertThrows(IllegalArgumentException.class, () -> pairwise(B_.class, E_.class));
+        assertThrows(IllegalArgumentException.class, () -> coveringArray(0, B_.class));
+    }
+
+    @Test
+    void testPairwise() {
+        final List<Enum<?>[]> rows = pairwise(Q_.class, T_.class, B_.class, T_.class, B_.class, Q_.class)
+                .collect(Collectors.toList());
+        assertThat(rows.size()).isBetween(16, 24).isLessThan(4 * 3 * 2 * 3 * 2 * 4);
+        assertThat(rows.get(0)[0]).isInstanceOf(Q_.class);
+        assertThat(rows.get(0)[2]).isInstanceOf(B_.class);
+        final Enum<?>[] first = pairwise(Q_.class, T_.class, B_.class, T_.class, B_.class, Q_.class)
+                .findFirst().orElseThrow(AssertionError::new);
+        first[0] = null;
+        assertThat(pairwise(Q_.class, T_.class, B_.class, T_.class, B_.class, Q_.class).findFirst().get()[0])
+                .isNotNull();
+    }
+
+    @Test
+    void assertStrengthNotLessThanNumberOfClassesYieldsCartesianProduct() {
+        assertThat(coveringArray(3, B_.class, T_.class)).hasSize(6);
+        assertThat(coveringArray(2, B_.class, T_.class).map(r -> r[0] + "," + r[1]).collect(Collectors.toSet()))
+                .hasSize(6);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3})
+    void testCoveringOrdinals(final int strength) {
+        final SplittableRandom random = new SplittableRandom(strength);
+        for (int i = 0; i < 16; i++) {
+            final int[] radices = random.ints(random.nextInt(1, 9), 1, 6).toArray();
+            final List<int[]> rows = EnumCombinations.coveringOrdinals(strength, radices);
+            assertCovers(rows, Math.min(strength, radices.length), radices);
+        }
+    }
+
+    @Test
+    void assertPairwiseOfManyParametersIsSmall() {
+        final int[] radices = new int[20];
+        Arrays.fill(radices, 3);
+        final List<int[]> rows = EnumCombinations.coveringOrdinals(2, radices);
+        assertCovers(rows, 2, radices);
+        assertThat(rows.size()).isLessThanOrEqualTo(36); // out of 3^20 = 3,486,784,401
+    }
+}
@@ -4,8 +4,15 @@ import org.junit.jupiter.api.Test;
 
 import java.util.EnumSet;
 import java.util.Set;
+import java.util.SplittableRandom;
 
+import static com.github.jinahya.test.util.JinahyaEnumTestUtils.fillRandomEnumConstants;
+import static com.github.jinahya.test.util.JinahyaEnumTestUtils.fillRandomEnumOrdinals;
 import static com.github.jinahya.test.util.JinahyaEnumTestUtils.getRandomEnumConstant;
+import static com.github.jinahya.test.util.JinahyaEnumTestUtils.getRandomEnumOrdinal;
+import static com.github.jinahya.test.util.JinahyaEnumTestUtils.randomEnumConstants;
+import static com.github.jinahya.test.util.JinahyaEnumTestUtils.randomEnumOrdinals;
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -42,4 +49,67 @@ class JinahyaEnumTestUtilsTest {
                     .satisfies(set::add);
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void testGetRandomEnumOrdinalWithD_() {
+        for (int i = 0; i < 128; i++) {
+            assertThat(getRandomEnumOrdinal(D_.class)).isBetween(0, D_.values().length - 1);
+        }
+    }
+
+    @Test
+    void testFillRandomEnumConstantsWithD_() {
+        assertThat(fillRandomEnumConstants(D_.class, new D_[128]))
+                .doesNotContainNull()
+                .contains(D_.values());
+    }
+
+    @Test
+    void testFillRandomEnumOrdinalsWithD_() {
+        assertThat(fillRandomEnumOrdinals(D_.class, new int[128]))
+                .contains(0, 1)
+                .doesNotContain(-1, 2);
+    }
+
+    @Test
+    void assertFillRandomEnumOrdinalsThrowsIllegalArgumentExceptionWhenThereIsNoConstants() {
+        assertThrows(IllegalArgumentException.class, () -> fillRandomEnumOrdinals(E_.class, new int[1]));
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Test
+    void testGetRandomEnumConstantWithSplittableRandom() {
+        final SplittableRandom random = new SplittableRandom(0L);
+        final SplittableRandom replay = new SplittableRandom(0L);
+        for (int i = 0; i < 128; i++) {
+            assertThat(getRandomEnumConstant(D_.class, random)).isSameAs(getRandomEnumConstant(D_.class, replay));
+        }
+    }
+
+    @Test
+    void testGetRandomEnumConstantWithExcluded() {
+        final SplittableRandom random = new SplittableRandom();
+        for (int i = 0; i < 128; i++) {
+            assertThat(getRandomEnumConstant(D_.class, random, EnumSet.of(D_.A))).isSameAs(D_.B);
+        }
+        assertThrows(IllegalArgumentException.class,
+                     () -> getRandomEnumConstant(D_.class, random, EnumSet.allOf(D_.class)));
+    }
+
+    @Test
+    void testRandomEnumConstants() {
+        assertThat(randomEnumConstants(D_.class, new SplittableRandom(1L), 1024).collect(toList()))
+                .hasSize(1024)
+                .contains(D_.values())
+                .isEqualTo(randomEnumConstants(D_.class, new SplittableRandom(1L), 1024).collect(toList()));
+        assertThat(randomEnumConstants(D_.class, new SplittableRandom(), 1024, EnumSet.of(D_.B)))
+                .containsOnly(D_.A);
+    }
+
+    @Test
+    void testRandomEnumOrdinals() {
+        assertThat(randomEnumOrdinals(D_.class, new SplittableRandom(), 1024).toArray())
+                .hasSize(1024)
+                .containsOnly(0, 1);
+    }
+}
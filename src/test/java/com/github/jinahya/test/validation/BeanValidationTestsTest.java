@@ -0,0 +1,186 @@
+package com.github.jinahya.test.validation;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.junit.jupiter.api.Test;
+
+import javax.validation.ConstraintViolationException;
+import javax.validation.GroupSequence;
+import javax.validation.Valid;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static com.github.jinahya.test.validation.BeanValidationTests.getTestValidationFactory;
+import static com.github.jinahya.test.validation.BeanValidationTests.getTestValidator;
+import static com.github.jinahya.test.validation.BeanValidationTests.isAllValid;
+import static com.github.jinahya.test.validation.BeanValidationTests.isValid;
+import static com.github.jinahya.test.validation.BeanValidationTests.prewarm;
+import static com.github.jinahya.test.validation.BeanValidationTests.prewarmPackage;
+import static com.github.jinahya.test.validation.BeanValidationTests.requireValid;
+import static com.github.jinahya.test.validation.BeanValidationTests.validate;
+import static com.github.jinahya.test.validation.BeanValidationTests.validateAll;
+import static com.github.jinahya.test.validation.BeanValidationTests.warmUpTestValidationFactory;
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BeanValidationTestsTest {
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Setter
+    @Getter
+    static class TheBean {
+
+        @NotNull
+        private String name;
+
+        @Min(0)
+        private int age;
+    }
+
+    static class TheElement {
+
+        @NotNull
+        private String name;
+    }
+
+    static class TheNestedElement {
+
+        @Min(0)
+        private int value;
+    }
+
+    static class TheContainer {
+
+        private List<@Valid TheElement> elements;
+
+        private Map<String, List<@Valid TheNestedElement>> nested;
+    }
+
+    @GroupSequence({TheBean.class}) // must include this class itself
+    static class TheMisdeclared {
+
+        @NotNull
+        private String name;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Test
+    void testWarmUpTestValidationFactory() throws ExecutionException, InterruptedException {
+        assertThat(warmUpTestValidationFactory().get()).isSameAs(getTestValidationFactory());
+    }
+
+    @Test
+    void testApplyValidator() {
+        assertThat(BeanValidationTests.<Validator>applyValidator(v -> v)).isSameAs(getTestValidator());
+        assertThat(BeanValidationTests.<Validator>applyNewValidator(v -> v)).isNotSameAs(getTestValidator());
+    }
+
+    @Test
+    void testValidate() {
+        assertThat(validate(new TheBean("name", 0))).isEmpty();
+        assertThat(validate(new TheBean(null, -1))).hasSize(2);
+    }
+
+    @Test
+    void testIsValid() {
+        assertThat(isValid(null)).isTrue();
+        assertThat(isValid(new TheBean("name", 0))).isTrue();
+        assertThat(isValid(new TheBean())).isFalse();
+    }
+
+    @Test
+    void assertRequireValidThrowsConstraintViolationExceptionWhenInvalid() {
+        assertThrows(ConstraintViolationException.class, () -> requireValid(new TheBean()));
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Test
+    void testValidateAll() {
+        final List<TheBean> beans = IntStream.range(0, 1024)
+                .mapToObj(i -> new TheBean(i % 3 == 0 ? null : "name", i % 5 == 0 ? -1 : i))
+                .collect(toList());
+        final BulkValidationResult<TheBean> result = validateAll(beans.stream(), ForkJoinPool.commonPool(), 4);
+        assertThat(result.getCount()).isEqualTo(beans.size());
+        assertThat(result.getInvalidCount()).isEqualTo(beans.stream().filter(b -> !isValid(b)).count());
+        assertThat(result.getCountsByConstraint()).containsEntry(NotNull.class, 342L).containsEntry(Min.class, 205L);
+        assertThat(result.getCountsByPropertyPath()).containsEntry("name", 342L).containsEntry("age", 205L);
+        assertThat(result.getSample()).containsOnlyKeys(0L, 3L, 5L, 6L);
+    }
+
+    @Test
+    void testIsAllValid() {
+        assertThat(isAllValid(asList(new TheBean("a", 0), null, new TheBean("b", 1)))).isTrue();
+        assertThat(isAllValid(asList(new TheBean("a", 0), new TheBean()))).isFalse();
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Test
+    void testPrewarm() {
+        assertThat(prewarm(TheBean.class, String.class)).containsOnlyKeys(TheBean.class, String.class);
+    }
+
+    @Test
+    void assertPrewarmIntrospectsCascadedContainerElements() {
+        final Set<Class<?>> visited = new HashSet<>();
+        BeanValidationTests.introspect(getTestValidator(), TheContainer.class, visited);
+        assertThat(visited).contains(TheElement.class, TheNestedElement.class);
+    }
+
+    @Test
+    void assertPrewarmSkipsClassesFailedToIntrospect() {
+        assertThat(prewarm(TheMisdeclared.class, TheBean.class)).containsOnlyKeys(TheBean.class);
+    }
+
+    @Test
+    void testPrewarmPackage() throws IOException {
+        assertThat(prewarmPackage(null, getClass().getPackage().getName(), ForkJoinPool.commonPool()))
+                .containsKeys(TheBean.class, getClass())
+                .doesNotContainKey(TheMisdeclared.class);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Test
+    void testValidatorFactoryBuilderWithFailFast() {
+        try (ValidatorFactory factory = new ValidatorFactoryBuilder().failFast(true).build()) {
+            assertThat(factory.getValidator().validate(new TheBean(null, -1))).hasSize(1);
+        }
+    }
+
+    @Test
+    void assertValidatorOfBuiltFactoryUsed() {
+        try (ValidatorFactory factory = new ValidatorFactoryBuilder().failFast(true).build()) {
+            final Validator validator = factory.getValidator();
+            assertThat(validate(validator, new TheBean(null, -1))).hasSize(1);
+            assertThat(isValid(validator, null)).isTrue();
+            assertThat(isValid(validator, new TheBean())).isFalse();
+            final ConstraintViolationException cve = assertThrows(
+                    ConstraintViolationException.class, () -> requireValid(validator, new TheBean(null, -1)));
+            assertThat(cve.getConstraintViolations()).hasSize(1);
+        }
+    }
+
+    @SuppressWarnings({"deprecation"})
+    @Test
+    void assertDeprecatedTestValidationFactoryViewsSharedFactory() {
+        assertThat(BeanValidationTests.TEST_VALIDATION_FACTORY.unwrap(ValidatorFactory.class))
+                .isSameAs(getTestValidationFactory().unwrap(ValidatorFactory.class));
+        assertThat(BeanValidationTests.TEST_VALIDATION_FACTORY.getValidator().validate(new TheBean(null, -1)))
+                .hasSize(2);
+    }
+}
@@ -0,0 +1,204 @@
+package com.github.jinahya.test.validation;
+
+import lombok.Data;
+import org.hibernate.validator.constraints.ScriptAssert;
+import org.junit.jupiter.api.Test;
+
+import javax.validation.Valid;
+import javax.validation.constraints.AssertTrue;
+import javax.validation.constraints.Email;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.Size;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.jinahya.test.validation.BeanValidationTests.isValid;
+import static com.github.jinahya.test.validation.ValidBeanGenerator.generateValid;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ValidBeanGeneratorTest {
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Data
+    static class TheChild {
+
+        @NotBlank
+        @Size(max = 4)
+        private String name;
+
+        @NotNull
+        private TimeUnit unit;
+    }
+
+    @Data
+    static class TheParent {
+
+        @NotNull
+        @Pattern(regexp = "^[A-Z]{2}-\\d{3}(-(?:x|yz))?$")
+        private String code;
+
+        @Min(-3)
+        @Max(3)
+        private int score;
+
+        @Positive
+        private long id;
+
+        @NotNull
+        @Min(100)
+        private BigInteger big;
+
+        @AssertTrue
+        private boolean agreed;
+
+        @NotNull
+        @Valid
+        private TheChild child;
+
+        @NotEmpty
+        @Size(max = 3)
+        private List<@Valid TheChild> children;
+
+        @Size(min = 2, max = 2)
+        private Set<TimeUnit> units;
+
+        private List<@NotNull @Size(max = 2) String> tags;
+
+        @NotNull
+        private List<@Max(0) Integer> nonPositives;
+
+        private String unconstrained = "initial";
+    }
+
+    @Data
+    static class TheNode {
+
+        @Valid
+        private TheNode next;
+    }
+
+    @Data
+    static class TheUnsupported {
+
+        @Email
+        private String email;
+    }
+
+    @Data
+    static class TheFarReals {
+
+        @Min(2000000)
+        private double high;
+
+        @Max(-2000000)
+        private Double low;
+
+        @Min(3000000)
+        @Max(3000000)
+        private float exact;
+    }
+
+    @Data
+    static class TheNumericString {
+
+        @NotNull
+        @Min(5)
+        private String value;
+    }
+
+    @Data
+    static class TheUnsupportedElement {
+
+        private List<@Email String> emails;
+    }
+
+    @Data
+    @ScriptAssert(lang = "javascript", script = "true")
+    static class TheClassConstrained {
+
+        @NotNull
+        private String name;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Test
+    void testPatternStringGenerator() {
+        final SplittableRandom random = new SplittableRandom(0L);
+        for (final String regex : new String[] {"[a-c]+", "a|bc|d{2,3}", "\\w\\s\\d?\\.", "(ab)*x", "[-_a\\d]{3}"}) {
+            final PatternStringGenerator generator = PatternStringGenerator.compile(regex);
+            for (int i = 0; i < 128; i++) {
+                assertThat(generator.generate(random)).matches(regex);
+            }
+        }
+        for (final String regex : new String[] {"[^a]", "a{2", "(a", "a)", "\\p{Alpha}", "(?=a)", "*"}) {
+            assertThrows(IllegalArgumentException.class, () -> PatternStringGenerator.compile(regex), regex);
+        }
+    }
+
+    @Test
+    void testGenerateValid() {
+        final SplittableRandom random = new SplittableRandom(0L);
+        for (int i = 0; i < 256; i++) {
+            final TheParent parent = generateValid(TheParent.class, random);
+            assertThat(BeanValidationTests.validate(parent)).isEmpty();
+            assertThat(parent.getUnconstrained()).isEqualTo("initial");
+        }
+    }
+
+    @Test
+    void assertSameSeedGeneratesSameBeansInParallel() {
+        final List<TheParent> sequential = generateValid(TheParent.class, 42L, 512L).collect(toList());
+        final List<TheParent> parallel = generateValid(TheParent.class, 42L, 512L).parallel().collect(toList());
+        assertThat(parallel).isEqualTo(sequential).allMatch(BeanValidationTests::isValid);
+        assertThat(generateValid(TheParent.class, 43L, 512L).collect(toList())).isNotEqualTo(sequential);
+    }
+
+    @Test
+    void assertRecursiveBeansAreCutAtMaximumDepth() {
+        TheNode node = generateValid(TheNode.class, new SplittableRandom());
+        assertThat(isValid(node)).isTrue();
+        int depth = 0;
+        for (; node.getNext() != null; node = node.getNext()) {
+            depth++;
+        }
+        assertThat(depth).isEqualTo(ValidBeanGenerator.MAXIMUM_DEPTH);
+    }
+
+    @Test
+    void assertUnsupportedConstraintThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> generateValid(TheUnsupported.class, new SplittableRandom()));
+        assertThrows(IllegalArgumentException.class, () -> generateValid(TheUnsupported.class, 0L, 1L));
+        assertThrows(IllegalArgumentException.class,
+                     () -> generateValid(TheUnsupportedElement.class, new SplittableRandom()));
+        assertThrows(IllegalArgumentException.class,
+                     () -> generateValid(TheClassConstrained.class, new SplittableRandom()));
+        assertThrows(IllegalArgumentException.class,
+                     () -> generateValid(TheNumericString.class, new SplittableRandom()));
+    }
+
+    @Test
+    void assertRealsBeyondDefaultRangeGenerated() {
+        assertThat(generateValid(TheFarReals.class, 0L, 256L).collect(toList()))
+                .allMatch(BeanValidationTests::isValid);
+    }
+
+    @Test
+    void assertElementConstraintsSatisfied() {
+        final List<TheParent> parents = generateValid(TheParent.class, 0L, 256L).collect(toList());
+        assertThat(parents).allMatch(BeanValidationTests::isValid);
+        assertThat(parents).flatExtracting(TheParent::getTags).allMatch(t -> ((String) t).length() <= 2);
+        assertThat(parents).flatExtracting(TheParent::getNonPositives).allMatch(v -> (Integer) v <= 0).isNotEmpty();
+    }
+}
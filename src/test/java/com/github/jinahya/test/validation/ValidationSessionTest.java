@@ -0,0 +1,186 @@
+package com.github.jinahya.test.validation;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.Test;
+
+import javax.validation.Constraint;
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+import javax.validation.ConstraintViolation;
+import javax.validation.Payload;
+import javax.validation.Valid;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static java.util.stream.Collectors.toSet;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ValidationSessionTest {
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Data
+    static class TheChild {
+
+        @NotNull
+        @Size(max = 3)
+        private String name;
+    }
+
+    @Data
+    static class TheParent {
+
+        @NotNull
+        private String name = "parent";
+
+        @Min(0)
+        private int age;
+
+        @Valid
+        private TheChild child = new TheChild("abc");
+
+        @Valid
+        private List<TheChild> children = new ArrayList<>();
+    }
+
+    /**
+     * A class-level constraint of {@link TheRange} which requires {@code min <= max}.
+     */
+    @Constraint(validatedBy = {TheOrderedValidator.class})
+    @Target({ElementType.TYPE})
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface TheOrdered {
+
+        String message() default "min > max";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+    }
+
+    public static class TheOrderedValidator implements ConstraintValidator<TheOrdered, TheRange> {
+
+        @Override
+        public boolean isValid(final TheRange value, final ConstraintValidatorContext context) {
+            return value == null || value.getMin() <= value.getMax();
+        }
+    }
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Data
+    @TheOrdered
+    static class TheRange {
+
+        @Min(0)
+        private int min;
+
+        private int max;
+    }
+
+    @Data
+    static class TheOwner {
+
+        @Valid
+        private TheRange range = new TheRange(0, 1);
+    }
+
+    private static Set<String> paths(final Set<? extends ConstraintViolation<?>> violations) {
+        return violations.stream().map(v -> v.getPropertyPath().toString()).collect(toSet());
+    }
+
+    /**
+     * Asserts that the session has the same violations as a full validation of its bean.
+     */
+    private static void assertConsistent(final ValidationSession<TheParent> session) {
+        assertThat(paths(session.getViolations())).isEqualTo(paths(BeanValidationTests.validate(session.getBean())));
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Test
+    void testRevalidate() {
+        final TheParent parent = new TheParent();
+        final ValidationSession<TheParent> session = new ValidationSession<>(parent);
+        assertThat(session.isValid()).isTrue();
+        parent.setName(null);
+        parent.setAge(-1);
+        assertThat(paths(session.markDirty("name").markDirty("age").revalidate())).containsOnly("name", "age");
+        assertThat(session.getDirtyPaths()).isEmpty();
+        parent.setName("parent");
+        assertThat(paths(session.markDirty("name").revalidate())).containsOnly("age");
+        parent.getChild().setName("abcd");
+        assertThat(paths(session.markDirty("child.name").revalidate())).containsOnly("age", "child.name");
+        assertConsistent(session);
+        assertThat(session.getFullValidationCount()).isEqualTo(1L);
+        assertThat(session.getPropertyValidationCount()).isEqualTo(4L);
+    }
+
+    @Test
+    void assertReplacedCascadedBeanIsRevalidatedDownward() {
+        final TheParent parent = new TheParent();
+        final ValidationSession<TheParent> session = new ValidationSession<>(parent);
+        parent.setChild(new TheChild(null));
+        assertThat(paths(session.markDirty("child").revalidate())).containsOnly("child.name");
+        parent.setChild(null);
+        assertThat(session.markDirty("child").markDirty("child.name").revalidate()).isEmpty();
+        assertConsistent(session);
+        assertThat(session.getFullValidationCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void assertContainersFallBackToFilteredFullValidation() {
+        final TheParent parent = new TheParent();
+        parent.setAge(-1);
+        final ValidationSession<TheParent> session = new ValidationSession<>(parent);
+        parent.getChildren().add(new TheChild("abcd"));
+        parent.getChildren().add(new TheChild("a"));
+        parent.setAge(0); // not marked
+        assertThat(paths(session.markDirty("children").revalidate())).containsOnly("age", "children[0].name");
+        assertThat(session.getFullValidationCount()).isEqualTo(2L);
+        parent.getChildren().get(0).setName("a");
+        assertThat(paths(session.markDirty("children[0]").revalidate())).containsOnly("age");
+        parent.getChildren().get(1).setName(null);
+        assertThat(paths(session.markDirty("children[1].name").markDirty("age").revalidate()))
+                .containsOnly("children[1].name");
+        assertConsistent(session);
+    }
+
+    @Test
+    void assertClassConstrainedOwnerOfDirtyPathIsRevalidated() {
+        final TheOwner owner = new TheOwner();
+        final ValidationSession<TheOwner> session = new ValidationSession<>(owner);
+        owner.getRange().setMin(2);
+        assertThat(paths(session.markDirty("range.min").revalidate())).containsOnly("range");
+        owner.getRange().setMin(-1);
+        assertThat(paths(session.markDirty("range.min").revalidate())).containsOnly("range.min");
+        assertThat(paths(session.getViolations())).isEqualTo(paths(BeanValidationTests.validate(owner)));
+        assertThat(session.getFullValidationCount()).isEqualTo(3L);
+    }
+
+    @Test
+    void testValidateValue() {
+        final ValidationSession<TheParent> session = new ValidationSession<>(new TheParent());
+        assertThat(paths(session.validateValue("age", -1))).containsOnly("age");
+        assertThat(session.validateValue("age", 1)).isEmpty();
+        assertThat(session.isValid()).isTrue();
+    }
+
+    @Test
+    void assertMarkDirtyThrowsWhenPathIsEmpty() {
+        final ValidationSession<TheParent> session = new ValidationSession<>(new TheParent());
+        assertThrows(NullPointerException.class, () -> session.markDirty(null));
+        assertThrows(IllegalArgumentException.class, () -> session.markDirty(""));
+    }
+}